@@ -0,0 +1,61 @@
+package com.example.unithon.bench;
+
+import com.example.unithon.domain.chat.handler.ChatMessageCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 송신 인코딩: bot.reply와 tts.chunk(Base64).
+ * mapWithBase64String은 ChatMessageCodec 도입 전 방식(Map + Base64 문자열 + ObjectMapper)이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageCodecBenchmark {
+
+    @Param({"1024", "8192"})
+    public int chunkBytes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatMessageCodec codec = new ChatMessageCodec(objectMapper);
+    private byte[] audioChunk;
+    private String reply;
+
+    @Setup
+    public void setUp() {
+        audioChunk = new byte[chunkBytes];
+        new Random(42).nextBytes(audioChunk);
+        reply = "아이스 카페 라떼 2개, 뉴욕 치즈 케이크 1개가 담겼습니다.\n\n메뉴를 더 담겠습니까? 주문을 마치겠습니까?";
+    }
+
+    @Benchmark
+    public String ttsChunk() throws Exception {
+        return codec.audioChunk("tts.chunk", audioChunk);
+    }
+
+    @Benchmark
+    public String ttsChunkMapWithBase64String() throws Exception {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "tts.chunk");
+        message.put("audioData", Base64.getEncoder().encodeToString(audioChunk));
+        return objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public String botReply() throws Exception {
+        return codec.message("bot.reply", reply);
+    }
+}
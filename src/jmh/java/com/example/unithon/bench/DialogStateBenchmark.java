@@ -0,0 +1,81 @@
+package com.example.unithon.bench;
+
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.chat.service.ChatService;
+import com.example.unithon.domain.chat.service.MacroWebhookBatchProperties;
+import com.example.unithon.domain.chat.service.MacroWebhookHttpProperties;
+import com.example.unithon.domain.chat.service.MacroWebhookService;
+import com.example.unithon.domain.intent.service.IntentRecognizer;
+import com.example.unithon.domain.menu.repository.MenuRepository;
+import com.example.unithon.domain.menu.service.MenuCatalogCache;
+import com.example.unithon.domain.menu.service.MenuService;
+import com.example.unithon.global.event.SessionEventBus;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매 턴 끝에 실행되는 buildDialogState (getDialogState로 호출). 장바구니 줄 수에 따른 비용 변화를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DialogStateBenchmark {
+
+    private static final String SESSION_ID = "bench";
+
+    @Param({"2", "20"})
+    public int cartLines;
+
+    private SessionEventBus eventBus;
+    private ChatService chatService;
+
+    @Setup
+    public void setUp() {
+        MenuCatalogFixture catalog = MenuCatalogFixture.fromDataSql();
+        IntentRecognizer intentRecognizer = new IntentRecognizer(null);
+        TurnMetrics turnMetrics = new TurnMetrics(new SimpleMeterRegistry());
+        MenuRepository menuRepository = catalog.menuRepository();
+        MenuService menuService = new MenuService(menuRepository,
+            new MenuCatalogCache(menuRepository, new SimpleMeterRegistry(), 200, 300), null,
+            intentRecognizer, turnMetrics);
+        eventBus = new SessionEventBus(new SimpleMeterRegistry(), 1, 1024, 16, 200);
+        MacroWebhookService macroWebhookService = new MacroWebhookService("http://localhost:9999", "",
+            new RestTemplateBuilder(), new MacroWebhookHttpProperties(Duration.ofSeconds(2), Duration.ofSeconds(5),
+                8, true),
+            new MacroWebhookBatchProperties(false, "", 20, Duration.ofMillis(50), 3, Duration.ofMillis(200), true),
+            new ObjectMapper(), turnMetrics, new SimpleMeterRegistry());
+        chatService = new ChatService(menuService, eventBus, macroWebhookService, intentRecognizer, turnMetrics);
+
+        // 한 번에 두 줄씩 담긴다
+        for (int i = 0; i < cartLines / 2; i++) {
+            if (i > 0) {
+                chatService.processMessage(SESSION_ID, "메뉴 추가");
+            }
+            chatService.processMessage(SESSION_ID, "아이스 카페 라떼 두 잔이랑 치즈케이크 하나");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.shutdown();
+    }
+
+    @Benchmark
+    public DialogState buildDialogState() {
+        return chatService.getDialogState(SESSION_ID);
+    }
+}
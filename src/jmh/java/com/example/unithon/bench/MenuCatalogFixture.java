@@ -0,0 +1,213 @@
+package com.example.unithon.bench;
+
+import com.example.unithon.domain.menu.dto.MenuRelevance;
+import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.entity.MenuCategory;
+import com.example.unithon.domain.menu.entity.MenuSynonym;
+import com.example.unithon.domain.menu.repository.MenuRepository;
+import com.example.unithon.domain.menu.repository.NgramRelevance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * data.sql 시드 데이터로 만든 메모리 메뉴 카탈로그.
+ * DB 없이 MenuService를 돌릴 수 있도록 저장소 인터페이스를 동적 프록시로 구현한다.
+ * DB 왕복 비용은 빠지므로 벤치마크 결과는 메뉴 검색 로직 자체의 비용이다.
+ */
+final class MenuCatalogFixture {
+
+    private static final Pattern INSERT = Pattern.compile(
+        "INSERT INTO (\\w+) \\(([^)]*)\\) VALUES(.*?);", Pattern.DOTALL);
+    private static final Pattern UPDATE = Pattern.compile(
+        "UPDATE menu SET (\\w+) = TRUE WHERE (.*?);");
+
+    private final List<Menu> menus = new ArrayList<>();
+
+    private MenuCatalogFixture() {
+    }
+
+    static MenuCatalogFixture fromDataSql() {
+        try (InputStream in = MenuCatalogFixture.class.getResourceAsStream("/data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("data.sql not found on classpath");
+            }
+            MenuCatalogFixture fixture = new MenuCatalogFixture();
+            fixture.load(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            return fixture;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    List<Menu> menus() {
+        return menus;
+    }
+
+    MenuRepository menuRepository() {
+        return repository(MenuRepository.class, (method, args) -> switch (method) {
+            case "findAll", "findAllByStoreIdWithCategoryAndSynonyms" -> menus;
+            case "searchByText" -> searchByText((String) args[1], (Integer) args[2]);
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private List<MenuRelevance> searchByText(String text, int limit) {
+        Set<String> queryNgrams = NgramRelevance.ngrams(text);
+        List<MenuRelevance> results = new ArrayList<>();
+        for (Menu menu : menus) {
+            int score = NgramRelevance.score(queryNgrams, menu.getDisplayName());
+            for (MenuSynonym synonym : menu.getSynonyms()) {
+                score = Math.max(score, NgramRelevance.score(queryNgrams, synonym.getSynonym()));
+            }
+            if (score > 0) {
+                results.add(new MenuRelevance(menu.getId(), score));
+            }
+        }
+        results.sort(Comparator.comparingDouble(MenuRelevance::score).reversed());
+        return results.subList(0, Math.min(limit, results.size()));
+    }
+
+    private void load(String sql) {
+        Map<Long, MenuCategory> categories = new HashMap<>();
+        Map<Long, Menu> menusById = new HashMap<>();
+
+        Matcher insert = INSERT.matcher(sql);
+        while (insert.find()) {
+            String table = insert.group(1);
+            for (List<String> row : tuples(insert.group(3))) {
+                switch (table) {
+                    case "menu_category" -> {
+                        MenuCategory category = new MenuCategory(row.get(1), row.get(2));
+                        set(category, "id", Long.valueOf(row.get(0)));
+                        categories.put(category.getId(), category);
+                    }
+                    case "menu" -> {
+                        Menu menu = new Menu(categories.get(Long.valueOf(row.get(1))), row.get(2), row.get(3),
+                            row.get(4), new BigDecimal(row.get(5)));
+                        set(menu, "id", Long.valueOf(row.get(0)));
+                        menusById.put(menu.getId(), menu);
+                        menus.add(menu);
+                    }
+                    case "menu_synonym" -> {
+                        Menu menu = menusById.get(Long.valueOf(row.get(0)));
+                        MenuSynonym synonym = new MenuSynonym(menu, row.get(1), Integer.valueOf(row.get(2)));
+                        menu.getSynonyms().add(synonym);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        Matcher update = UPDATE.matcher(sql);
+        while (update.find()) {
+            String field = "temperature_option".equals(update.group(1)) ? "temperatureOption" : "sizeOption";
+            String where = update.group(2);
+            for (Menu menu : menus) {
+                if (matches(menu, where)) {
+                    set(menu, field, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * data.sql에 쓰인 두 가지 조건 형태만 해석한다: id IN (...), category_id IN (...) AND id NOT IN (...)
+     */
+    private static boolean matches(Menu menu, String where) {
+        boolean matched = true;
+        for (String condition : where.split(" AND ")) {
+            Matcher in = Pattern.compile("(\\w+) (NOT )?IN \\(([^)]*)\\)").matcher(condition.trim());
+            if (!in.matches()) {
+                throw new IllegalStateException("unsupported condition: " + condition);
+            }
+            long value = "category_id".equals(in.group(1)) ? menu.getCategory().getId() : menu.getId();
+            boolean contains = false;
+            for (String item : in.group(3).split(",")) {
+                if (Long.parseLong(item.trim()) == value) {
+                    contains = true;
+                    break;
+                }
+            }
+            matched &= (in.group(2) == null) == contains;
+        }
+        return matched;
+    }
+
+    private static List<List<String>> tuples(String values) {
+        List<List<String>> rows = new ArrayList<>();
+        List<String> row = null;
+        StringBuilder token = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < values.length(); i++) {
+            char c = values.charAt(i);
+            if (quoted) {
+                if (c == '\'') {
+                    quoted = false;
+                } else {
+                    token.append(c);
+                }
+            } else if (c == '\'') {
+                quoted = true;
+            } else if (c == '(') {
+                row = new ArrayList<>();
+                token.setLength(0);
+            } else if ((c == ',' || c == ')') && row != null) {
+                row.add(token.toString().trim());
+                token.setLength(0);
+                if (c == ')') {
+                    rows.add(row);
+                    row = null;
+                }
+            } else if (c == '-' && i + 1 < values.length() && values.charAt(i + 1) == '-' && row == null) {
+                while (i < values.length() && values.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (row != null) {
+                token.append(c);
+            }
+        }
+        return rows;
+    }
+
+    private static void set(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Query {
+        Object run(String method, Object[] args);
+    }
+
+    private static <T> T repository(Class<T> type, Query query) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "(fixture)";
+                case "hashCode" -> System.identityHashCode(self);
+                case "equals" -> self == args[0];
+                default -> query.run(method.getName(), args);
+            };
+        });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.unithon.bench;
+
+import com.example.unithon.domain.intent.service.IntentRecognizer;
+import com.example.unithon.domain.intent.service.IntentResult;
+import com.example.unithon.domain.menu.entity.Stores;
+import com.example.unithon.domain.menu.repository.MenuRepository;
+import com.example.unithon.domain.menu.service.MenuCatalogCache;
+import com.example.unithon.domain.menu.service.MenuMention;
+import com.example.unithon.domain.menu.service.MenuSearchResult;
+import com.example.unithon.domain.menu.service.MenuService;
+import com.example.unithon.global.metrics.TurnMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 검색 (extractKeywords + 메뉴명/동의어 조회) 과 한 문장 다중 메뉴 탐색.
+ * 저장소는 data.sql 기반 메모리 카탈로그라 DB 왕복은 포함되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuSearchBenchmark {
+
+    @Param({"아이스 아메리카노 한 잔 주세요", "카페 라떼 두 잔이랑 치즈케이크 하나", "바닐라라떼 큰 사이즈로"})
+    public String utterance;
+
+    private MenuService menuService;
+    private IntentResult intents;
+
+    @Setup
+    public void setUp() {
+        MenuCatalogFixture catalog = MenuCatalogFixture.fromDataSql();
+        MenuRepository menuRepository = catalog.menuRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IntentRecognizer intentRecognizer = new IntentRecognizer(null);
+        menuService = new MenuService(menuRepository, new MenuCatalogCache(menuRepository, meterRegistry, 200, 300), null,
+            intentRecognizer, new TurnMetrics(meterRegistry));
+        // 대화 턴처럼 의도 인식은 검색 밖에서 한 번
+        intents = intentRecognizer.recognize(utterance);
+    }
+
+    @Benchmark
+    public MenuSearchResult searchMenu() {
+        return menuService.searchMenu(Stores.DEFAULT_ID, utterance, intents);
+    }
+
+    @Benchmark
+    public List<MenuMention> findMenuMentions() {
+        return menuService.findMenuMentions(Stores.DEFAULT_ID, utterance);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.unithon.bench;
+
+import com.example.unithon.domain.chat.parser.KoreanQuantityParser;
+import com.example.unithon.domain.chat.parser.QuantitySpan;
+import com.example.unithon.domain.intent.service.IntentRecognizer;
+import com.example.unithon.domain.intent.service.IntentResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 턴마다 실행되는 발화 해석: 수량 추출(ChatService.extractQuantity)과 의도 인식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UtteranceParsingBenchmark {
+
+    @Param({"두 잔이요", "아이스 아메리카노 스물세 잔이랑 치즈케이크 3개 주세요", "이거 말고 다른 거 추천해 주세요", "주문 완료할게요"})
+    public String utterance;
+
+    private IntentRecognizer intentRecognizer;
+
+    @Setup
+    public void setUp() {
+        intentRecognizer = new IntentRecognizer(null);
+    }
+
+    @Benchmark
+    public int extractQuantity() {
+        return KoreanQuantityParser.firstQuantity(utterance);
+    }
+
+    @Benchmark
+    public List<QuantitySpan> parseAllQuantities() {
+        return KoreanQuantityParser.parse(utterance);
+    }
+
+    @Benchmark
+    public IntentResult recognizeIntent() {
+        return intentRecognizer.recognize(utterance);
+    }
+}
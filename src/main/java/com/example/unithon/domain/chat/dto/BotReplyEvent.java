@@ -0,0 +1,16 @@
+package com.example.unithon.domain.chat.dto;
+
+import com.example.unithon.global.event.SessionEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 클라이언트에 보낼 턴 응답 문장. dialog.state 등과 같은 순서로 나가도록 이벤트 버스를 탄다
+ */
+@Getter
+@AllArgsConstructor
+public class BotReplyEvent implements SessionEvent {
+    private String sessionId;
+    private String type;
+    private String message;
+}
@@ -1,5 +1,6 @@
 package com.example.unithon.domain.chat.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Builder;
@@ -19,6 +20,9 @@ public class DialogState {
     private int cartItemCount;         // 장바구니 아이템 개수
     private int totalPrice;            // 현재 장바구니 총 금액
 
+    @JsonIgnore
+    private long cartEpoch;            // 장바구니 인스턴스 식별자 (비워지면 바뀜, delta 계산용)
+
     @Getter
     @Builder
     @AllArgsConstructor
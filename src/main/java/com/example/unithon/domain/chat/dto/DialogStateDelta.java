@@ -0,0 +1,32 @@
+package com.example.unithon.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * dialog.state.delta 페이로드.
+ * baseVersion 상태에 changed 필드를 덮어쓰고, cartRemoved 인덱스를 제거한 뒤 cartAdded를 반영하면 version 상태가 된다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class DialogStateDelta {
+    private long version;
+    private long baseVersion;
+    private Map<String, Object> changed;       // 값이 바뀐 최상위 필드만
+    private List<Integer> cartRemoved;         // 제거된 장바구니 인덱스 (내림차순)
+    private List<IndexedCartItem> cartAdded;   // 추가된 장바구니 항목
+
+    @Getter
+    @AllArgsConstructor
+    public static class IndexedCartItem {
+        private int index;
+        private DialogState.CartItem item;
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.unithon.domain.chat.dto;
 
+import com.example.unithon.global.event.SessionEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class DialogStateEvent {
+public class DialogStateEvent implements SessionEvent {
     private String sessionId;
     private DialogState dialogState;
-} 
\ No newline at end of file
+    private boolean snapshot; // sync 명령: 델타 대신 전체 상태를 보낸다
+
+    public DialogStateEvent(String sessionId, DialogState dialogState) {
+        this(sessionId, dialogState, false);
+    }
+}
\ No newline at end of file
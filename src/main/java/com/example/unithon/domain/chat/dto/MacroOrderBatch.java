@@ -0,0 +1,24 @@
+package com.example.unithon.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 매크로 웹훅 배치 전송 본문 (POST {batch-url}, gzip)
+ */
+@Getter
+@AllArgsConstructor
+public class MacroOrderBatch {
+    private String batchId;
+    private List<Entry> orders;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private String idempotencyKey; // 주문마다 한 번 정해지고 재전송해도 그대로 (수신 측 중복 제거용)
+        private int attempt;           // 1부터
+        private MacroOrderData order;
+    }
+}
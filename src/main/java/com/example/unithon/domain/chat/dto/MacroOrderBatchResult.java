@@ -0,0 +1,34 @@
+package com.example.unithon.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 매크로 웹훅 배치 응답. 주문별로 처리 결과를 돌려받아 일부만 실패해도 실패한 주문만 다시 보낸다
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MacroOrderBatchResult {
+    private List<OrderResult> results;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderResult {
+        public static final String ACCEPTED = "accepted";
+        public static final String DUPLICATE = "duplicate"; // 같은 idempotencyKey를 이미 처리함
+        public static final String REJECTED = "rejected";
+
+        private String idempotencyKey;
+        private String status;     // accepted, duplicate, rejected
+        private boolean retryable; // rejected일 때 다시 보내도 되는지
+        private String message;
+    }
+}
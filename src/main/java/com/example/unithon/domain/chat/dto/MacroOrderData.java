@@ -1,5 +1,6 @@
 package com.example.unithon.domain.chat.dto;
 
+import com.example.unithon.domain.menu.entity.Stores;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,7 +9,16 @@ import java.util.List;
 @Getter
 @AllArgsConstructor
 public class MacroOrderData {
+
+    /**
+     * 기본 매장 주문
+     */
+    public MacroOrderData(String sessionId, List<MacroOrderItem> items, int totalPrice, String timestamp) {
+        this(sessionId, Stores.DEFAULT_ID, items, totalPrice, timestamp);
+    }
+
     private String sessionId;
+    private long storeId;
     private List<MacroOrderItem> items;
     private int totalPrice;
     private String timestamp;
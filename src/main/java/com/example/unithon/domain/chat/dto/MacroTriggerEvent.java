@@ -1,11 +1,12 @@
 package com.example.unithon.domain.chat.dto;
 
+import com.example.unithon.global.event.SessionEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
-public class MacroTriggerEvent {
+public class MacroTriggerEvent implements SessionEvent {
     private String sessionId;
     private MacroOrderData orderData;
 } 
\ No newline at end of file
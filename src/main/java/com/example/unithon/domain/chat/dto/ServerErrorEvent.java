@@ -1,6 +1,7 @@
 package com.example.unithon.domain.chat.dto;
 
 import com.example.unithon.global.error.ErrorCode;
+import com.example.unithon.global.event.SessionEvent;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Builder;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 @AllArgsConstructor
-public class ServerErrorEvent {
+public class ServerErrorEvent implements SessionEvent {
     private String sessionId;
     private String errorCode;
     private String message;
@@ -18,10 +19,14 @@ public class ServerErrorEvent {
     private LocalDateTime timestamp;
     
     public static ServerErrorEvent of(String sessionId, ErrorCode errorCode) {
+        return of(sessionId, errorCode, errorCode.getMessage());
+    }
+
+    public static ServerErrorEvent of(String sessionId, ErrorCode errorCode, String message) {
         return ServerErrorEvent.builder()
             .sessionId(sessionId)
             .errorCode(errorCode.getCode())
-            .message(errorCode.getMessage())
+            .message(message)
             .retryable(errorCode.isRetryable())
             .timestamp(LocalDateTime.now())
             .build();
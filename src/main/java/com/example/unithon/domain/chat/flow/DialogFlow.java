@@ -0,0 +1,129 @@
+package com.example.unithon.domain.chat.flow;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 표 기반 대화 상태 기계.
+ * 상태별 전이(가드 + 동작)를 데이터로 선언하고 build() 때 상태 ordinal로 인덱싱한 불변 목록으로 컴파일한다.
+ * 한 턴은 현재 상태의 전이를 순서대로 보고 처음 가드를 통과한 전이 하나만 실행하며, 재귀 호출은 없다.
+ *
+ * @param <S> 대화 상태
+ * @param <C> 턴 컨텍스트 (발화, 의도, 세션 등)
+ */
+public final class DialogFlow<S extends Enum<S>, C> {
+
+    /**
+     * 전이 한 개. action은 응답 문구를 돌려주고 필요하면 컨텍스트의 상태를 바꾼다.
+     */
+    public record Transition<C>(String name, Predicate<C> guard, Function<C, String> action) {
+    }
+
+    /**
+     * 한 턴의 실행 결과
+     */
+    public record Fired<S>(String transition, S from, S to, String response) {
+    }
+
+    private final List<List<Transition<C>>> table;
+    private final Function<C, S> stateOf;
+
+    private DialogFlow(List<List<Transition<C>>> table, Function<C, S> stateOf) {
+        this.table = table;
+        this.stateOf = stateOf;
+    }
+
+    public static <S extends Enum<S>, C> Builder<S, C> builder(Class<S> stateType, Function<C, S> stateOf) {
+        return new Builder<>(stateType, stateOf);
+    }
+
+    /**
+     * 현재 상태에서 가드를 통과한 첫 전이를 실행
+     */
+    public Fired<S> fire(C context) {
+        S from = stateOf.apply(context);
+        for (Transition<C> transition : table.get(from.ordinal())) {
+            if (transition.guard().test(context)) {
+                String response = transition.action().apply(context);
+                return new Fired<>(transition.name(), from, stateOf.apply(context), response);
+            }
+        }
+        // build()에서 모든 상태에 기본 전이가 있는지 검사하므로 도달하지 않는다
+        throw new IllegalStateException("전이 없음: " + from);
+    }
+
+    /**
+     * 상태의 전이 이름 목록 (전역 전이 포함, 평가 순서대로)
+     */
+    public List<String> transitionNames(S state) {
+        List<Transition<C>> row = table.get(state.ordinal());
+        List<String> names = new ArrayList<>(row.size());
+        for (Transition<C> transition : row) {
+            names.add(transition.name());
+        }
+        return names;
+    }
+
+    public static final class Builder<S extends Enum<S>, C> {
+
+        private final Class<S> stateType;
+        private final Function<C, S> stateOf;
+        private final List<Transition<C>> global = new ArrayList<>();
+        private final Map<S, List<Transition<C>>> byState;
+        private final Set<S> withFallback;
+
+        private Builder(Class<S> stateType, Function<C, S> stateOf) {
+            this.stateType = stateType;
+            this.stateOf = stateOf;
+            this.byState = new EnumMap<>(stateType);
+            this.withFallback = EnumSet.noneOf(stateType);
+        }
+
+        /**
+         * 모든 상태에서 상태별 전이보다 먼저 검사하는 전이
+         */
+        public Builder<S, C> global(String name, Predicate<C> guard, Function<C, String> action) {
+            global.add(new Transition<>(name, guard, action));
+            return this;
+        }
+
+        public Builder<S, C> on(S state, String name, Predicate<C> guard, Function<C, String> action) {
+            if (withFallback.contains(state)) {
+                throw new IllegalStateException("기본 전이 뒤의 전이는 실행되지 않습니다: " + state + "." + name);
+            }
+            byState.computeIfAbsent(state, k -> new ArrayList<>()).add(new Transition<>(name, guard, action));
+            return this;
+        }
+
+        /**
+         * 가드 없이 항상 실행되는 상태의 기본 전이. 상태마다 마지막에 하나씩 있어야 한다.
+         */
+        public Builder<S, C> otherwise(S state, String name, Function<C, String> action) {
+            on(state, name, context -> true, action);
+            withFallback.add(state);
+            return this;
+        }
+
+        public DialogFlow<S, C> build() {
+            S[] states = stateType.getEnumConstants();
+            List<List<Transition<C>>> table = new ArrayList<>(states.length);
+            for (S state : states) {
+                if (!withFallback.contains(state)) {
+                    throw new IllegalStateException("상태에 기본 전이가 없습니다: " + state);
+                }
+                List<Transition<C>> transitions = byState.get(state);
+                List<Transition<C>> row = new ArrayList<>(global.size() + transitions.size());
+                row.addAll(global);
+                row.addAll(transitions);
+                table.add(List.copyOf(row)); // getEnumConstants()는 ordinal 순서
+            }
+            return new DialogFlow<>(List.copyOf(table), stateOf);
+        }
+    }
+}
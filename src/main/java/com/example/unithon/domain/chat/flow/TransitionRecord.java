@@ -0,0 +1,16 @@
+package com.example.unithon.domain.chat.flow;
+
+import java.time.Instant;
+
+/**
+ * 세션에서 실행된 전이 기록. 발화는 로그와 같은 기준으로 잘라내고 숫자열을 가린 것만 남긴다 (LogText.transcript).
+ */
+public record TransitionRecord(long turn, Instant at, String from, String transition, String to, String message) {
+
+    /**
+     * 로그 한 줄용 요약. 예) #2 MENU_SELECTION -(select-menu)-> ORDER_CONFIRMATION "아메리카노 한 잔"
+     */
+    public String summary() {
+        return "#" + turn + " " + from + " -(" + transition + ")-> " + to + " \"" + message + "\"";
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.unithon.domain.chat.handler;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+/**
+ * 연결 하나에서 시작한 작업들의 취소 범위.
+ * run으로 실행 중인 작업 스레드를 등록해 두고, 연결이 끊기면 cancel로 한꺼번에 인터럽트한다.
+ * Gemini(Feign), 웹훅(RestTemplate), TTS(gRPC) 호출은 인터럽트되면 진행 중인 요청을 취소하고 바로 돌아온다.
+ * 취소된 뒤 큐에서 꺼내진 작업은 실행하지 않고, 취소로 CancellationException을 던진 작업은 조용히 끝낸다.
+ */
+class CancellationScope {
+
+    private boolean cancelled;
+    private final Set<Thread> runners = new HashSet<>();
+
+    /**
+     * 현재 스레드에서 작업 실행. 이미 취소됐으면 실행하지 않고 false
+     */
+    boolean run(Runnable task) {
+        Thread thread = Thread.currentThread();
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            runners.add(thread);
+        }
+        try {
+            task.run();
+            return true;
+        } catch (CancellationException e) {
+            // 취소로 중단된 작업(Gemini 호출 등). 연결이 이미 끊겼으므로 응답 없이 끝낸다
+            if (!isCancelled()) {
+                throw e;
+            }
+            return false;
+        } finally {
+            boolean wasCancelled;
+            synchronized (this) {
+                runners.remove(thread);
+                wasCancelled = cancelled;
+            }
+            // 취소 인터럽트가 풀 스레드(다음 작업)에 남지 않게 지운다
+            if (wasCancelled) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /**
+     * taskExecutor에 넘길 작업. 실행될 때 이 범위에 등록된다
+     */
+    Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    synchronized int activeCount() {
+        return runners.size();
+    }
+
+    /**
+     * 범위 취소. 실행 중인 작업 스레드를 모두 인터럽트한다. 처음 취소할 때만 true
+     */
+    synchronized boolean cancel() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        runners.forEach(Thread::interrupt);
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+/**
+ * WebSocket 송신 메시지 JSON 인코더.
+ * 자주 보내는 고정 형태(bot.reply, transcript, tts.chunk)는 Map을 만들지 않고 스트리밍 생성기로 바로 쓰며,
+ * tts.chunk 오디오는 중간 Base64 문자열 없이 생성기가 직접 Base64로 기록한다.
+ */
+public class ChatMessageCodec {
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    public ChatMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * {"type": type, "message": message}
+     */
+    public String message(String type, String message) throws IOException {
+        return stringField(type, "message", message);
+    }
+
+    /**
+     * {"type": type, "transcript": transcript}
+     */
+    public String transcript(String type, String transcript) throws IOException {
+        return stringField(type, "transcript", transcript);
+    }
+
+    /**
+     * {"type": "tts.chunk", "audioData": base64(audioChunk)}
+     */
+    public String audioChunk(String type, byte[] audioChunk) throws IOException {
+        StringWriter out = new StringWriter(audioChunk.length * 4 / 3 + 48);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeFieldName("audioData");
+            generator.writeBinary(audioChunk);
+            generator.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    /**
+     * {"type": type}
+     */
+    public String typeOnly(String type) throws IOException {
+        StringWriter out = new StringWriter(32);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    /**
+     * 그 밖의 메시지 (주문 데이터, dialog.state 등 객체를 담는 경우)
+     */
+    public String encode(Map<String, Object> message) throws IOException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private String stringField(String type, String field, String value) throws IOException {
+        StringWriter out = new StringWriter(value == null ? 48 : value.length() + 48);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", type);
+            generator.writeStringField(field, value);
+            generator.writeEndObject();
+        }
+        return out.toString();
+    }
+}
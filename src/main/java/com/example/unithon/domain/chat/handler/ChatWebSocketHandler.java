@@ -2,21 +2,36 @@ package com.example.unithon.domain.chat.handler;
 
 import com.example.unithon.domain.chat.dto.*;
 import com.example.unithon.domain.chat.service.ChatService;
+import com.example.unithon.domain.menu.entity.Stores;
+import com.example.unithon.global.error.ErrorCode;
+import com.example.unithon.global.event.SessionEvent;
+import com.example.unithon.global.event.SessionEventBus;
+import com.example.unithon.global.event.SessionEventSubscriber;
+import com.example.unithon.global.gcp.SttAudioFormat;
 import com.example.unithon.global.gcp.SttStreamingService;
+import com.example.unithon.global.gcp.TtsAudioFormat;
+import com.example.unithon.global.gcp.TtsJob;
 import com.example.unithon.global.gcp.TtsStreamingService;
+import com.example.unithon.global.logging.LogText;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
+import com.example.unithon.global.metrics.TurnTrace;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -38,11 +53,14 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         static final String BOT_REPLY = "bot.reply";
         static final String MACRO_TRIGGER = "macro.trigger";
         static final String DIALOG_STATE = "dialog.state";
+        static final String DIALOG_STATE_DELTA = "dialog.state.delta";
         static final String SERVER_ERROR = "server.error";
         static final String TRANSCRIPT_PARTIAL = "transcript.partial";
         static final String TRANSCRIPT_FINAL = "transcript.final";
+        static final String TTS_START = "tts.start";
         static final String TTS_CHUNK = "tts.chunk";
         static final String TTS_COMPLETE = "tts.complete";
+        static final String TTS_CANCELLED = "tts.cancelled";
         static final String CONVERSATION_COMPLETE = "conversation.complete";
     }
 
@@ -55,65 +73,150 @@ public class ChatWebSocketHandler implements WebSocketHandler {
     private final SttStreamingService sttStreamingService;
     private final TtsStreamingService ttsStreamingService;
     private final TaskExecutor taskExecutor;
+    private final SessionEventBus eventBus;
+    private final SessionRecorder sessionRecorder;
+    private final TurnMetrics turnMetrics;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatMessageCodec codec = new ChatMessageCodec(objectMapper);
 
     @Value("${feature.tts:false}")
     private boolean ttsEnabled;
 
+    @Value("${dialog.state.snapshot-interval:20}")
+    private int dialogStateSnapshotInterval;
+
+    // 이벤트 버스 워커, STT 콜백, TTS 작업이 동시에 보낼 수 있으므로 송신은 세션 데코레이터로 직렬화
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
     private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, SessionState> sessionStates = new ConcurrentHashMap<>();
+    // dialogState=delta 로 연결한 세션만 등록 (그 외에는 기존처럼 전체 상태 전송)
+    private final ConcurrentHashMap<String, DialogStateSynchronizer> dialogStateSynchronizers = new ConcurrentHashMap<>();
+    // 세션별 진행 중인 턴 (client.text 또는 audio.start 때 새로 시작)
+    private final ConcurrentHashMap<String, TurnTimer> turns = new ConcurrentHashMap<>();
+    // 세션별 진행 중인 TTS 작업. 사용자가 끼어들면(barge-in) 취소
+    private final ConcurrentHashMap<String, TtsJob> ttsJobs = new ConcurrentHashMap<>();
+    // 연결 때 고른 TTS 출력 형식 (?ttsCodec=opus&ttsSampleRate=24000&ttsSpeakingRate=1.1)
+    private final ConcurrentHashMap<String, TtsAudioFormat> ttsFormats = new ConcurrentHashMap<>();
+    // 세션별 작업 취소 범위. 연결이 끊기면 진행 중인 Gemini/웹훅/TTS 호출을 끊는다
+    private final ConcurrentHashMap<String, CancellationScope> scopes = new ConcurrentHashMap<>();
 
     @Autowired
     public ChatWebSocketHandler(ChatService chatService,
                                 @Autowired(required = false) SttStreamingService sttStreamingService,
                                 @Autowired(required = false) TtsStreamingService ttsStreamingService,
-                                TaskExecutor taskExecutor) {
+                                TaskExecutor taskExecutor,
+                                SessionEventBus eventBus,
+                                SessionRecorder sessionRecorder,
+                                TurnMetrics turnMetrics) {
         this.chatService = chatService;
         this.sttStreamingService = sttStreamingService;
         this.ttsStreamingService = ttsStreamingService;
         this.taskExecutor = taskExecutor;
+        this.eventBus = eventBus;
+        this.sessionRecorder = sessionRecorder;
+        this.turnMetrics = turnMetrics;
+    }
+
+    @PostConstruct
+    void subscribeSessionEvents() {
+        eventBus.subscribe(new SessionEventSubscriber() {
+            @Override
+            public void onEvents(String sessionId, List<SessionEvent> events) {
+                handleSessionEvents(sessionId, events);
+            }
+
+            @Override
+            public void onOverflow(String sessionId) {
+                closeUnreliableSession(sessionId);
+            }
+        });
+    }
+
+    /**
+     * 이벤트를 전달하지 못한 세션은 끊는다. 클라이언트가 다시 연결하면 dialog.state 스냅샷부터 받는다
+     */
+    private void closeUnreliableSession(String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.error("세션 종료 실패 [{}]: {}", sessionId, e.getMessage());
+        }
     }
 
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    public void afterConnectionEstablished(WebSocketSession rawSession) throws Exception {
+        WebSocketSession session = new ConcurrentWebSocketSessionDecorator(rawSession, sendTimeLimitMs, sendBufferSizeLimit);
         String sessionId = session.getId();
         sessions.put(sessionId, session);
+        scopes.put(sessionId, new CancellationScope());
+        eventBus.open(sessionId);
         sessionStates.put(sessionId, SessionState.IDLE);
-        log.info("WebSocket 연결 성공: {}", sessionId);
+        sessionRecorder.start(sessionId);
+        if (isDeltaDialogStateRequested(session)) {
+            dialogStateSynchronizers.put(sessionId, new DialogStateSynchronizer(dialogStateSnapshotInterval));
+        }
+        long storeId = requestedStoreId(session);
+        chatService.bindStore(sessionId, storeId);
+        TtsAudioFormat ttsFormat = TtsAudioFormat.negotiate(queryParam(session, "ttsCodec"),
+            queryParam(session, "ttsSampleRate"), queryParam(session, "ttsSpeakingRate"));
+        ttsFormats.put(sessionId, ttsFormat);
+        if (sttStreamingService != null) {
+            // 첫 발화가 스트림 생성 지연 없이 시작되도록 인식 스트림을 미리 열어 둔다
+            sttStreamingService.prewarm(sessionId);
+        }
+        log.info("WebSocket 연결 성공: {} (매장 {}, TTS {})", sessionId, storeId, ttsFormat.codecName());
         sendMessage(session, MessageType.CONNECTION_SUCCESS, "채팅이 연결되었습니다. 주문하실 메뉴를 말씀해주세요.");
     }
 
     @Override
-    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
-        String sessionId = session.getId();
+    public void handleMessage(WebSocketSession rawSession, WebSocketMessage<?> message) throws Exception {
+        String sessionId = rawSession.getId();
+        WebSocketSession session = sessions.getOrDefault(sessionId, rawSession);
         String payload = message.getPayload().toString();
-        log.debug("수신 메시지 [{}]: {}", sessionId, payload);
+        TurnTimer currentTurn = turns.get(sessionId);
+        TurnTrace.set(sessionId, currentTurn != null ? currentTurn.turnId() : null);
+        log.debug("수신 메시지 [{}]: {}", sessionId, LogText.truncate(payload, LogText.PAYLOAD_LIMIT));
 
         try {
             JsonNode messageNode = objectMapper.readTree(payload);
             String type = messageNode.get("type").asText();
+            sessionRecorder.record(sessionId, type, messageNode);
 
             switch (type) {
                 case MessageType.CLIENT_TEXT -> handleTextMessage(session, messageNode);
                 case MessageType.CLIENT_COMMAND -> handleCommandMessage(session, messageNode);
-                case MessageType.AUDIO_START -> handleAudioStart(session);
+                case MessageType.AUDIO_START -> handleAudioStart(session, messageNode);
                 case MessageType.AUDIO_CHUNK -> handleAudioChunk(session, messageNode);
                 case MessageType.AUDIO_END -> handleAudioEnd(session);
                 default -> log.warn("알 수 없는 메시지 타입: {}", type);
             }
         } catch (Exception e) {
             log.error("메시지 처리 실패 [{}]: {}", sessionId, e.getMessage(), e);
-            sendMessage(session, MessageType.SERVER_ERROR, "메시지 처리 중 오류가 발생했습니다.");
+            // 이미 큐에 쌓인 dialog.state, bot.reply 뒤에 나가도록 버스로 보낸다
+            eventBus.publish(ServerErrorEvent.of(sessionId, ErrorCode.MESSAGE_PROCESSING_FAILED));
+        } finally {
+            TurnTrace.clear();
         }
     }
 
     private void handleTextMessage(WebSocketSession session, JsonNode messageNode) throws IOException {
         String userMessage = messageNode.get("message").asText();
         String sessionId = session.getId();
-        log.info("텍스트 메시지 처리 [{}]: {}", sessionId, userMessage);
+        cancelTts(session, MessageType.CLIENT_TEXT);
+        startTurn(sessionId);
+        log.debug("텍스트 메시지 처리 [{}]: {}", sessionId, LogText.transcript(userMessage));
 
-        String botResponse = chatService.processMessage(sessionId, userMessage);
-        sendMessage(session, MessageType.BOT_REPLY, botResponse);
+        CancellationScope scope = scope(sessionId);
+        scope.run(() -> sendBotReply(session, scope, chatService.processMessage(sessionId, userMessage)));
     }
 
     private void handleCommandMessage(WebSocketSession session, JsonNode messageNode) throws IOException {
@@ -124,49 +227,71 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         switch (action) {
             case "confirm" -> {
                 String confirmResult = chatService.confirmOrder(sessionId);
-                sendMessage(session, MessageType.MACRO_TRIGGER, confirmResult);
+                eventBus.publish(new BotReplyEvent(sessionId, MessageType.MACRO_TRIGGER, confirmResult));
             }
             case "cancel" -> {
+                cancelTts(session, "cancel");
                 chatService.cancelOrder(sessionId);
-                sendMessage(session, MessageType.BOT_REPLY, "주문이 취소되었습니다.");
+                eventBus.publish(new BotReplyEvent(sessionId, MessageType.BOT_REPLY, "주문이 취소되었습니다."));
             }
             case "repeat" -> {
                 String lastQuestion = chatService.getLastQuestion(sessionId);
-                sendMessage(session, MessageType.BOT_REPLY, lastQuestion);
+                eventBus.publish(new BotReplyEvent(sessionId, MessageType.BOT_REPLY, lastQuestion));
             }
+            case "sync" -> eventBus.publish(new DialogStateEvent(sessionId, chatService.getDialogState(sessionId), true));
             default -> log.warn("알 수 없는 명령: {}", action);
         }
     }
 
-    private void handleAudioStart(WebSocketSession session) {
+    private void handleAudioStart(WebSocketSession session, JsonNode messageNode) throws IOException {
         String sessionId = session.getId();
-        log.info("오디오 스트리밍 시작 [{}]", sessionId);
 
         if (sttStreamingService == null) {
             handleServiceDisabled(session, "STT");
             return;
         }
 
+        // {"type":"audio.start","encoding":"ogg_opus","sampleRate":48000}. 선언이 없으면 LINEAR16 16kHz
+        String encoding = messageNode.path("encoding").textValue();
+        Integer sampleRate = messageNode.hasNonNull("sampleRate") ? messageNode.get("sampleRate").asInt() : null;
+        SttAudioFormat format = SttAudioFormat.parse(encoding, sampleRate);
+        if (format == null) {
+            log.warn("지원하지 않는 오디오 형식 [{}]: {} {}", sessionId,
+                LogText.truncate(encoding, LogText.TEXT_LIMIT), sampleRate);
+            eventBus.publish(ServerErrorEvent.of(sessionId, ErrorCode.UNSUPPORTED_AUDIO_FORMAT));
+            return;
+        }
+        log.info("오디오 스트리밍 시작 [{}]: {} {}Hz", sessionId, format.encoding(), format.sampleRateHertz());
+
+        // 응답 음성이 나오는 중에 말하기 시작하면 남은 음성은 버린다
+        cancelTts(session, MessageType.AUDIO_START);
+        TurnTimer turn = startTurn(sessionId);
+        CancellationScope scope = scope(sessionId);
         sessionStates.put(sessionId, SessionState.LISTENING);
+        // STT 콜백은 gRPC 응답 스레드에서 불리므로 현재 turnId를 묶어서 넘긴다
         sttStreamingService.startStreaming(
                 sessionId,
-                (partialTranscript) -> sendTranscript(session, MessageType.TRANSCRIPT_PARTIAL, partialTranscript),
-                (finalTranscript) -> taskExecutor.execute(() -> {
+                format,
+                TurnTrace.propagate((partialTranscript) -> {
+                    if (turn.markFirstPartial()) {
+                        turnMetrics.record(Stage.STT_FIRST_PARTIAL, "ok", turn.startNanos());
+                    }
+                    sendTranscript(session, MessageType.TRANSCRIPT_PARTIAL, partialTranscript);
+                }),
+                TurnTrace.propagate((finalTranscript) -> taskExecutor.execute(scope.wrap(() -> {
+                    turnMetrics.record(Stage.STT_FINAL, finalTranscript.isBlank() ? "empty" : "ok", turn.startNanos());
                     if (finalTranscript.isBlank()) {
                         log.warn("STT 최종 결과가 비어있어 처리를 건너뜁니다. [{}]", sessionId);
                         return;
                     }
                     sessionStates.put(sessionId, SessionState.PROCESSING);
+                    sessionRecorder.recordTranscript(sessionId, finalTranscript);
                     sendTranscript(session, MessageType.TRANSCRIPT_FINAL, finalTranscript);
 
                     // 이 블록은 이제 별도의 스레드에서 실행됩니다.
                     String botResponse = chatService.processMessage(sessionId, finalTranscript);
-                    try {
-                        sendMessage(session, MessageType.BOT_REPLY, botResponse);
-                    } catch (IOException e) {
-                        log.error("봇 응답 전송 실패 [{}]: {}", sessionId, e.getMessage());
-                    }
-                })
+                    sendBotReply(session, scope, botResponse);
+                })))
         );
     }
 
@@ -180,6 +305,10 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         try {
             String audioDataBase64 = messageNode.get("audioData").asText();
             byte[] audioData = Base64.getDecoder().decode(audioDataBase64);
+            TurnTimer turn = turns.get(sessionId);
+            if (turn != null) {
+                turn.addAudioBytes(audioData.length);
+            }
             if (sttStreamingService != null) {
                 sttStreamingService.sendAudioChunk(sessionId, audioData);
             }
@@ -192,7 +321,12 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         String sessionId = session.getId();
         log.info("오디오 스트리밍 종료 [{}]", sessionId);
 
-        sessionStates.put(sessionId, SessionState.PROCESSING);
+        boolean wasListening = sessionStates.put(sessionId, SessionState.PROCESSING) == SessionState.LISTENING;
+        TurnTimer turn = turns.get(sessionId);
+        if (wasListening && turn != null) {
+            turnMetrics.record(Stage.AUDIO_INGEST, "ok", turn.startNanos());
+            turnMetrics.audioIngested(turn.audioBytes());
+        }
 
         if (sttStreamingService != null) {
             sttStreamingService.endAudioStream(sessionId);
@@ -210,6 +344,23 @@ public class ChatWebSocketHandler implements WebSocketHandler {
 
         sessionStates.remove(sessionId);
         sessions.remove(sessionId);
+        dialogStateSynchronizers.remove(sessionId);
+        turns.remove(sessionId);
+        ttsFormats.remove(sessionId);
+        TtsJob ttsJob = ttsJobs.remove(sessionId);
+        if (ttsJob != null) {
+            ttsJob.cancel();
+        }
+        CancellationScope scope = scopes.remove(sessionId);
+        if (scope != null) {
+            int active = scope.activeCount();
+            scope.cancel();
+            if (active > 0) {
+                log.info("진행 중인 작업 {}개 취소 [{}]", active, sessionId);
+            }
+        }
+        eventBus.close(sessionId);
+        sessionRecorder.finish(sessionId);
 
         try {
             if (sttStreamingService != null) {
@@ -220,7 +371,7 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         }
 
         try {
-            chatService.clearSession(sessionId);
+            chatService.closeSession(sessionId);
         } catch (Exception e) {
             log.error("채팅 세션 정리 실패 [{}]: {}", sessionId, e.getMessage());
         }
@@ -230,11 +381,7 @@ public class ChatWebSocketHandler implements WebSocketHandler {
 
     private void sendMessage(WebSocketSession session, String type, String message) throws IOException {
         if (session.isOpen()) {
-            Map<String, Object> messageData = new HashMap<>();
-            messageData.put("type", type);
-            messageData.put("message", message);
-            String jsonMessage = objectMapper.writeValueAsString(messageData);
-            session.sendMessage(new TextMessage(jsonMessage));
+            session.sendMessage(new TextMessage(codec.message(type, message)));
 
             if (ttsEnabled && MessageType.BOT_REPLY.equals(type)) {
                 startTtsSynthesis(session, message);
@@ -242,14 +389,17 @@ public class ChatWebSocketHandler implements WebSocketHandler {
         }
     }
 
+    private void sendBotReply(WebSocketSession session, CancellationScope scope, String botResponse) {
+        if (scope.isCancelled()) {
+            return;
+        }
+        eventBus.publish(new BotReplyEvent(session.getId(), MessageType.BOT_REPLY, botResponse));
+    }
+
     private void sendTranscript(WebSocketSession session, String type, String transcript) {
         if (session.isOpen()) {
             try {
-                Map<String, Object> message = new HashMap<>();
-                message.put("type", type);
-                message.put("transcript", transcript);
-                String jsonMessage = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(jsonMessage));
+                session.sendMessage(new TextMessage(codec.transcript(type, transcript)));
             } catch (IOException e) {
                 log.error("Transcript 전송 실패 [{}]: {}", session.getId(), e.getMessage());
             }
@@ -263,34 +413,87 @@ public class ChatWebSocketHandler implements WebSocketHandler {
             return;
         }
 
-        taskExecutor.execute(() -> ttsStreamingService.synthesizeAndStream(
-                sessionId, text,
-                (audioChunk) -> sendTtsChunk(session, audioChunk),
-                (ignored) -> sendTtsComplete(session)
-        ));
+        // 다음 턴이 시작돼도 이 응답의 첫 청크는 이 턴 기준으로 잰다
+        TurnTimer turn = turns.get(sessionId);
+        TtsAudioFormat format = ttsFormats.getOrDefault(sessionId, TtsAudioFormat.DEFAULT);
+        TtsJob job = new TtsJob();
+        TtsJob previous = ttsJobs.put(sessionId, job);
+        if (previous != null) {
+            // 새 응답이 이전 응답 음성을 대신한다
+            previous.cancel();
+        }
+        taskExecutor.execute(scope(sessionId).wrap(() -> {
+            try {
+                ttsStreamingService.synthesizeAndStream(
+                        sessionId, text, format, job,
+                        (audioChunk) -> sendTtsChunk(session, job, turn, format, audioChunk),
+                        (ignored) -> sendTtsComplete(session, job)
+                );
+            } finally {
+                ttsJobs.remove(sessionId, job);
+            }
+        }));
     }
 
-    private void sendTtsChunk(WebSocketSession session, byte[] audioChunk) {
+    /**
+     * 진행 중인 TTS 작업을 멈추고 클라이언트에 tts.cancelled를 보내 재생 버퍼를 비우게 한다
+     */
+    private void cancelTts(WebSocketSession session, String reason) {
+        TtsJob job = ttsJobs.remove(session.getId());
+        if (job == null) {
+            return;
+        }
+        // 취소와 청크 전송은 job 잠금으로 묶여 있어 tts.cancelled 뒤에 청크가 나가지 않는다
+        synchronized (job) {
+            if (!job.cancel()) {
+                return;
+            }
+        }
+        log.info("TTS 취소 [{}]: {}", session.getId(), reason);
         if (session.isOpen()) {
             try {
-                Map<String, Object> message = new HashMap<>();
-                message.put("type", MessageType.TTS_CHUNK);
-                message.put("audioData", Base64.getEncoder().encodeToString(audioChunk));
-                String jsonMessage = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(jsonMessage));
+                session.sendMessage(new TextMessage(codec.encode(Map.of(
+                        "type", MessageType.TTS_CANCELLED,
+                        "reason", reason))));
+            } catch (IOException e) {
+                log.error("TTS 취소 전송 실패 [{}]: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void sendTtsChunk(WebSocketSession session, TtsJob job, TurnTimer turn, TtsAudioFormat format,
+                              byte[] audioChunk) {
+        synchronized (job) {
+            if (job.isCancelled() || !session.isOpen()) {
+                return;
+            }
+            try {
+                if (job.markStarted()) {
+                    // 첫 청크 앞에 형식을 알려 클라이언트가 맞는 디코더로 바로 재생을 시작하게 한다
+                    session.sendMessage(new TextMessage(codec.encode(Map.of(
+                            "type", MessageType.TTS_START,
+                            "codec", format.codecName(),
+                            "mimeType", format.mimeType(),
+                            "sampleRateHertz", format.sampleRateHertz(),
+                            "speakingRate", format.speakingRate()))));
+                }
+                session.sendMessage(new TextMessage(codec.audioChunk(MessageType.TTS_CHUNK, audioChunk)));
+                if (turn != null && turn.markFirstTtsChunk()) {
+                    turnMetrics.record(Stage.TTS_FIRST_CHUNK, "ok", turn.startNanos());
+                }
             } catch (IOException e) {
                 log.error("TTS 청크 전송 실패 [{}]: {}", session.getId(), e.getMessage());
             }
         }
     }
 
-    private void sendTtsComplete(WebSocketSession session) {
-        if (session.isOpen()) {
+    private void sendTtsComplete(WebSocketSession session, TtsJob job) {
+        synchronized (job) {
+            if (job.isCancelled() || !session.isOpen()) {
+                return;
+            }
             try {
-                Map<String, Object> message = new HashMap<>();
-                message.put("type", MessageType.TTS_COMPLETE);
-                String jsonMessage = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(jsonMessage));
+                session.sendMessage(new TextMessage(codec.typeOnly(MessageType.TTS_COMPLETE)));
             } catch (IOException e) {
                 log.error("TTS 완료 전송 실패 [{}]: {}", session.getId(), e.getMessage());
             }
@@ -299,16 +502,74 @@ public class ChatWebSocketHandler implements WebSocketHandler {
 
     private void handleServiceDisabled(WebSocketSession session, String serviceName) {
         log.warn("{} 서비스가 비활성화됨 [{}]", serviceName, session.getId());
-        try {
-            sendMessage(session, MessageType.SERVER_ERROR, serviceName + " 서비스가 비활성화되어 있습니다.");
-        } catch (IOException e) {
-            log.error("에러 메시지 전송 실패 [{}]: {}", session.getId(), e.getMessage());
+        eventBus.publish(ServerErrorEvent.of(session.getId(), ErrorCode.SERVICE_DISABLED,
+            serviceName + " " + ErrorCode.SERVICE_DISABLED.getMessage()));
+    }
+
+    /**
+     * 이벤트 버스 워커 스레드에서 세션별 배치로 호출된다. 턴 응답 프레임은 모두 이 경로로 발행 순서대로 나간다.
+     * dialog.state는 마지막 상태와의 차이만 의미가 있으므로 다음 응답 문장 전까지 더 새 것이 있으면 건너뛴다.
+     */
+    void handleSessionEvents(String sessionId, List<SessionEvent> events) {
+        boolean[] superseded = supersededDialogStates(events);
+        for (int i = 0; i < events.size(); i++) {
+            SessionEvent event = events.get(i);
+            if (event instanceof DialogStateEvent dialogStateEvent) {
+                if (dialogStateEvent.isSnapshot()) {
+                    // 건너뛰는 경우에도 뒤따르는 상태가 전체 상태로 나가야 한다
+                    DialogStateSynchronizer synchronizer = dialogStateSynchronizers.get(sessionId);
+                    if (synchronizer != null) {
+                        synchronizer.requestSnapshot();
+                    }
+                }
+                if (!superseded[i]) {
+                    sendDialogState(sessionId, dialogStateEvent.getDialogState());
+                }
+            } else if (event instanceof BotReplyEvent botReplyEvent) {
+                sendReply(sessionId, botReplyEvent);
+            } else if (event instanceof MacroTriggerEvent macroTriggerEvent) {
+                sendMacroTrigger(sessionId, macroTriggerEvent.getOrderData());
+            } else if (event instanceof ServerErrorEvent serverErrorEvent) {
+                sendServerError(sessionId, serverErrorEvent);
+            } else {
+                log.warn("알 수 없는 세션 이벤트 [{}]: {}", sessionId, event.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * 같은 응답 문장 앞에서 더 새 dialog.state에 가려지는 dialog.state 위치를 표시한다
+     */
+    static boolean[] supersededDialogStates(List<SessionEvent> events) {
+        boolean[] superseded = new boolean[events.size()];
+        boolean newerState = false;
+        for (int i = events.size() - 1; i >= 0; i--) {
+            SessionEvent event = events.get(i);
+            if (event instanceof DialogStateEvent) {
+                superseded[i] = newerState;
+                newerState = true;
+            } else if (event instanceof BotReplyEvent) {
+                newerState = false;
+            }
         }
+        return superseded;
     }
 
-    @EventListener
-    public void handleMacroTriggerEvent(MacroTriggerEvent event) {
-        sendMacroTrigger(event.getSessionId(), event.getOrderData());
+    private void sendReply(String sessionId, BotReplyEvent replyEvent) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        // 응답에 이어지는 TTS 로그도 해당 턴으로 묶는다
+        TurnTimer turn = turns.get(sessionId);
+        TurnTrace.set(sessionId, turn != null ? turn.turnId() : null);
+        try {
+            sendMessage(session, replyEvent.getType(), replyEvent.getMessage());
+        } catch (IOException e) {
+            log.error("봇 응답 전송 실패 [{}]: {}", sessionId, e.getMessage());
+        } finally {
+            TurnTrace.clear();
+        }
     }
 
     public void sendMacroTrigger(String sessionId, MacroOrderData orderData) {
@@ -318,44 +579,41 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                 Map<String, Object> eventData = new HashMap<>();
                 eventData.put("type", MessageType.MACRO_TRIGGER);
                 eventData.put("orderData", orderData);
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(eventData)));
-                log.info("macro.trigger 이벤트 발송 완료 [{}]", sessionId);
-
-                Map<String, Object> completeEvent = new HashMap<>();
-                completeEvent.put("type", MessageType.CONVERSATION_COMPLETE);
-                completeEvent.put("message", "주문이 완료되었습니다. 대화를 종료합니다.");
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(completeEvent)));
-                log.info("conversation.complete 이벤트 발송 완료 [{}]", sessionId);
+                session.sendMessage(new TextMessage(codec.encode(eventData)));
+                log.debug("macro.trigger 이벤트 발송 완료 [{}]", sessionId);
+
+                session.sendMessage(new TextMessage(
+                    codec.message(MessageType.CONVERSATION_COMPLETE, "주문이 완료되었습니다. 대화를 종료합니다.")));
+                log.debug("conversation.complete 이벤트 발송 완료 [{}]", sessionId);
             } catch (Exception e) {
                 log.error("macro.trigger 이벤트 발송 실패 [{}]: {}", sessionId, e.getMessage(), e);
             }
         }
     }
 
-    @EventListener
-    public void handleDialogStateEvent(DialogStateEvent event) {
-        sendDialogState(event.getSessionId(), event.getDialogState());
-    }
-
     public void sendDialogState(String sessionId, DialogState dialogState) {
         WebSocketSession session = sessions.get(sessionId);
         if (session != null && session.isOpen()) {
             try {
-                Map<String, Object> stateMessage = new HashMap<>();
-                stateMessage.put("type", MessageType.DIALOG_STATE);
-                stateMessage.put("state", dialogState);
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(stateMessage)));
+                Map<String, Object> stateMessage;
+                DialogStateSynchronizer synchronizer = dialogStateSynchronizers.get(sessionId);
+                if (synchronizer != null) {
+                    stateMessage = synchronizer.encode(dialogState);
+                    if (stateMessage == null) {
+                        return; // 바뀐 내용 없음
+                    }
+                } else {
+                    stateMessage = new HashMap<>();
+                    stateMessage.put("type", MessageType.DIALOG_STATE);
+                    stateMessage.put("state", dialogState);
+                }
+                session.sendMessage(new TextMessage(codec.encode(stateMessage)));
             } catch (Exception e) {
                 log.error("dialog.state 발송 실패 [{}]: {}", sessionId, e.getMessage(), e);
             }
         }
     }
 
-    @EventListener
-    public void handleServerErrorEvent(ServerErrorEvent event) {
-        sendServerError(event.getSessionId(), event);
-    }
-
     public void sendServerError(String sessionId, ServerErrorEvent errorEvent) {
         WebSocketSession session = sessions.get(sessionId);
         if (session != null && session.isOpen()) {
@@ -365,13 +623,65 @@ public class ChatWebSocketHandler implements WebSocketHandler {
                 errorMessage.put("errorCode", errorEvent.getErrorCode());
                 errorMessage.put("message", errorEvent.getMessage());
                 errorMessage.put("retryable", errorEvent.isRetryable());
-                session.sendMessage(new TextMessage(objectMapper.writeValueAsString(errorMessage)));
+                session.sendMessage(new TextMessage(codec.encode(errorMessage)));
             } catch (Exception e) {
                 log.error("server.error 발송 실패 [{}]: {}", sessionId, e.getMessage(), e);
             }
         }
     }
 
+    /**
+     * 세션 작업 취소 범위. 이미 끊긴 세션이면 취소된 범위를 돌려줘 새 작업이 시작되지 않는다
+     */
+    private CancellationScope scope(String sessionId) {
+        CancellationScope scope = scopes.get(sessionId);
+        if (scope == null) {
+            scope = new CancellationScope();
+            scope.cancel();
+        }
+        return scope;
+    }
+
+    /**
+     * 새 턴 시작. 이후 이 세션의 로그에는 같은 turnId가 찍힌다
+     */
+    private TurnTimer startTurn(String sessionId) {
+        TurnTimer turn = new TurnTimer(TurnTrace.newTurnId());
+        turns.put(sessionId, turn);
+        TurnTrace.set(sessionId, turn.turnId());
+        return turn;
+    }
+
+    private boolean isDeltaDialogStateRequested(WebSocketSession session) {
+        return "delta".equalsIgnoreCase(queryParam(session, "dialogState"));
+    }
+
+    /**
+     * 연결 URL의 쿼리 파라미터. 없으면 null
+     */
+    private String queryParam(WebSocketSession session, String name) {
+        if (session.getUri() == null) {
+            return null;
+        }
+        return UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst(name);
+    }
+
+    /**
+     * 연결 URL의 storeId (?storeId=12). 없거나 숫자가 아니면 기본 매장
+     */
+    private long requestedStoreId(WebSocketSession session) {
+        String storeId = queryParam(session, "storeId");
+        if (storeId == null || storeId.isBlank()) {
+            return Stores.DEFAULT_ID;
+        }
+        try {
+            return Long.parseLong(storeId.trim());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 storeId [{}]: {} - 기본 매장으로 연결", session.getId(), LogText.truncate(storeId, LogText.TEXT_LIMIT));
+            return Stores.DEFAULT_ID;
+        }
+    }
+
     @Override
     public boolean supportsPartialMessages() {
         return false;
@@ -0,0 +1,132 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.chat.dto.DialogStateDelta;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 세션별 dialog.state 버전 관리.
+ * 마지막으로 보낸 상태와 비교해 바뀐 필드와 추가/제거된 장바구니 항목만 담은 delta를 만들고,
+ * 첫 전송/재동기화 요청/snapshotInterval 회 delta 이후에는 전체 스냅샷을 보낸다.
+ */
+class DialogStateSynchronizer {
+
+    static final String SNAPSHOT_TYPE = "dialog.state";
+    static final String DELTA_TYPE = "dialog.state.delta";
+
+    private final int snapshotInterval;
+
+    private DialogState lastSent;
+    private long version;
+    private int deltasSinceSnapshot;
+    private boolean snapshotRequested = true;
+
+    DialogStateSynchronizer(int snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 다음 전송 때 전체 스냅샷을 보내도록 표시 (클라이언트 sync 명령)
+     */
+    synchronized void requestSnapshot() {
+        snapshotRequested = true;
+    }
+
+    /**
+     * 전송할 메시지 생성. 바뀐 내용이 없으면 null
+     */
+    synchronized Map<String, Object> encode(DialogState state) {
+        if (snapshotRequested || lastSent == null || deltasSinceSnapshot >= snapshotInterval) {
+            return snapshot(state);
+        }
+
+        Map<String, Object> changed = diffFields(lastSent, state);
+        List<Integer> cartRemoved = Collections.emptyList();
+        List<DialogStateDelta.IndexedCartItem> cartAdded;
+
+        List<DialogState.CartItem> previousCart = lastSent.getCart();
+        List<DialogState.CartItem> currentCart = state.getCart();
+        if (lastSent.getCartEpoch() == state.getCartEpoch()) {
+            // 같은 장바구니는 추가만 일어나므로 이전 길이 이후만 보내면 된다
+            cartAdded = indexed(currentCart, previousCart.size());
+        } else {
+            cartRemoved = new ArrayList<>(previousCart.size());
+            for (int i = previousCart.size() - 1; i >= 0; i--) {
+                cartRemoved.add(i);
+            }
+            cartAdded = indexed(currentCart, 0);
+        }
+
+        if (changed.isEmpty() && cartRemoved.isEmpty() && cartAdded.isEmpty()) {
+            return null;
+        }
+
+        long baseVersion = version;
+        version++;
+        deltasSinceSnapshot++;
+        lastSent = state;
+
+        DialogStateDelta delta = DialogStateDelta.builder()
+            .version(version)
+            .baseVersion(baseVersion)
+            .changed(changed)
+            .cartRemoved(cartRemoved)
+            .cartAdded(cartAdded)
+            .build();
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", DELTA_TYPE);
+        message.put("delta", delta);
+        return message;
+    }
+
+    private Map<String, Object> snapshot(DialogState state) {
+        version++;
+        deltasSinceSnapshot = 0;
+        snapshotRequested = false;
+        lastSent = state;
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", SNAPSHOT_TYPE);
+        message.put("version", version);
+        message.put("snapshot", true);
+        message.put("state", state);
+        return message;
+    }
+
+    private static Map<String, Object> diffFields(DialogState before, DialogState after) {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        putIfChanged(changed, "state", before.getState(), after.getState());
+        putIfChanged(changed, "currentMenu", before.getCurrentMenu(), after.getCurrentMenu());
+        putIfChanged(changed, "selectedOptions", before.getSelectedOptions(), after.getSelectedOptions());
+        putIfChanged(changed, "nextAction", before.getNextAction(), after.getNextAction());
+        putIfChanged(changed, "cartItemCount", before.getCartItemCount(), after.getCartItemCount());
+        putIfChanged(changed, "totalPrice", before.getTotalPrice(), after.getTotalPrice());
+        return changed;
+    }
+
+    private static void putIfChanged(Map<String, Object> changed, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            // null로 바뀐 필드도 클라이언트가 지울 수 있도록 키는 유지
+            changed.put(field, after);
+        }
+    }
+
+    private static List<DialogStateDelta.IndexedCartItem> indexed(List<DialogState.CartItem> cart, int from) {
+        if (from >= cart.size()) {
+            return Collections.emptyList();
+        }
+        List<DialogStateDelta.IndexedCartItem> items = new ArrayList<>(cart.size() - from);
+        for (int i = from; i < cart.size(); i++) {
+            items.add(new DialogStateDelta.IndexedCartItem(i, cart.get(i)));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 세션 녹화기 (부하 테스트 재생용).
+ * 세션마다 JSONL 파일 하나에 수신 프레임(client.text, client.command, audio.*)과 최종 인식 결과를
+ * 연결 시점 기준 경과 시간(t, ms)과 함께 남긴다. 기본은 꺼져 있으며 녹화 실패가 대화 처리에 영향을 주지 않는다.
+ */
+@Component
+@Slf4j
+public class SessionRecorder {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean enabled;
+    private final boolean includeAudio;
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<String, Recording> recordings = new ConcurrentHashMap<>();
+
+    public SessionRecorder(@Value("${chat.recording.enabled:false}") boolean enabled,
+                           @Value("${chat.recording.include-audio:false}") boolean includeAudio,
+                           @Value("${chat.recording.dir:recordings}") String directory) {
+        this.enabled = enabled;
+        this.includeAudio = includeAudio;
+        this.directory = Paths.get(directory);
+    }
+
+    public void start(String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(LocalDateTime.now().format(FILE_TIME) + "-" + sessionId + ".jsonl");
+            recordings.put(sessionId, new Recording(Files.newBufferedWriter(file, StandardCharsets.UTF_8)));
+            log.info("세션 녹화 시작 [{}]: {}", sessionId, file);
+        } catch (IOException e) {
+            log.warn("세션 녹화 시작 실패 [{}]: {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 수신 프레임 기록. 오디오 데이터는 include-audio일 때만 남기고 그 외에는 바이트 수만 남긴다.
+     */
+    public void record(String sessionId, String type, JsonNode frame) {
+        Recording recording = recordings.get(sessionId);
+        if (recording == null) {
+            return;
+        }
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("type", type);
+        for (Map.Entry<String, JsonNode> field : frame.properties()) {
+            if ("type".equals(field.getKey())) {
+                continue;
+            }
+            if ("audioData".equals(field.getKey()) && !includeAudio) {
+                line.put("audioBytes", field.getValue().asText().length() * 3 / 4);
+                continue;
+            }
+            line.set(field.getKey(), field.getValue());
+        }
+        recording.write(line);
+    }
+
+    /**
+     * STT 최종 결과 기록. 오디오 없이 재생할 때 이 문장을 발화 내용으로 쓴다.
+     */
+    public void recordTranscript(String sessionId, String transcript) {
+        Recording recording = recordings.get(sessionId);
+        if (recording == null) {
+            return;
+        }
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("type", "transcript.final");
+        line.put("transcript", transcript);
+        recording.write(line);
+    }
+
+    public void finish(String sessionId) {
+        Recording recording = recordings.remove(sessionId);
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        recordings.values().forEach(Recording::close);
+        recordings.clear();
+    }
+
+    private final class Recording {
+
+        private final BufferedWriter writer;
+        private final long startedAt = System.nanoTime();
+
+        private Recording(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        synchronized void write(ObjectNode line) {
+            try {
+                ObjectNode timed = objectMapper.createObjectNode();
+                timed.put("t", (System.nanoTime() - startedAt) / 1_000_000);
+                timed.setAll(line);
+                writer.write(objectMapper.writeValueAsString(timed));
+                writer.newLine();
+            } catch (IOException e) {
+                log.warn("세션 녹화 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        synchronized void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("세션 녹화 파일 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.unithon.domain.chat.handler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 턴 하나의 시작 시각과 단계 도달 여부.
+ * STT 콜백, taskExecutor, TTS 작업 스레드에서 함께 접근하므로 원자 변수만 쓴다.
+ */
+class TurnTimer {
+
+    private final String turnId;
+    private final long startNanos;
+    private final AtomicLong audioBytes = new AtomicLong();
+    private final AtomicBoolean firstPartialSeen = new AtomicBoolean();
+    private final AtomicBoolean firstTtsChunkSent = new AtomicBoolean();
+
+    TurnTimer(String turnId) {
+        this.turnId = turnId;
+        this.startNanos = System.nanoTime();
+    }
+
+    String turnId() {
+        return turnId;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    void addAudioBytes(int bytes) {
+        audioBytes.addAndGet(bytes);
+    }
+
+    long audioBytes() {
+        return audioBytes.get();
+    }
+
+    /**
+     * 첫 중간 결과일 때만 true
+     */
+    boolean markFirstPartial() {
+        return firstPartialSeen.compareAndSet(false, true);
+    }
+
+    /**
+     * 첫 TTS 청크일 때만 true
+     */
+    boolean markFirstTtsChunk() {
+        return firstTtsChunkSent.compareAndSet(false, true);
+    }
+}
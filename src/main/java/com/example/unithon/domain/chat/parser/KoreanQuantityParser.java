@@ -0,0 +1,259 @@
+package com.example.unithon.domain.chat.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한국어 수량 표현 파서.
+ * 고유어(하나, 두 잔, 스물세 개), 한자어(이십 잔, 백 개), 아라비아 숫자(2잔)와 단위명사(잔, 개, 조각, 세트 등)를
+ * 정규식 없이 한 번만 훑어서 찾는다. "2잔이랑 3개"처럼 수량이 여러 개면 등장 순서대로 모두 돌려준다.
+ * 한/두/세/네 같은 관형사형과 한자어는 단위명사가 뒤따를 때만 수량으로 인정해 "이거", "세트", "오렌지" 같은 오탐을 막는다.
+ */
+public final class KoreanQuantityParser {
+
+    private static final int MAX_QUANTITY = 999;
+    private static final int MAX_DIGITS = 3;
+
+    private enum Kind { NATIVE_UNIT, NATIVE_TEN, SINO_DIGIT, SINO_TEN, SINO_HUNDRED }
+
+    private record Lexeme(String text, int value, Kind kind, boolean needsCounter) {
+    }
+
+    // 긴 표현부터 검사하도록 길이 내림차순 (일곱 vs 일, 일흔 vs 일)
+    private static final Lexeme[] LEXEMES = {
+        new Lexeme("하나", 1, Kind.NATIVE_UNIT, false),
+        new Lexeme("다섯", 5, Kind.NATIVE_UNIT, false),
+        new Lexeme("여섯", 6, Kind.NATIVE_UNIT, false),
+        new Lexeme("일곱", 7, Kind.NATIVE_UNIT, false),
+        new Lexeme("여덟", 8, Kind.NATIVE_UNIT, false),
+        new Lexeme("아홉", 9, Kind.NATIVE_UNIT, false),
+        new Lexeme("스물", 20, Kind.NATIVE_TEN, false),
+        new Lexeme("스무", 20, Kind.NATIVE_TEN, true),
+        new Lexeme("서른", 30, Kind.NATIVE_TEN, false),
+        new Lexeme("마흔", 40, Kind.NATIVE_TEN, false),
+        new Lexeme("예순", 60, Kind.NATIVE_TEN, false),
+        new Lexeme("일흔", 70, Kind.NATIVE_TEN, false),
+        new Lexeme("여든", 80, Kind.NATIVE_TEN, false),
+        new Lexeme("아흔", 90, Kind.NATIVE_TEN, false),
+        new Lexeme("한", 1, Kind.NATIVE_UNIT, true),
+        new Lexeme("둘", 2, Kind.NATIVE_UNIT, false),
+        new Lexeme("두", 2, Kind.NATIVE_UNIT, true),
+        new Lexeme("셋", 3, Kind.NATIVE_UNIT, false),
+        new Lexeme("세", 3, Kind.NATIVE_UNIT, true),
+        new Lexeme("석", 3, Kind.NATIVE_UNIT, true),
+        new Lexeme("넷", 4, Kind.NATIVE_UNIT, false),
+        new Lexeme("네", 4, Kind.NATIVE_UNIT, true),
+        new Lexeme("넉", 4, Kind.NATIVE_UNIT, true),
+        new Lexeme("열", 10, Kind.NATIVE_TEN, false),
+        new Lexeme("쉰", 50, Kind.NATIVE_TEN, false),
+        new Lexeme("일", 1, Kind.SINO_DIGIT, true),
+        new Lexeme("이", 2, Kind.SINO_DIGIT, true),
+        new Lexeme("삼", 3, Kind.SINO_DIGIT, true),
+        new Lexeme("사", 4, Kind.SINO_DIGIT, true),
+        new Lexeme("오", 5, Kind.SINO_DIGIT, true),
+        new Lexeme("육", 6, Kind.SINO_DIGIT, true),
+        new Lexeme("칠", 7, Kind.SINO_DIGIT, true),
+        new Lexeme("팔", 8, Kind.SINO_DIGIT, true),
+        new Lexeme("구", 9, Kind.SINO_DIGIT, true),
+        new Lexeme("십", 10, Kind.SINO_TEN, true),
+        new Lexeme("백", 100, Kind.SINO_HUNDRED, true),
+    };
+
+    private static final String[] COUNTERS = {"조각", "세트", "인분", "잔", "개", "컵", "병"};
+
+    // 단위명사 없이 쓰인 고유어/숫자 뒤에 붙어도 되는 조사·어미 첫 글자 (하나요, 둘이랑, 셋만, 하나씩)
+    private static final String SUFFIX_CHARS = "요씩만이랑하도로를은는에와과";
+
+    private KoreanQuantityParser() {
+    }
+
+    /**
+     * 발화의 모든 수량 표현을 등장 순서대로 반환
+     */
+    public static List<QuantitySpan> parse(CharSequence text) {
+        List<QuantitySpan> spans = new ArrayList<>(2);
+        int pos = 0;
+        while (pos < text.length()) {
+            int next = tryParseAt(text, pos, spans);
+            pos = next > pos ? next : pos + 1;
+        }
+        return spans;
+    }
+
+    /**
+     * 첫 번째 수량. 없으면 0
+     */
+    public static int firstQuantity(CharSequence text) {
+        int pos = 0;
+        List<QuantitySpan> spans = new ArrayList<>(1);
+        while (pos < text.length() && spans.isEmpty()) {
+            int next = tryParseAt(text, pos, spans);
+            pos = next > pos ? next : pos + 1;
+        }
+        return spans.isEmpty() ? 0 : spans.get(0).quantity();
+    }
+
+    /**
+     * pos에서 시작하는 수량 표현을 찾으면 spans에 추가하고 표현이 끝난 위치를, 없으면 pos를 반환
+     */
+    private static int tryParseAt(CharSequence text, int pos, List<QuantitySpan> spans) {
+        char first = text.charAt(pos);
+        if (first >= '0' && first <= '9') {
+            return parseDigits(text, pos, spans);
+        }
+        if (!isHangulSyllable(first)) {
+            return pos;
+        }
+
+        Lexeme lexeme = lexemeAt(text, pos);
+        if (lexeme == null) {
+            return pos;
+        }
+        // 단어 중간의 글자(예: "아이스"의 "이")는 accept의 단위명사/조사 검사에서 걸러진다
+        return switch (lexeme.kind()) {
+            case NATIVE_UNIT, NATIVE_TEN -> parseNative(text, pos, spans);
+            default -> parseSino(text, pos, spans);
+        };
+    }
+
+    private static int parseDigits(CharSequence text, int start, List<QuantitySpan> spans) {
+        int pos = start;
+        int value = 0;
+        while (pos < text.length() && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            value = value * 10 + (text.charAt(pos) - '0');
+            pos++;
+            if (pos - start > MAX_DIGITS) {
+                return skipDigits(text, pos);
+            }
+        }
+        return accept(text, start, pos, value, false, spans);
+    }
+
+    private static int parseNative(CharSequence text, int start, List<QuantitySpan> spans) {
+        int pos = start;
+        int value = 0;
+        boolean needsCounter = false;
+
+        Lexeme lexeme = lexemeAt(text, pos);
+        if (lexeme.kind() == Kind.NATIVE_TEN) {
+            value = lexeme.value();
+            needsCounter = lexeme.needsCounter();
+            pos += lexeme.text().length();
+            lexeme = pos < text.length() ? lexemeAt(text, pos) : null;
+        }
+        if (lexeme != null && lexeme.kind() == Kind.NATIVE_UNIT) {
+            int end = accept(text, start, pos + lexeme.text().length(), value + lexeme.value(),
+                lexeme.needsCounter(), spans);
+            if (end != start || value == 0) {
+                return end;
+            }
+            // "일흔세트"처럼 뒤 글자가 단위명사의 일부면 십의 자리까지만 수량으로 본다
+        }
+        return accept(text, start, pos, value, needsCounter, spans);
+    }
+
+    private static int parseSino(CharSequence text, int start, List<QuantitySpan> spans) {
+        int pos = start;
+        int total = 0;
+        int digit = 0;
+        int lastPlace = Integer.MAX_VALUE;
+
+        while (pos < text.length()) {
+            Lexeme lexeme = lexemeAt(text, pos);
+            if (lexeme == null) {
+                break;
+            }
+            if (lexeme.kind() == Kind.SINO_DIGIT) {
+                if (digit != 0) {
+                    break; // "이삼"처럼 자리 없이 숫자가 이어지면 여기서 끊는다
+                }
+                digit = lexeme.value();
+            } else if (lexeme.kind() == Kind.SINO_TEN || lexeme.kind() == Kind.SINO_HUNDRED) {
+                if (lexeme.value() >= lastPlace) {
+                    break;
+                }
+                total += (digit == 0 ? 1 : digit) * lexeme.value();
+                lastPlace = lexeme.value();
+                digit = 0;
+            } else {
+                break;
+            }
+            pos += lexeme.text().length();
+        }
+        return accept(text, start, pos, total + digit, true, spans);
+    }
+
+    /**
+     * 숫자 뒤에 단위명사가 있으면 포함해서, 없으면 단독으로 써도 되는 표현일 때만 수량으로 인정
+     */
+    private static int accept(CharSequence text, int start, int numberEnd, int value,
+                              boolean needsCounter, List<QuantitySpan> spans) {
+        if (value <= 0 || value > MAX_QUANTITY) {
+            return numberEnd;
+        }
+
+        int counterStart = numberEnd;
+        if (counterStart < text.length() && text.charAt(counterStart) == ' ') {
+            counterStart++;
+        }
+        int counterEnd = counterEndAt(text, counterStart);
+        if (counterEnd > 0) {
+            spans.add(new QuantitySpan(value, start, counterEnd));
+            return counterEnd;
+        }
+
+        if (needsCounter) {
+            return start; // 수량이 아님. 다음 글자부터 다시 검사
+        }
+        if (numberEnd < text.length()) {
+            char next = text.charAt(numberEnd);
+            if (isHangulSyllable(next) && SUFFIX_CHARS.indexOf(next) < 0) {
+                return start;
+            }
+        }
+        spans.add(new QuantitySpan(value, start, numberEnd));
+        return numberEnd;
+    }
+
+    private static int counterEndAt(CharSequence text, int pos) {
+        for (String counter : COUNTERS) {
+            if (regionMatches(text, pos, counter)) {
+                return pos + counter.length();
+            }
+        }
+        return -1;
+    }
+
+    private static Lexeme lexemeAt(CharSequence text, int pos) {
+        char c = text.charAt(pos);
+        for (Lexeme lexeme : LEXEMES) {
+            if (lexeme.text().charAt(0) == c && regionMatches(text, pos, lexeme.text())) {
+                return lexeme;
+            }
+        }
+        return null;
+    }
+
+    private static boolean regionMatches(CharSequence text, int pos, String candidate) {
+        if (pos + candidate.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < candidate.length(); i++) {
+            if (text.charAt(pos + i) != candidate.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipDigits(CharSequence text, int pos) {
+        while (pos < text.length() && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
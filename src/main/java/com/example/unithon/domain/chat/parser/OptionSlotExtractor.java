@@ -0,0 +1,111 @@
+package com.example.unithon.domain.chat.parser;
+
+import com.example.unithon.domain.menu.service.MenuMention;
+import com.example.unithon.global.text.KeywordAutomaton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 온도/사이즈 옵션 슬롯 추출기.
+ * 옵션 표현 사전을 한 번 컴파일해 두고 발화를 한 번만 훑는다. LLM 호출 없음.
+ * 메뉴명 안의 표현("아이스 아메리카노"의 "아이스")은 메뉴 자체의 일부이므로 슬롯으로 보지 않는다.
+ */
+public final class OptionSlotExtractor {
+
+    public enum Slot { TEMPERATURE, SIZE }
+
+    /**
+     * 발화에서 찾은 옵션 표현. value는 OrderItem 값(ICE, HOT, REGULAR, LARGE)
+     */
+    public record OptionSpan(Slot slot, String value, int start, int end) {
+    }
+
+    /**
+     * 메뉴 하나에 대한 옵션 값. 말하지 않은 슬롯은 null
+     */
+    public record OptionSlots(String temperature, String size) {
+    }
+
+    private record Expression(String text, Slot slot, String value) {
+    }
+
+    private static final List<Expression> EXPRESSIONS = List.of(
+        new Expression("아이스", Slot.TEMPERATURE, "ICE"),
+        new Expression("차가운", Slot.TEMPERATURE, "ICE"),
+        new Expression("차갑게", Slot.TEMPERATURE, "ICE"),
+        new Expression("시원한", Slot.TEMPERATURE, "ICE"),
+        new Expression("시원하게", Slot.TEMPERATURE, "ICE"),
+        new Expression("핫", Slot.TEMPERATURE, "HOT"),
+        new Expression("따뜻한", Slot.TEMPERATURE, "HOT"),
+        new Expression("따뜻하게", Slot.TEMPERATURE, "HOT"),
+        new Expression("따듯한", Slot.TEMPERATURE, "HOT"),
+        new Expression("따듯하게", Slot.TEMPERATURE, "HOT"),
+        new Expression("뜨거운", Slot.TEMPERATURE, "HOT"),
+        new Expression("뜨겁게", Slot.TEMPERATURE, "HOT"),
+        new Expression("라지", Slot.SIZE, "LARGE"),
+        new Expression("큰 사이즈", Slot.SIZE, "LARGE"),
+        new Expression("큰사이즈", Slot.SIZE, "LARGE"),
+        new Expression("크게", Slot.SIZE, "LARGE"),
+        new Expression("레귤러", Slot.SIZE, "REGULAR"),
+        new Expression("보통 사이즈", Slot.SIZE, "REGULAR"),
+        new Expression("보통사이즈", Slot.SIZE, "REGULAR"),
+        new Expression("작은 사이즈", Slot.SIZE, "REGULAR"),
+        new Expression("작은사이즈", Slot.SIZE, "REGULAR")
+    );
+
+    private static final KeywordAutomaton AUTOMATON =
+        KeywordAutomaton.compile(EXPRESSIONS.stream().map(Expression::text).toList());
+
+    private OptionSlotExtractor() {
+    }
+
+    /**
+     * 메뉴 언급과 겹치지 않는 옵션 표현을 등장 순서대로 반환. 겹치는 표현은 더 긴 쪽을 택한다.
+     */
+    public static List<OptionSpan> find(CharSequence text, List<MenuMention> mentions) {
+        List<OptionSpan> candidates = new ArrayList<>(2);
+        AUTOMATON.scan(text, (index, start, end) -> {
+            Expression expression = EXPRESSIONS.get(index);
+            candidates.add(new OptionSpan(expression.slot(), expression.value(), start, end));
+        });
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        candidates.sort(Comparator.comparingInt(OptionSpan::start)
+            .thenComparing(Comparator.comparingInt(OptionSpan::end).reversed()));
+
+        List<OptionSpan> spans = new ArrayList<>(candidates.size());
+        int coveredUntil = 0;
+        for (OptionSpan candidate : candidates) {
+            if (candidate.start() >= coveredUntil && !overlapsMention(candidate, mentions)) {
+                spans.add(candidate);
+                coveredUntil = candidate.end();
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * 메뉴가 하나뿐인 발화의 옵션. 슬롯별로 처음 나온 값을 쓴다.
+     */
+    public static OptionSlots extract(CharSequence text, List<MenuMention> mentions) {
+        String[] values = new String[Slot.values().length];
+        for (OptionSpan span : find(text, mentions)) {
+            if (values[span.slot().ordinal()] == null) {
+                values[span.slot().ordinal()] = span.value();
+            }
+        }
+        return new OptionSlots(values[Slot.TEMPERATURE.ordinal()], values[Slot.SIZE.ordinal()]);
+    }
+
+    private static boolean overlapsMention(OptionSpan span, List<MenuMention> mentions) {
+        for (MenuMention mention : mentions) {
+            if (span.start() < mention.end() && mention.start() < span.end()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
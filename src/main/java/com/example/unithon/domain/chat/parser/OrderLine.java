@@ -0,0 +1,9 @@
+package com.example.unithon.domain.chat.parser;
+
+import com.example.unithon.domain.menu.entity.Menu;
+
+/**
+ * 한 발화에서 분리한 주문 한 줄. 수량을 말하지 않았으면 quantity는 0, 옵션을 말하지 않았으면 null
+ */
+public record OrderLine(Menu menu, int quantity, String temperature, String size) {
+}
@@ -0,0 +1,84 @@
+package com.example.unithon.domain.chat.parser;
+
+import com.example.unithon.domain.menu.service.MenuMention;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 메뉴가 섞인 주문 발화를 메뉴별 주문 줄로 나눈다.
+ * "아메리카노 두 잔이랑 치즈케이크 하나"처럼 수량은 보통 메뉴 뒤에 오므로 직전 메뉴에 먼저 붙이고,
+ * 직전 메뉴가 이미 수량을 가졌거나 앞에 메뉴가 없으면("두 잔 아메리카노") 다음 메뉴에 붙인다.
+ * 옵션("아이스 라떼, 핫 모카")은 글자 거리가 가장 가까운 메뉴에 붙이며, 거리가 같으면 뒤 메뉴를 꾸미는 것으로 본다.
+ */
+public final class OrderUtteranceParser {
+
+    private OrderUtteranceParser() {
+    }
+
+    /**
+     * @param mentions 등장 순서로 정렬되고 서로 겹치지 않는 메뉴 언급
+     */
+    public static List<OrderLine> parse(CharSequence text, List<MenuMention> mentions) {
+        int[] quantities = new int[mentions.size()];
+        String[] temperatures = new String[mentions.size()];
+        String[] sizes = new String[mentions.size()];
+
+        for (QuantitySpan span : KoreanQuantityParser.parse(text)) {
+            int preceding = -1;
+            boolean insideMention = false;
+            for (int i = 0; i < mentions.size(); i++) {
+                MenuMention mention = mentions.get(i);
+                if (span.start() < mention.end() && mention.start() < span.end()) {
+                    insideMention = true; // 메뉴명 안의 숫자 ("마카롱 세트" 등)
+                    break;
+                }
+                if (mention.end() <= span.start()) {
+                    preceding = i;
+                }
+            }
+            if (insideMention) {
+                continue;
+            }
+
+            if (preceding >= 0 && quantities[preceding] == 0) {
+                quantities[preceding] = span.quantity();
+            } else if (preceding + 1 < mentions.size() && quantities[preceding + 1] == 0) {
+                quantities[preceding + 1] = span.quantity();
+            }
+        }
+
+        for (OptionSlotExtractor.OptionSpan span : OptionSlotExtractor.find(text, mentions)) {
+            int nearest = nearestMention(span, mentions);
+            if (nearest < 0) {
+                continue;
+            }
+            String[] slot = span.slot() == OptionSlotExtractor.Slot.TEMPERATURE ? temperatures : sizes;
+            if (slot[nearest] == null) {
+                slot[nearest] = span.value();
+            }
+        }
+
+        List<OrderLine> lines = new ArrayList<>(mentions.size());
+        for (int i = 0; i < mentions.size(); i++) {
+            lines.add(new OrderLine(mentions.get(i).menu(), quantities[i], temperatures[i], sizes[i]));
+        }
+        return lines;
+    }
+
+    private static int nearestMention(OptionSlotExtractor.OptionSpan span, List<MenuMention> mentions) {
+        int nearest = -1;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < mentions.size(); i++) {
+            MenuMention mention = mentions.get(i);
+            int distance = mention.start() >= span.end()
+                ? mention.start() - span.end()
+                : span.start() - mention.end();
+            if (distance <= nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.unithon.domain.chat.parser;
+
+/**
+ * 발화 안에서 찾은 수량 표현. start/end는 숫자부터 단위명사까지의 문자 범위
+ */
+public record QuantitySpan(int quantity, int start, int end) {
+}
@@ -1,14 +1,22 @@
 package com.example.unithon.domain.chat.service;
 
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.entity.Stores;
+import com.example.unithon.domain.menu.service.MenuMention;
 import com.example.unithon.domain.menu.service.MenuSearchResult;
 import com.example.unithon.domain.menu.service.MenuService;
 import com.example.unithon.domain.chat.dto.MacroOrderData;
@@ -17,9 +25,20 @@ import com.example.unithon.domain.chat.dto.MacroTriggerEvent;
 import com.example.unithon.domain.chat.dto.DialogState;
 import com.example.unithon.domain.chat.dto.DialogStateEvent;
 import com.example.unithon.domain.chat.dto.ServerErrorEvent;
+import com.example.unithon.domain.chat.flow.DialogFlow;
+import com.example.unithon.domain.chat.flow.TransitionRecord;
+import com.example.unithon.domain.chat.parser.KoreanQuantityParser;
+import com.example.unithon.domain.chat.parser.OptionSlotExtractor;
+import com.example.unithon.domain.chat.parser.OrderLine;
+import com.example.unithon.domain.chat.parser.OrderUtteranceParser;
+import com.example.unithon.domain.intent.service.Intent;
+import com.example.unithon.domain.intent.service.IntentRecognizer;
+import com.example.unithon.domain.intent.service.IntentResult;
 import com.example.unithon.global.error.ErrorCode;
-
-import org.springframework.context.ApplicationEventPublisher;
+import com.example.unithon.global.event.SessionEventBus;
+import com.example.unithon.global.logging.LogText;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
 
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -32,54 +51,68 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatService {
 
     private final MenuService menuService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final SessionEventBus eventBus;
     private final MacroWebhookService macroWebhookService;
+    private final IntentRecognizer intentRecognizer;
+    private final TurnMetrics turnMetrics;
 
     private final ConcurrentHashMap<String, ChatSession> sessions = new ConcurrentHashMap<>();
+    // 연결 단위로 정해지는 매장. 주문 완료/취소로 대화 세션이 초기화돼도 연결이 끝날 때까지 유지
+    private final ConcurrentHashMap<String, Long> storeBySession = new ConcurrentHashMap<>();
+
+    private final DialogFlow<ConversationState, Turn> flow = buildFlow();
+
+    /**
+     * 대화 흐름 정의. 전역 전이(주문 완료, 메뉴 추가)를 먼저 보고 상태별 전이를 순서대로 본다.
+     */
+    private DialogFlow<ConversationState, Turn> buildFlow() {
+        return DialogFlow.<ConversationState, Turn>builder(ConversationState.class, this::currentState)
+            .global("order-complete", turn -> turn.intents().has(Intent.ORDER_COMPLETE),
+                turn -> completeOrder(turn.sessionId()))
+            .global("add-more", turn -> turn.intents().has(Intent.ADD_MORE), this::startAddMore)
+            .on(ConversationState.GREETING, "greet", turn -> turn.intents().has(Intent.GREETING), this::greet)
+            .otherwise(ConversationState.GREETING, "order-on-greeting", turn -> {
+                turn.session().setState(ConversationState.MENU_SELECTION);
+                return handleMenuSelection(turn.sessionId(), turn.message(), turn.intents());
+            })
+            .otherwise(ConversationState.MENU_SELECTION, "select-menu",
+                turn -> handleMenuSelection(turn.sessionId(), turn.message(), turn.intents()))
+            .otherwise(ConversationState.OPTION_SELECTION, "select-option",
+                turn -> handleOptionSelection(turn.sessionId(), turn.message()))
+            .otherwise(ConversationState.QUANTITY_SELECTION, "select-quantity",
+                turn -> handleQuantitySelection(turn.sessionId(), turn.message()))
+            .otherwise(ConversationState.ORDER_CONFIRMATION, "ask-confirmation",
+                turn -> "메뉴를 더 담겠습니까? 주문을 마치겠습니까?")
+            .build();
+    }
 
     /**
      * 사용자 메시지 처리
      */
     public String processMessage(String sessionId, String message) {
-        log.info("메시지 처리 [{}]: {}", sessionId, message);
+        log.info("메시지 처리 [{}]: {}", sessionId, LogText.transcript(message));
+        long start = System.nanoTime();
         
         ChatSession session = getSession(sessionId);
 
-        String response;
-        
-        if (isOrderComplete(message)) {
-            response = completeOrder(sessionId);
-        } else if (isAddMore(message)) {
-            session.setState(ConversationState.MENU_SELECTION);
-            session.setCurrentItem(null);
-            response = "추가로 주문하실 메뉴를 말씀해주세요.";
-        } else {
-            switch (session.getState()) {
-                case GREETING:
-                    response = handleGreeting(sessionId, message);
-                    break;
-                
-                case MENU_SELECTION:
-                    response = handleMenuSelection(sessionId, message);
-                    break;
-                
-                case QUANTITY_SELECTION:
-                    response = handleQuantitySelection(sessionId, message);
-                    break;
-                
-                case ORDER_CONFIRMATION:
-                    response = handleOrderConfirmation(sessionId, message);
-                    break;
-                
-                default:
-                    response = "안녕하세요! 주문하실 메뉴를 말씀해주세요.";
-            }
+        // 발화당 한 번만 의도 인식
+        IntentResult intents = intentRecognizer.recognize(message);
+
+        DialogFlow.Fired<ConversationState> fired = flow.fire(new Turn(sessionId, message, intents, session));
+        if (Thread.currentThread().isInterrupted()) {
+            // 처리 중에 연결이 끊겼다. 이미 정리된 세션에 기록하거나 이벤트를 발행하지 않는다
+            throw new CancellationException("Turn cancelled [" + sessionId + "]");
         }
+        session.record(fired, message);
+        log.debug("대화 전이 [{}]: {} -({})-> {}", sessionId, fired.from(), fired.transition(), fired.to());
+        turnMetrics.record(Stage.DIALOG, fired.transition(), start);
+
+        String response = fired.response();
 
         // 응답 후 dialog.state 이벤트 발송 (주문 완료 시 제외)
         if (!response.contains("결제 해주시길 바랍니다")) {
             DialogState dialogState = buildDialogState(sessionId);
-            eventPublisher.publishEvent(new DialogStateEvent(sessionId, dialogState));
+            eventBus.publish(new DialogStateEvent(sessionId, dialogState));
         }
         
         return response;
@@ -88,49 +121,54 @@ public class ChatService {
     /**
      * 인사 처리
      */
-    private String handleGreeting(String sessionId, String message) {
-        ChatSession session = getSession(sessionId);
-        
-        if (message.contains("안녕") || message.contains("하이") || message.contains("주문")) {
-            session.setState(ConversationState.MENU_SELECTION);
-            return "안녕하세요! 주문하실 메뉴를 말씀해주세요.";
-        }
+    private String greet(Turn turn) {
+        turn.session().setState(ConversationState.MENU_SELECTION);
+        return "안녕하세요! 주문하실 메뉴를 말씀해주세요.";
+    }
 
+    /**
+     * 메뉴 추가 요청 처리 (어느 상태에서든 메뉴 선택으로 돌아간다)
+     */
+    private String startAddMore(Turn turn) {
+        ChatSession session = turn.session();
         session.setState(ConversationState.MENU_SELECTION);
-        return handleMenuSelection(sessionId, message);
+        session.setCurrentItem(null);
+        session.getPendingItems().clear();
+        return "추가로 주문하실 메뉴를 말씀해주세요.";
+    }
+
+    /**
+     * 전이 후 상태 조회. 주문 완료로 세션이 정리됐으면 처음 상태로 본다.
+     */
+    private ConversationState currentState(Turn turn) {
+        ChatSession session = sessions.get(turn.sessionId());
+        return session != null ? session.getState() : ConversationState.GREETING;
     }
 
     /**
      * 메뉴 선택 처리
      */
-    private String handleMenuSelection(String sessionId, String message) {
+    private String handleMenuSelection(String sessionId, String message, IntentResult intents) {
         ChatSession session = getSession(sessionId);
+
+        // 한 문장에 메뉴가 여러 개면 메뉴별 수량/옵션을 맞춰 한 번에 담는다
+        List<MenuMention> mentions = menuService.findMenuMentions(session.getStoreId(), message);
+        if (mentions.size() > 1) {
+            return handleMultiItemOrder(session, message, mentions);
+        }
         
-        MenuSearchResult result = menuService.searchMenu(message);
+        MenuSearchResult result = menuService.searchMenu(session.getStoreId(), message, intents);
         
         switch (result.getType()) {
             case DIRECT_MATCH:
                 Menu menu = result.getMenu();
                 OrderItem orderItem = new OrderItem(menu);
 
-                // 한 문장에 메뉴 + 수량이 같이 온 경우 즉시 담기 처리
-                try {
-                    int quantityInMessage = extractQuantity(message);
-                    if (quantityInMessage > 0) {
-                        orderItem.setQuantity(quantityInMessage);
-                        session.getCart().add(orderItem);
-                        session.setCurrentItem(null);
-                        session.setState(ConversationState.ORDER_CONFIRMATION);
-                        return String.format("%s %d개가 담겼습니다.\n\n메뉴를 더 담겠습니까? 주문을 마치겠습니까?",
-                            menu.getDisplayName(), quantityInMessage);
-                    }
-                } catch (Exception ignored) {
-                }
-
-                // 수량이 없으면 기존 흐름 유지
+                // 한 문장에 메뉴 + 옵션 + 수량이 같이 온 경우 빠진 것만 되묻고 다 있으면 즉시 담는다
+                applyOptions(orderItem, OptionSlotExtractor.extract(message, mentions));
+                orderItem.setQuantity(extractQuantity(message));
                 session.setCurrentItem(orderItem);
-                session.setState(ConversationState.QUANTITY_SELECTION);
-                return String.format("%s 몇 개 드릴까요?", menu.getDisplayName());
+                return continueOrder(session, new StringBuilder());
 
             case AMBIGUOUS_MATCH:
                 List<Menu> menus = result.getAmbiguousMenus();
@@ -158,6 +196,51 @@ public class ChatService {
         }
     }
 
+    /**
+     * 여러 메뉴 주문 처리
+     * 수량과 필수 옵션까지 말한 메뉴는 바로 담고, 빠진 것이 있는 메뉴는 대기열에 넣어 차례로 묻는다.
+     */
+    private String handleMultiItemOrder(ChatSession session, String message, List<MenuMention> mentions) {
+        StringBuilder added = new StringBuilder();
+
+        for (OrderLine line : OrderUtteranceParser.parse(message, mentions)) {
+            OrderItem item = new OrderItem(line.menu());
+            applyOptions(item, new OptionSlotExtractor.OptionSlots(line.temperature(), line.size()));
+            item.setQuantity(line.quantity());
+            if (isComplete(item)) {
+                addToCart(session, item, added);
+            } else {
+                session.getPendingItems().add(item);
+            }
+        }
+        log.debug("여러 메뉴 주문: 담음=[{}], 대기={}개", added, session.getPendingItems().size());
+
+        return continueOrder(session, added);
+    }
+
+    /**
+     * 옵션 선택 처리 (온도를 골라야 하는 메뉴에서 온도가 빠진 경우)
+     */
+    private String handleOptionSelection(String sessionId, String message) {
+        ChatSession session = getSession(sessionId);
+        OrderItem currentItem = session.getCurrentItem();
+
+        if (currentItem == null) {
+            session.setState(ConversationState.MENU_SELECTION);
+            return "주문하실 메뉴를 다시 말씀해주세요.";
+        }
+
+        applyOptions(currentItem, OptionSlotExtractor.extract(message, List.of()));
+        if (needsTemperature(currentItem)) {
+            return temperatureQuestion(currentItem);
+        }
+        // "아이스로 두 잔"처럼 수량까지 같이 말한 경우
+        if (currentItem.getQuantity() <= 0) {
+            currentItem.setQuantity(extractQuantity(message));
+        }
+        return continueOrder(session, new StringBuilder());
+    }
+
     /**
      * 수량 선택 처리
      */
@@ -178,16 +261,7 @@ public class ChatService {
             }
             
             currentItem.setQuantity(quantity);
-
-            session.getCart().add(currentItem);
-
-            session.setState(ConversationState.ORDER_CONFIRMATION);
-            session.setCurrentItem(null);
-            
-            return String.format("%s %s %d개가 담겼습니다.\n\n메뉴를 더 담겠습니까? 주문을 마치겠습니까?", 
-                buildSelectedOptionsText(currentItem), 
-                currentItem.getMenu().getDisplayName(), 
-                quantity);
+            return continueOrder(session, new StringBuilder());
             
         } catch (Exception e) {
             return handleError(sessionId, ErrorCode.INVALID_QUANTITY, e);
@@ -195,18 +269,78 @@ public class ChatService {
     }
 
     /**
-     * 주문 확인 처리
+     * 현재 메뉴(없으면 대기열의 다음 메뉴)에서 빠진 슬롯을 묻는다.
+     * 다 채워진 메뉴는 장바구니에 담고 다음 메뉴로 넘어가며, 더 물을 것이 없으면 주문 확인으로 간다.
      */
-    private String handleOrderConfirmation(String sessionId, String message) {
-        if (isAddMore(message)) {
-            return processMessage(sessionId, "메뉴 추가");
+    private String continueOrder(ChatSession session, StringBuilder added) {
+        OrderItem item = session.getCurrentItem();
+        while (true) {
+            if (item == null) {
+                item = session.getPendingItems().poll();
+            }
+            if (item == null) {
+                session.setCurrentItem(null);
+                session.setState(ConversationState.ORDER_CONFIRMATION);
+                return addedPrefix(added) + "메뉴를 더 담겠습니까? 주문을 마치겠습니까?";
+            }
+
+            session.setCurrentItem(item);
+            if (needsTemperature(item)) {
+                session.setState(ConversationState.OPTION_SELECTION);
+                return addedPrefix(added) + temperatureQuestion(item);
+            }
+            if (item.getQuantity() <= 0) {
+                session.setState(ConversationState.QUANTITY_SELECTION);
+                return addedPrefix(added) + String.format("%s 몇 개 드릴까요?", item.getMenu().getDisplayName());
+            }
+
+            addToCart(session, item, added);
+            item = null;
         }
-        
-        if (isOrderComplete(message)) {
-            return completeOrder(sessionId);
+    }
+
+    private void addToCart(ChatSession session, OrderItem item, StringBuilder added) {
+        if (item.getMenu().isSizeOption() && item.getSize() == null) {
+            item.setSize("REGULAR");
         }
-        
-        return "메뉴를 더 담겠습니까? 주문을 마치겠습니까?";
+        session.getCart().add(item);
+
+        if (added.length() > 0) {
+            added.append(", ");
+        }
+        String optionText = OrderCart.optionText(item.getTemperature(), item.getSize());
+        if (!optionText.isEmpty()) {
+            added.append(optionText).append(' ');
+        }
+        added.append(item.getMenu().getDisplayName()).append(' ').append(item.getQuantity()).append('개');
+    }
+
+    private static String addedPrefix(StringBuilder added) {
+        return added.length() == 0 ? "" : added + "가 담겼습니다.\n\n";
+    }
+
+    /**
+     * 메뉴가 지원하는 옵션만 반영 (따뜻한/아이스 메뉴가 따로 있는 경우 온도는 무시)
+     */
+    private static void applyOptions(OrderItem item, OptionSlotExtractor.OptionSlots slots) {
+        if (item.getMenu().isTemperatureOption() && slots.temperature() != null) {
+            item.setTemperature(slots.temperature());
+        }
+        if (item.getMenu().isSizeOption() && slots.size() != null) {
+            item.setSize(slots.size());
+        }
+    }
+
+    private static boolean needsTemperature(OrderItem item) {
+        return item.getMenu().isTemperatureOption() && item.getTemperature() == null;
+    }
+
+    private static boolean isComplete(OrderItem item) {
+        return !needsTemperature(item) && item.getQuantity() > 0;
+    }
+
+    private static String temperatureQuestion(OrderItem item) {
+        return String.format("%s 따뜻하게 드릴까요, 아이스로 드릴까요?", item.getMenu().getDisplayName());
     }
 
     /**
@@ -214,32 +348,32 @@ public class ChatService {
      */
     private String completeOrder(String sessionId) {
         ChatSession session = getSession(sessionId);
+        OrderCart cart = session.getCart();
         
-        if (session.getCart().isEmpty()) {
+        if (cart.isEmpty()) {
             return "장바구니가 비어있습니다. 메뉴를 주문해주세요.";
         }
 
         StringBuilder orderSummary = new StringBuilder("주문 내역:\n");
-        int totalPrice = 0;
+        int totalPrice = cart.getTotalPrice();
 
-        List<MacroOrderItem> macroItems = new ArrayList<>();
+        List<MacroOrderItem> macroItems = new ArrayList<>(cart.size());
         
-        for (OrderItem item : session.getCart()) {
-            String optionText = buildSelectedOptionsText(item);
-            int itemTotalPrice = item.getMenu().getBasePrice().intValue() * item.getQuantity();
+        // 단가/합계/옵션 문자열은 담는 시점에 계산되어 있으므로 여기서는 읽기만 한다
+        for (int i = 0; i < cart.size(); i++) {
+            Menu menu = cart.menuAt(i);
 
             orderSummary.append(String.format("- %s %s %d개\n", 
-                optionText, item.getMenu().getDisplayName(), item.getQuantity()));
-            totalPrice += itemTotalPrice;
+                cart.optionTextAt(i), menu.getDisplayName(), cart.quantityAt(i)));
 
             macroItems.add(new MacroOrderItem(
-                item.getMenu().getName(),
-                item.getMenu().getDisplayName(),
-                item.getTemperature(),
-                item.getSize(),
-                item.getQuantity(),
-                item.getMenu().getBasePrice().intValue(),
-                itemTotalPrice
+                menu.getName(),
+                menu.getDisplayName(),
+                cart.temperatureAt(i),
+                cart.sizeAt(i),
+                cart.quantityAt(i),
+                cart.unitPriceAt(i),
+                cart.linePriceAt(i)
             ));
         }
         
@@ -248,6 +382,7 @@ public class ChatService {
 		
         MacroOrderData macroData = new MacroOrderData(
             sessionId,
+            session.getStoreId(),
             macroItems,
             totalPrice,
             java.time.LocalDateTime.now().toString()
@@ -257,7 +392,7 @@ public class ChatService {
         macroWebhookService.sendOrderToMacro(macroData);
         
         // WebSocket으로도 macro.trigger 이벤트 발송 (에이전트용)
-        eventPublisher.publishEvent(new MacroTriggerEvent(sessionId, macroData));
+        eventBus.publish(new MacroTriggerEvent(sessionId, macroData));
         log.info("주문 완료 처리 완료 [{}]", sessionId);
 
         clearSession(sessionId);
@@ -266,85 +401,29 @@ public class ChatService {
     }
 
     /**
-     * 선택된 옵션 텍스트 생성
+     * 메시지에서 수량 추출 (고유어/한자어/숫자 + 단위명사). 없으면 0
      */
-    private String buildSelectedOptionsText(OrderItem item) {
-        StringBuilder text = new StringBuilder();
-        
-        if (item.getTemperature() != null) {
-            text.append(item.getTemperature().equals("ICE") ? "아이스 " : "핫 ");
-        }
-        
-        if (item.getSize() != null) {
-            text.append(item.getSize().equals("LARGE") ? "라지 " : "");
-        }
-        
-        return text.toString().trim();
+    private int extractQuantity(String message) {
+        return KoreanQuantityParser.firstQuantity(message);
     }
 
-    /**
-     * 메시지에서 수량 추출
-     */
-	private int extractQuantity(String message) {
-		// 1단계: 기본 숫자 패턴 확인
-		String numberStr = message.replaceAll("[^0-9]", "");
-		if (!numberStr.isEmpty()) {
-			return Integer.parseInt(numberStr);
-		}
-
-		// 2단계: 간단한 한국어 패턴 확인
-		message = message.toLowerCase();
-		if (message.contains("하나") || message.contains("한개") || message.contains("한 개") || message.contains("한잔") || message.contains("한 잔")) {
-			return 1;
-		} else if (message.contains("둘") || message.contains("두개") || message.contains("두 개") || message.contains("두잔") || message.contains("두 잔")) {
-			return 2;
-		} else if (message.contains("셋") || message.contains("세개") || message.contains("세 개") || message.contains("세잔") || message.contains("세 잔")) {
-			return 3;
-		} else if (message.contains("네개") || message.contains("네 개") || message.contains("네잔") || message.contains("네 잔")) {
-			return 4;
-		} else if (message.contains("다섯개") || message.contains("다섯 개") || message.contains("다섯 잔") || message.contains("다섯잔")) {
-			return 5;
-		} else if (message.contains("여섯개") || message.contains("여섯 개") || message.contains("여섯 잔") || message.contains("여섯잔")) {
-			return 6;
-		} else if (message.contains("일곱개") || message.contains("일곱 개") || message.contains("일곱 잔") || message.contains("일곱잔")) {
-			return 7;
-		} else if (message.contains("여덟개") || message.contains("여덟 개") || message.contains("여덟 잔") || message.contains("여덟잔")) {
-			return 8;
-		} else if (message.contains("아홉개") || message.contains("아홉 개") || message.contains("아홉 잔") || message.contains("아홉잔")) {
-			return 9;
-		} else if (message.contains("열개") || message.contains("열 개") || message.contains("열잔") || message.contains("열 잔")) {
-			return 10;
-		}
-		return 0;
-	}
-
 
     /**
      * 현재 대화 상태를 DialogState로 변환
+     * 장바구니 항목과 합계는 OrderCart가 담을 때마다 갱신해 두므로 장바구니 크기와 무관하게 일정한 비용이 든다.
      */
     private DialogState buildDialogState(String sessionId) {
-        ChatSession session = getSession(sessionId);
-
-        List<DialogState.CartItem> cartItems = new ArrayList<>();
-        int totalPrice = 0;
-        
-        for (OrderItem item : session.getCart()) {
-            String optionText = buildSelectedOptionsText(item);
-            int itemPrice = item.getMenu().getBasePrice().intValue() * item.getQuantity();
-            
-            cartItems.add(DialogState.CartItem.builder()
-                .menu(item.getMenu().getDisplayName())
-                .options(optionText)
-                .quantity(item.getQuantity())
-                .price(itemPrice)
-                .build());
-                
-            totalPrice += itemPrice;
+        // 조회만 한다. 닫힌 세션을 다시 만들지 않도록 없으면 처음 상태의 임시 세션으로 본다
+        ChatSession session = sessions.get(sessionId);
+        if (session == null) {
+            session = new ChatSession(storeBySession.getOrDefault(sessionId, Stores.DEFAULT_ID));
         }
+        OrderCart cart = session.getCart();
 
-        Map<String, String> selectedOptions = new HashMap<>();
         OrderItem currentItem = session.getCurrentItem();
-        if (currentItem != null) {
+        Map<String, String> selectedOptions = Collections.emptyMap();
+        if (currentItem != null && (currentItem.getTemperature() != null || currentItem.getSize() != null)) {
+            selectedOptions = new HashMap<>(4);
             if (currentItem.getTemperature() != null) {
                 selectedOptions.put("temperature", currentItem.getTemperature());
             }
@@ -359,10 +438,11 @@ public class ChatService {
             .state(session.getState().name())
             .currentMenu(currentItem != null ? currentItem.getMenu().getDisplayName() : null)
             .selectedOptions(selectedOptions)
-            .cart(cartItems)
+            .cart(cart.snapshot())
             .nextAction(nextAction)
-            .cartItemCount(session.getCart().size())
-            .totalPrice(totalPrice)
+            .cartItemCount(cart.size())
+            .totalPrice(cart.getTotalPrice())
+            .cartEpoch(cart.getEpoch())
             .build();
     }
 
@@ -375,6 +455,8 @@ public class ChatService {
                 return "주문하실 메뉴를 말씀해주세요";
             case MENU_SELECTION:
                 return "메뉴 이름을 말씀해주세요";
+            case OPTION_SELECTION:
+                return "따뜻하게 드실지 아이스로 드실지 말씀해주세요";
             case QUANTITY_SELECTION:
                 return "수량을 말씀해주세요";
             case ORDER_CONFIRMATION:
@@ -392,7 +474,7 @@ public class ChatService {
         
         // 에러 이벤트 발송
         ServerErrorEvent errorEvent = ServerErrorEvent.of(sessionId, errorCode);
-        eventPublisher.publishEvent(errorEvent);
+        eventBus.publish(errorEvent);
         
         return errorCode.getMessage();
     }
@@ -405,55 +487,16 @@ public class ChatService {
         
         // 에러 이벤트 발송
         ServerErrorEvent errorEvent = ServerErrorEvent.of(sessionId, errorCode);
-        eventPublisher.publishEvent(errorEvent);
+        eventBus.publish(errorEvent);
         
         return errorCode.getMessage();
     }
 
     /**
-     * 주문 완료 동의어 체크
-     */
-    private boolean isOrderComplete(String message) {
-        String[] completeKeywords = {
-            // 기존 표현
-            "주문완료", "주문 완료", "결제", "끝", "마무리", "이게다", "이게 다",
-            "마치겠습니다", "완료", "주문마치기", "주문 마치기", "그만", "종료", "종료하겠습니다",
-            "마칠게", "마치겠", "마칠게여", "마치겠음",
-
-            // 추가 표현(사용자 구어체 대응)
-            "맞출게", "맞출께", "주문 맞출게", "주문을 맞출게", "주문 맞출께", "주문을 맞출께",
-            "주문 끝", "주문 끝낼게", "주문 끝내줘", "주문 끝낼게요",
-            "주문 마무리", "주문 마무리해줘", "주문 완료할게",
-            "결제할게", "결제할께", "결제해줘", "결제 진행해줘", "결제합니다",
-
-            // 일반적 표현(과도한 오탐을 피하기 위해 완료 의도가 담긴 형태 위주)
-            "끝내줘", "끝낼게", "끝내겠습니다",
-            "마칠게요", "마무리할게", "마무리해줘",
-            "계산할게", "계산해줘"
-        };
-        
-        for (String keyword : completeKeywords) {
-            if (message.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * 메뉴 추가 의사 체크
+     * 현재 대화 상태 조회 (클라이언트 재동기화용)
      */
-    private boolean isAddMore(String message) {
-        String[] addKeywords = {
-            "더", "추가", "더주문", "더 주문", "메뉴추가", "메뉴 추가", "하나더", "하나 더"
-        };
-        
-        for (String keyword : addKeywords) {
-            if (message.contains(keyword)) {
-                return true;
-            }
-        }
-        return false;
+    public DialogState getDialogState(String sessionId) {
+        return buildDialogState(sessionId);
     }
 
     /**
@@ -479,6 +522,7 @@ public class ChatService {
         return switch (session.getState()) {
             case GREETING -> "안녕하세요! 주문하실 메뉴를 말씀해주세요.";
             case MENU_SELECTION -> "주문하실 메뉴를 말씀해주세요.";
+            case OPTION_SELECTION -> "따뜻하게 드릴까요, 아이스로 드릴까요?";
             case QUANTITY_SELECTION -> "몇 개 드릴까요?";
             case ORDER_CONFIRMATION -> "메뉴를 더 담겠습니까? 주문을 마치겠습니까?";
         };
@@ -488,20 +532,49 @@ public class ChatService {
      * 세션 정리
      */
     public void clearSession(String sessionId) {
-        sessions.remove(sessionId);
+        ChatSession session = sessions.remove(sessionId);
+        if (session != null) {
+            // 세션이 끝날 때 최근 전이 기록을 남긴다 (추적용)
+            List<TransitionRecord> trace = session.trace();
+            if (!trace.isEmpty()) {
+                log.info("대화 전이 기록 [{}] {}턴: {}", sessionId, session.getTurns(),
+                    trace.stream().map(TransitionRecord::summary).collect(Collectors.joining(" | ")));
+            }
+        }
         log.info("세션 정리 완료 [{}]", sessionId);
     }
 
+    /**
+     * 연결의 매장 지정. 이후 이 세션의 메뉴 검색은 해당 매장 카탈로그만 본다
+     */
+    public void bindStore(String sessionId, long storeId) {
+        storeBySession.put(sessionId, storeId);
+        ChatSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.setStoreId(storeId);
+        }
+    }
+
+    /**
+     * 연결 종료. 대화 세션과 매장 지정을 모두 정리
+     */
+    public void closeSession(String sessionId) {
+        storeBySession.remove(sessionId);
+        clearSession(sessionId);
+    }
+
     /**
      * 세션 가져오기 (없으면 생성)
      */
     private ChatSession getSession(String sessionId) {
-        return sessions.computeIfAbsent(sessionId, k -> new ChatSession());
+        return sessions.computeIfAbsent(sessionId,
+            k -> new ChatSession(storeBySession.getOrDefault(sessionId, Stores.DEFAULT_ID)));
     }
 
     public enum ConversationState {
         GREETING,
         MENU_SELECTION,
+        OPTION_SELECTION,
         QUANTITY_SELECTION,
         ORDER_CONFIRMATION
     }
@@ -518,10 +591,38 @@ public class ChatService {
             this.menu = menu;
         }
     }
+    /**
+     * 한 턴의 전이 컨텍스트
+     */
+    private record Turn(String sessionId, String message, IntentResult intents, ChatSession session) {
+    }
+
     @Data
     private static class ChatSession {
+        private static final int TRACE_LIMIT = 50;
+
+        private long storeId;
         private ConversationState state = ConversationState.GREETING;
         private OrderItem currentItem;
-        private List<OrderItem> cart = new ArrayList<>();
+        private OrderCart cart = new OrderCart();
+        private Deque<OrderItem> pendingItems = new ArrayDeque<>(); // 수량/옵션을 아직 묻지 않은 메뉴
+        private final Deque<TransitionRecord> transitions = new ArrayDeque<>(TRACE_LIMIT);
+        private long turns;
+
+        ChatSession(long storeId) {
+            this.storeId = storeId;
+        }
+
+        synchronized void record(DialogFlow.Fired<ConversationState> fired, String message) {
+            if (transitions.size() == TRACE_LIMIT) {
+                transitions.removeFirst();
+            }
+            transitions.addLast(new TransitionRecord(++turns, Instant.now(), fired.from().name(),
+                fired.transition(), fired.to().name(), LogText.transcript(message)));
+        }
+
+        synchronized List<TransitionRecord> trace() {
+            return List.copyOf(transitions);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.example.unithon.domain.chat.service;
+
+import com.example.unithon.domain.chat.dto.MacroOrderBatch;
+import com.example.unithon.domain.chat.dto.MacroOrderBatchResult;
+import com.example.unithon.domain.chat.dto.MacroOrderBatchResult.OrderResult;
+import com.example.unithon.domain.chat.dto.MacroOrderData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 매크로 웹훅 배치 전송기.
+ * 주문은 큐에 넣기만 하고(대화 처리 스레드는 기다리지 않는다), 워커 스레드 하나가 첫 주문부터 maxDelay 동안 또는 maxSize개까지 모아
+ * gzip 요청 하나로 보낸다. 주문마다 idempotencyKey를 붙이고, 응답의 주문별 결과를 보고 재시도할 수 있는 실패만 다시 큐에 넣는다.
+ */
+@Slf4j
+class MacroOrderBatcher {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final RestTemplate restTemplate;
+    private final String batchUrl;
+    private final String macroWebhookToken;
+    private final ObjectMapper objectMapper;
+    private final MacroWebhookBatchProperties properties;
+    // 요청 하나의 결과와 시작 시각(System.nanoTime)을 받아 지연 시간을 기록
+    private final ObjLongConsumer<String> requestRecorder;
+
+    private final BlockingQueue<MacroOrderBatch.Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSizes;
+    private final DistributionSummary compressedBytes;
+    private final MeterRegistry meterRegistry;
+
+    MacroOrderBatcher(RestTemplate restTemplate, String batchUrl, String macroWebhookToken, ObjectMapper objectMapper,
+                      MacroWebhookBatchProperties properties, MeterRegistry meterRegistry,
+                      ObjLongConsumer<String> requestRecorder) {
+        this.restTemplate = restTemplate;
+        this.batchUrl = batchUrl;
+        this.macroWebhookToken = macroWebhookToken;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.requestRecorder = requestRecorder;
+        this.meterRegistry = meterRegistry;
+
+        this.batchSizes = DistributionSummary.builder("macro.webhook.batch.size")
+            .description("배치 요청 하나에 담긴 주문 수")
+            .register(meterRegistry);
+        this.compressedBytes = DistributionSummary.builder("macro.webhook.batch.bytes")
+            .description("배치 요청 본문 크기 (압축 후)")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("macro.webhook.batch.queue", queue, BlockingQueue::size)
+            .description("배치 전송을 기다리는 주문 수")
+            .register(meterRegistry);
+
+        this.worker = new Thread(this::run, "macro-webhook-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+        log.info("매크로 웹훅 배치 전송 사용: {} (최대 {}건, {}ms, gzip {})", batchUrl,
+            properties.maxSize(), properties.maxDelay().toMillis(), properties.gzip());
+    }
+
+    /**
+     * 주문을 배치 큐에 넣는다. 전송은 워커 스레드에서
+     */
+    void submit(MacroOrderData orderData) {
+        if (!running) {
+            log.error("매크로 웹훅 배치 전송기가 종료되어 주문을 보내지 못함 [{}]", orderData.getSessionId());
+            countOrders("dropped", 1);
+            return;
+        }
+        queue.add(new MacroOrderBatch.Entry(UUID.randomUUID().toString(), 1, orderData));
+    }
+
+    /**
+     * 남은 주문을 모두 보낸 뒤 워커 종료 (최대 timeout 대기)
+     */
+    void close(long timeout, TimeUnit unit) {
+        running = false;
+        try {
+            worker.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("매크로 웹훅 배치 전송기 종료: 보내지 못한 주문 {}건", queue.size());
+        }
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<MacroOrderBatch.Entry> batch = new ArrayList<>(properties.maxSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                MacroOrderBatch.Entry first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + properties.maxDelay().toNanos();
+                while (batch.size() < properties.maxSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    MacroOrderBatch.Entry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("매크로 웹훅 배치 처리 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<MacroOrderBatch.Entry> batch) throws InterruptedException {
+        long start = System.nanoTime();
+        String batchId = UUID.randomUUID().toString();
+        batchSizes.record(batch.size());
+
+        MacroOrderBatchResult result;
+        try {
+            byte[] body = encode(new MacroOrderBatch(batchId, List.copyOf(batch)));
+            compressedBytes.record(body.length);
+            ResponseEntity<MacroOrderBatchResult> response = restTemplate.exchange(
+                batchUrl, HttpMethod.POST, new HttpEntity<>(body, headers(batchId)), MacroOrderBatchResult.class);
+            result = response.getBody();
+        } catch (HttpStatusCodeException e) {
+            int status = e.getStatusCode().value();
+            requestRecorder.accept("http_" + status, start);
+            // 4xx는 다시 보내도 같은 결과 (429 제외)
+            boolean retryable = e.getStatusCode().is5xxServerError() || status == 429;
+            log.warn("매크로 웹훅 배치 전송 실패 [{}]: {} ({}건)", batchId, status, batch.size());
+            fail(batch, retryable, "http_" + status);
+            return;
+        } catch (Exception e) {
+            requestRecorder.accept("error", start);
+            log.warn("매크로 웹훅 배치 전송 오류 [{}]: {} ({}건)", batchId, e.getMessage(), batch.size());
+            fail(batch, true, e.getMessage());
+            return;
+        }
+
+        Map<String, OrderResult> results = new HashMap<>();
+        if (result != null && result.getResults() != null) {
+            result.getResults().forEach(r -> results.put(r.getIdempotencyKey(), r));
+        }
+        List<MacroOrderBatch.Entry> retry = new ArrayList<>();
+        int accepted = 0;
+        for (MacroOrderBatch.Entry entry : batch) {
+            OrderResult orderResult = results.get(entry.getIdempotencyKey());
+            if (orderResult == null) {
+                // 결과가 빠진 주문은 처리 여부를 모르므로 같은 키로 다시 보낸다
+                retry.add(entry);
+            } else if (OrderResult.ACCEPTED.equals(orderResult.getStatus())
+                || OrderResult.DUPLICATE.equals(orderResult.getStatus())) {
+                accepted++;
+                countOrders(orderResult.getStatus(), 1);
+            } else if (orderResult.isRetryable()) {
+                retry.add(entry);
+            } else {
+                countOrders(OrderResult.REJECTED, 1);
+                log.error("매크로팀 주문 거부 [{}]: {}", entry.getOrder().getSessionId(), orderResult.getMessage());
+            }
+        }
+        requestRecorder.accept(retry.isEmpty() ? "ok" : "partial", start);
+        log.info("매크로 웹훅 배치 전송 [{}]: {}건 중 {}건 성공, {}건 재시도", batchId, batch.size(), accepted, retry.size());
+        if (!retry.isEmpty()) {
+            fail(retry, true, "partial");
+        }
+    }
+
+    /**
+     * 실패한 주문 처리. 재시도할 수 있고 시도 횟수가 남았으면 잠시 쉬었다가 큐에 다시 넣는다
+     */
+    private void fail(List<MacroOrderBatch.Entry> entries, boolean retryable, String reason) throws InterruptedException {
+        List<MacroOrderBatch.Entry> requeue = new ArrayList<>(entries.size());
+        for (MacroOrderBatch.Entry entry : entries) {
+            if (retryable && entry.getAttempt() < properties.maxAttempts()) {
+                requeue.add(new MacroOrderBatch.Entry(entry.getIdempotencyKey(), entry.getAttempt() + 1, entry.getOrder()));
+            } else {
+                countOrders("failed", 1);
+                log.error("매크로팀 주문 전송 포기 [{}]: {} ({}회 시도)",
+                    entry.getOrder().getSessionId(), reason, entry.getAttempt());
+            }
+        }
+        if (requeue.isEmpty()) {
+            return;
+        }
+        countOrders("retried", requeue.size());
+        // 웹훅 서버가 회복할 시간을 준다. 그동안 새 주문은 큐에 쌓인다
+        TimeUnit.NANOSECONDS.sleep(properties.retryBackoff().toNanos());
+        queue.addAll(requeue);
+    }
+
+    private HttpHeaders headers(String batchId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (properties.gzip()) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.set("X-Batch-Id", batchId);
+        if (macroWebhookToken != null && !macroWebhookToken.isBlank()) {
+            headers.set("X-Macro-Token", macroWebhookToken);
+        }
+        return headers;
+    }
+
+    private byte[] encode(MacroOrderBatch batch) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(batch);
+        if (!properties.gzip()) {
+            return json;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private void countOrders(String status, int count) {
+        Counter.builder("macro.webhook.batch.orders")
+            .description("배치 전송 주문 처리 결과")
+            .tag("status", status)
+            .register(meterRegistry)
+            .increment(count);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.unithon.domain.chat.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 매크로 웹훅 배치 전송 설정. 켜면 주문을 maxDelay 또는 maxSize까지 모아 gzip 요청 하나로 보낸다.
+ * url이 비어 있으면 macro.webhook.url 뒤에 /batch를 붙인다
+ */
+@ConfigurationProperties(prefix = "macro.webhook.batch")
+public record MacroWebhookBatchProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("") String url,
+	@DefaultValue("20") int maxSize,
+	@DefaultValue("50ms") Duration maxDelay,
+	@DefaultValue("3") int maxAttempts,
+	@DefaultValue("200ms") Duration retryBackoff,
+	@DefaultValue("true") boolean gzip
+) {
+
+	public String resolveUrl(String webhookUrl) {
+		if (url != null && !url.isBlank()) {
+			return url;
+		}
+		return webhookUrl.endsWith("/") ? webhookUrl + "batch" : webhookUrl + "/batch";
+	}
+}
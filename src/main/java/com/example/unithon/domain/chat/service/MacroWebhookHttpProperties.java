@@ -0,0 +1,20 @@
+package com.example.unithon.domain.chat.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 매크로 웹훅 전용 HTTP 클라이언트 설정.
+ * 연결은 JDK HttpClient가 관리하고(keep-alive, https면 HTTP/2), 웹훅 주소로 동시에 보내는 요청은 maxInFlight개로 제한한다.
+ * 한도에 걸린 주문은 버리지 않고 자리가 날 때까지 기다린다
+ */
+@ConfigurationProperties(prefix = "macro.webhook.http")
+public record MacroWebhookHttpProperties(
+	@DefaultValue("2s") Duration connectTimeout,
+	@DefaultValue("5s") Duration readTimeout,
+	@DefaultValue("8") int maxInFlight,
+	@DefaultValue("true") boolean http2
+) {
+}
@@ -1,42 +1,152 @@
 package com.example.unithon.domain.chat.service;
 
 import com.example.unithon.domain.chat.dto.MacroOrderData;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Service
 @Slf4j
 public class MacroWebhookService {
 
+    private static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
     private final String macroWebhookUrl;
     private final String macroWebhookToken;
     private final RestTemplate restTemplate;
+    private final TurnMetrics turnMetrics;
+    private final MeterRegistry meterRegistry;
+    // 주문 전송 전용 스레드. 스레드 수만큼만 동시에 요청하고(연결 관리는 JDK HttpClient), 나머지는 큐에서 기다린다.
+    // 세션 작업과 분리되어 있어 결제 후 연결이 끊겨도 전송이 취소되지 않는다
+    private final ThreadPoolExecutor deliveryExecutor;
+    // macro.webhook.batch.enabled일 때만. 주문을 모아 gzip 배치로 보낸다
+    private MacroOrderBatcher batcher;
 
     @Autowired
     public MacroWebhookService(
         @Value("${macro.webhook.url:http://localhost:9999/api/orders}") String macroWebhookUrl,
         @Value("${macro.webhook.token:}") String macroWebhookToken,
-        RestTemplateBuilder restTemplateBuilder
+        RestTemplateBuilder restTemplateBuilder,
+        MacroWebhookHttpProperties httpProperties,
+        MacroWebhookBatchProperties batchProperties,
+        ObjectMapper objectMapper,
+        TurnMetrics turnMetrics,
+        MeterRegistry meterRegistry
     ) {
-        this(restTemplateBuilder.build(), macroWebhookUrl, macroWebhookToken);
+        this(webhookRestTemplate(restTemplateBuilder, macroWebhookUrl, httpProperties), macroWebhookUrl, macroWebhookToken,
+            turnMetrics, meterRegistry, httpProperties.maxInFlight());
+        if (batchProperties.enabled()) {
+            this.batcher = new MacroOrderBatcher(restTemplate, batchProperties.resolveUrl(macroWebhookUrl),
+                macroWebhookToken, objectMapper, batchProperties, meterRegistry, this::record);
+        }
     }
 
     MacroWebhookService(
         RestTemplate restTemplate,
         String macroWebhookUrl,
         String macroWebhookToken
+    ) {
+        this(restTemplate, macroWebhookUrl, macroWebhookToken, new TurnMetrics(new SimpleMeterRegistry()));
+    }
+
+    MacroWebhookService(
+        RestTemplate restTemplate,
+        String macroWebhookUrl,
+        String macroWebhookToken,
+        TurnMetrics turnMetrics
+    ) {
+        this(restTemplate, macroWebhookUrl, macroWebhookToken, turnMetrics, new SimpleMeterRegistry(),
+            DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    MacroWebhookService(
+        RestTemplate restTemplate,
+        String macroWebhookUrl,
+        String macroWebhookToken,
+        TurnMetrics turnMetrics,
+        MeterRegistry meterRegistry,
+        int maxInFlight
     ) {
         this.restTemplate = restTemplate;
         this.macroWebhookUrl = macroWebhookUrl;
         this.macroWebhookToken = macroWebhookToken;
+        this.turnMetrics = turnMetrics;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.deliveryExecutor = new ThreadPoolExecutor(Math.max(1, maxInFlight), Math.max(1, maxInFlight),
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "macro-webhook-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        Gauge.builder("macro.webhook.in-flight", deliveryExecutor, ThreadPoolExecutor::getActiveCount)
+            .description("진행 중인 매크로 웹훅 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("macro.webhook.queue", deliveryExecutor, executor -> executor.getQueue().size())
+            .description("전송 차례를 기다리는 주문 수")
+            .register(meterRegistry);
     }
 
+    /**
+     * 웹훅 전용 RestTemplate. JDK HttpClient 하나가 연결을 재사용하고, https 주소면 HTTP/2로 붙는다.
+     */
+    private static RestTemplate webhookRestTemplate(RestTemplateBuilder restTemplateBuilder, String macroWebhookUrl,
+                                                    MacroWebhookHttpProperties httpProperties) {
+        // 평문 http에서는 h2c 업그레이드 헤더를 붙이지 않도록 HTTP/1.1 keep-alive만 쓴다
+        HttpClient.Version version = httpProperties.http2() && macroWebhookUrl.startsWith("https")
+            ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+        log.info("매크로 웹훅 HTTP 클라이언트: {} (연결 {}ms, 응답 {}ms, 동시 요청 {}개)", version,
+            httpProperties.connectTimeout().toMillis(), httpProperties.readTimeout().toMillis(),
+            httpProperties.maxInFlight());
+        return restTemplateBuilder
+            .requestFactoryBuilder(ClientHttpRequestFactoryBuilder.jdk()
+                .withHttpClientCustomizer(builder -> builder.version(version)))
+            .requestFactorySettings(ClientHttpRequestFactorySettings.defaults()
+                .withTimeouts(httpProperties.connectTimeout(), httpProperties.readTimeout()))
+            .build();
+    }
+
+    /**
+     * 주문 전송. 전송 전용 스레드(배치 모드면 배치 큐)에 넘기고 바로 돌아온다.
+     * 결제까지 끝난 주문이므로 동시 요청 한도에 걸려도 버리지 않고 앞선 요청이 끝날 때까지 기다린다
+     */
     public void sendOrderToMacro(MacroOrderData orderData) {
+        if (batcher != null) {
+            batcher.submit(orderData);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            deliveryExecutor.execute(() -> deliver(orderData, start));
+        } catch (RejectedExecutionException e) {
+            record("dropped", start);
+            log.error("매크로 웹훅 전송기가 종료되어 주문을 보내지 못함 [{}]", orderData.getSessionId());
+        }
+    }
+
+    private void deliver(MacroOrderData orderData, long start) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -52,6 +162,8 @@ public class MacroWebhookService {
                 String.class
             );
             
+            record(response.getStatusCode().is2xxSuccessful() ? "ok"
+                : "http_" + response.getStatusCode().value(), start);
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("매크로팀 주문 전송 성공 [{}]: {}",
                     orderData.getSessionId(), response.getStatusCode());
@@ -61,8 +173,44 @@ public class MacroWebhookService {
             }
             
         } catch (Exception e) {
+            record("error", start);
             log.error("매크로팀 주문 전송 오류 [{}]: {}",
                 orderData.getSessionId(), e.getMessage(), e);
         }
     }
+
+    /**
+     * 종료 시 큐에 남은 주문을 보낸다 (최대 5초)
+     */
+    @PreDestroy
+    void shutdown() {
+        if (batcher != null) {
+            batcher.close(5, TimeUnit.SECONDS);
+        }
+        deliveryExecutor.shutdown();
+        try {
+            if (!deliveryExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.error("매크로 웹훅 전송기 종료: 보내지 못한 주문 {}건", deliveryExecutor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            deliveryExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 턴 단계 지연(chat.turn.stage)과 웹훅 전용 지연 히스토그램(macro.webhook.request)을 같이 기록
+     */
+    private void record(String result, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        turnMetrics.recordNanos(Stage.WEBHOOK, result, elapsedNanos);
+        Timer.builder("macro.webhook.request")
+            .description("매크로 웹훅 요청 소요 시간 (대기 포함)")
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(5))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
 }
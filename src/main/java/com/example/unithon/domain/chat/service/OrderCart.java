@@ -0,0 +1,196 @@
+package com.example.unithon.domain.chat.service;
+
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.menu.entity.Menu;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 장바구니.
+ * 메뉴/옵션 코드/수량을 원시 배열로 보관하고 합계와 dialog.state용 CartItem은 담는 시점에 한 번만 계산한다.
+ * 장바구니는 추가만 가능하며(append-only), 비우려면 새 인스턴스를 만든다.
+ * 추가와 읽기는 모두 같은 락으로 보호되어 음성 턴과 명령 처리 스레드가 함께 써도 된다.
+ */
+class OrderCart {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final AtomicLong EPOCH_SEQUENCE = new AtomicLong();
+
+    // 옵션 코드: 하위 2비트 = 온도, 그 위 2비트 = 사이즈
+    static final int TEMPERATURE_NONE = 0;
+    static final int TEMPERATURE_ICE = 1;
+    static final int TEMPERATURE_HOT = 2;
+    static final int SIZE_NONE = 0;
+    static final int SIZE_REGULAR = 1 << 2;
+    static final int SIZE_LARGE = 2 << 2;
+
+    // 옵션 코드별로 미리 만들어 둔 표시 문자열 (buildSelectedOptionsText 대체)
+    private static final String[] OPTION_TEXTS = new String[16];
+
+    static {
+        for (int code = 0; code < OPTION_TEXTS.length; code++) {
+            StringBuilder text = new StringBuilder();
+            int temperature = code & 0b11;
+            if (temperature == TEMPERATURE_ICE) {
+                text.append("아이스 ");
+            } else if (temperature == TEMPERATURE_HOT) {
+                text.append("핫 ");
+            }
+            if ((code & 0b1100) == SIZE_LARGE) {
+                text.append("라지 ");
+            }
+            OPTION_TEXTS[code] = text.toString().trim();
+        }
+    }
+
+    private final long epoch = EPOCH_SEQUENCE.incrementAndGet();
+
+    private Menu[] menus = new Menu[INITIAL_CAPACITY];
+    private byte[] optionCodes = new byte[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] unitPrices = new int[INITIAL_CAPACITY];
+    private DialogState.CartItem[] cartItems = new DialogState.CartItem[INITIAL_CAPACITY];
+    private int size;
+
+    private int totalPrice;
+
+    /**
+     * 주문 항목을 장바구니에 담고 합계를 갱신
+     */
+    synchronized void add(ChatService.OrderItem item) {
+        ensureCapacity(size + 1);
+
+        Menu menu = item.getMenu();
+        int optionCode = encodeOptions(item.getTemperature(), item.getSize());
+        int unitPrice = menu.getBasePrice().intValue();
+        int linePrice = unitPrice * item.getQuantity();
+
+        menus[size] = menu;
+        optionCodes[size] = (byte) optionCode;
+        quantities[size] = item.getQuantity();
+        unitPrices[size] = unitPrice;
+        cartItems[size] = DialogState.CartItem.builder()
+            .menu(menu.getDisplayName())
+            .options(OPTION_TEXTS[optionCode])
+            .quantity(item.getQuantity())
+            .price(linePrice)
+            .build();
+        size++;
+
+        totalPrice += linePrice;
+    }
+
+    /**
+     * dialog.state에 실을 장바구니 스냅샷.
+     * 배열 앞부분에 대한 읽기 전용 뷰라 복사 없이 O(1)이며, 이후 추가되는 항목은 보이지 않는다.
+     */
+    synchronized List<DialogState.CartItem> snapshot() {
+        return Collections.unmodifiableList(Arrays.asList(cartItems).subList(0, size));
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int getTotalPrice() {
+        return totalPrice;
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    synchronized Menu menuAt(int index) {
+        Objects.checkIndex(index, size);
+        return menus[index];
+    }
+
+    synchronized int quantityAt(int index) {
+        Objects.checkIndex(index, size);
+        return quantities[index];
+    }
+
+    synchronized int unitPriceAt(int index) {
+        Objects.checkIndex(index, size);
+        return unitPrices[index];
+    }
+
+    synchronized int linePriceAt(int index) {
+        Objects.checkIndex(index, size);
+        return unitPrices[index] * quantities[index];
+    }
+
+    synchronized String optionTextAt(int index) {
+        Objects.checkIndex(index, size);
+        return OPTION_TEXTS[optionCodes[index]];
+    }
+
+    synchronized String temperatureAt(int index) {
+        Objects.checkIndex(index, size);
+        return decodeTemperature(optionCodes[index]);
+    }
+
+    synchronized String sizeAt(int index) {
+        Objects.checkIndex(index, size);
+        return decodeSize(optionCodes[index]);
+    }
+
+    static int encodeOptions(String temperature, String size) {
+        int code = TEMPERATURE_NONE;
+        if ("ICE".equals(temperature)) {
+            code = TEMPERATURE_ICE;
+        } else if ("HOT".equals(temperature)) {
+            code = TEMPERATURE_HOT;
+        }
+        if ("LARGE".equals(size)) {
+            code |= SIZE_LARGE;
+        } else if ("REGULAR".equals(size)) {
+            code |= SIZE_REGULAR;
+        }
+        return code;
+    }
+
+    static String optionText(String temperature, String size) {
+        return OPTION_TEXTS[encodeOptions(temperature, size)];
+    }
+
+    private static String decodeTemperature(int code) {
+        return switch (code & 0b11) {
+            case TEMPERATURE_ICE -> "ICE";
+            case TEMPERATURE_HOT -> "HOT";
+            default -> null;
+        };
+    }
+
+    private static String decodeSize(int code) {
+        return switch (code & 0b1100) {
+            case SIZE_REGULAR -> "REGULAR";
+            case SIZE_LARGE -> "LARGE";
+            default -> null;
+        };
+    }
+
+    /**
+     * 용량이 부족하면 배열을 새로 할당한다.
+     * cartItems는 기존 배열을 수정하지 않고 복사하므로 이미 내보낸 스냅샷은 그대로 유지된다.
+     */
+    private void ensureCapacity(int required) {
+        if (required <= menus.length) {
+            return;
+        }
+        int newCapacity = Math.max(required, menus.length * 2);
+        menus = Arrays.copyOf(menus, newCapacity);
+        optionCodes = Arrays.copyOf(optionCodes, newCapacity);
+        quantities = Arrays.copyOf(quantities, newCapacity);
+        unitPrices = Arrays.copyOf(unitPrices, newCapacity);
+        cartItems = Arrays.copyOf(cartItems, newCapacity);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.unithon.domain.intent.entity;
+
+import com.example.unithon.domain.intent.service.Intent;
+import com.example.unithon.domain.intent.service.NegationScope;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 의도 인식 사전 항목. 기본 사전에 더해지며, 같은 키워드/의도 조합이면 가중치를 덮어쓴다 (0이면 비활성).
+ * intent 또는 negation 중 하나만 지정한다.
+ */
+@Entity
+@Table(name = "intent_keyword")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IntentKeyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private Intent intent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private NegationScope negation;
+
+    @Column(columnDefinition = "DOUBLE DEFAULT 1.0")
+    private Double weight = 1.0;
+
+    @Column(columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean wholeWord = false;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public IntentKeyword(String keyword, Intent intent, NegationScope negation, Double weight, Boolean wholeWord) {
+        this.keyword = keyword;
+        this.intent = intent;
+        this.negation = negation;
+        this.weight = weight;
+        this.wholeWord = wholeWord;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.unithon.domain.intent.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.unithon.domain.intent.entity.IntentKeyword;
+
+public interface IntentKeywordRepository extends JpaRepository<IntentKeyword, Long> {
+}
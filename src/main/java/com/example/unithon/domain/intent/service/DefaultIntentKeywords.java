@@ -0,0 +1,82 @@
+package com.example.unithon.domain.intent.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기본 의도 사전. DB(intent_keyword)에 같은 키워드/의도가 있으면 그 값이 우선한다.
+ */
+final class DefaultIntentKeywords {
+
+    private static final String[] GREETING = {
+        "안녕", "하이", "주문"
+    };
+
+    private static final String[] ORDER_COMPLETE = {
+        // 기존 표현
+        "주문완료", "주문 완료", "결제", "끝", "마무리", "이게다", "이게 다",
+        "마치겠습니다", "완료", "주문마치기", "주문 마치기", "그만", "종료", "종료하겠습니다",
+        "마칠게", "마치겠", "마칠게여", "마치겠음",
+
+        // 추가 표현(사용자 구어체 대응)
+        "맞출게", "맞출께", "주문 맞출게", "주문을 맞출게", "주문 맞출께", "주문을 맞출께",
+        "주문 끝", "주문 끝낼게", "주문 끝내줘", "주문 끝낼게요",
+        "주문 마무리", "주문 마무리해줘", "주문 완료할게",
+        "결제할게", "결제할께", "결제해줘", "결제 진행해줘", "결제합니다",
+
+        // 일반적 표현(과도한 오탐을 피하기 위해 완료 의도가 담긴 형태 위주)
+        "끝내줘", "끝낼게", "끝내겠습니다",
+        "마칠게요", "마무리할게", "마무리해줘",
+        "계산할게", "계산해줘"
+    };
+
+    // "더"는 더블 에스프레소, 더워요 등과 겹치므로 단독 단어일 때만 인정
+    private static final String[] ADD_MORE = {
+        "추가", "더주문", "더 주문", "메뉴추가", "메뉴 추가", "하나더", "하나 더", "더 담", "더담"
+    };
+
+    private static final String[] ADD_MORE_WHOLE_WORD = {
+        "더", "더요"
+    };
+
+    private static final String[] GENERAL_QUESTION = {
+        "뭐", "무엇", "어떤", "얼마", "가격", "비싼", "싼", "저렴", "제일", "가장",
+        "추천", "인기", "맛있는", "몇개", "몇 개", "얼마나", "어디", "언제",
+        "왜", "어떻게", "몇시", "몇 시", "정보", "알려", "궁금", "문의"
+    };
+
+    private static final String[] NEGATE_NEXT_WHOLE_WORD = {
+        "안", "못", "아직"
+    };
+
+    private static final String[] NEGATE_PREVIOUS = {
+        "말고", "않", "안 ", "안할", "싫어"
+    };
+
+    private DefaultIntentKeywords() {
+    }
+
+    static List<IntentRecognizer.Entry> entries() {
+        List<IntentRecognizer.Entry> entries = new ArrayList<>();
+        addIntent(entries, GREETING, Intent.GREETING, false);
+        addIntent(entries, ORDER_COMPLETE, Intent.ORDER_COMPLETE, false);
+        addIntent(entries, ADD_MORE, Intent.ADD_MORE, false);
+        addIntent(entries, ADD_MORE_WHOLE_WORD, Intent.ADD_MORE, true);
+        addIntent(entries, GENERAL_QUESTION, Intent.GENERAL_QUESTION, false);
+        addNegation(entries, NEGATE_NEXT_WHOLE_WORD, NegationScope.NEXT, true);
+        addNegation(entries, NEGATE_PREVIOUS, NegationScope.PREVIOUS, false);
+        return entries;
+    }
+
+    private static void addIntent(List<IntentRecognizer.Entry> entries, String[] keywords, Intent intent, boolean wholeWord) {
+        for (String keyword : keywords) {
+            entries.add(new IntentRecognizer.Entry(keyword, intent, null, 1.0, wholeWord));
+        }
+    }
+
+    private static void addNegation(List<IntentRecognizer.Entry> entries, String[] keywords, NegationScope scope, boolean wholeWord) {
+        for (String keyword : keywords) {
+            entries.add(new IntentRecognizer.Entry(keyword, null, scope, 0, wholeWord));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.unithon.domain.intent.service;
+
+public enum Intent {
+    GREETING,          // 안녕, 하이
+    ORDER_COMPLETE,    // 주문 완료, 결제할게
+    ADD_MORE,          // 더 주문, 메뉴 추가
+    GENERAL_QUESTION   // 가격, 추천 등 메뉴 관련 질문
+}
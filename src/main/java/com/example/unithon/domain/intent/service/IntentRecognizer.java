@@ -0,0 +1,170 @@
+package com.example.unithon.domain.intent.service;
+
+import com.example.unithon.domain.intent.entity.IntentKeyword;
+import com.example.unithon.domain.intent.repository.IntentKeywordRepository;
+import com.example.unithon.global.text.KeywordAutomaton;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 사전 기반 의도 인식기.
+ * 사전을 Aho-Corasick 오토마톤으로 컴파일해 두고 발화를 한 번만 훑어 모든 의도의 점수를 계산한다.
+ * 부정 표현(안, 말고, 않 등)이 가까이 붙은 키워드는 점수에서 제외한다.
+ * 사전은 기본값에 DB(intent_keyword)를 덧씌운 것이며 주기적으로 다시 읽어 재배포 없이 바꿀 수 있다.
+ */
+@Service
+@Slf4j
+public class IntentRecognizer {
+
+    // 부정 표현과 키워드 사이에 허용하는 최대 글자 수
+    private static final int NEGATION_WINDOW = 4;
+
+    private final IntentKeywordRepository intentKeywordRepository;
+
+    private volatile CompiledDictionary dictionary;
+
+    public IntentRecognizer(IntentKeywordRepository intentKeywordRepository) {
+        this.intentKeywordRepository = intentKeywordRepository;
+        this.dictionary = CompiledDictionary.compile(DefaultIntentKeywords.entries());
+    }
+
+    /**
+     * 발화에서 모든 의도를 한 번에 인식
+     */
+    public IntentResult recognize(String message) {
+        if (message == null || message.isEmpty()) {
+            return new IntentResult(new double[Intent.values().length]);
+        }
+        return dictionary.recognize(message);
+    }
+
+    /**
+     * DB 사전을 다시 읽어 오토마톤을 교체
+     */
+    @Scheduled(fixedDelayString = "${intent.dictionary.refresh-interval-ms:60000}")
+    public void reload() {
+        try {
+            Map<String, Entry> merged = new LinkedHashMap<>();
+            for (Entry entry : DefaultIntentKeywords.entries()) {
+                merged.put(entry.key(), entry);
+            }
+            for (IntentKeyword keyword : intentKeywordRepository.findAll()) {
+                Entry entry = new Entry(
+                    keyword.getKeyword(),
+                    keyword.getIntent(),
+                    keyword.getNegation(),
+                    keyword.getWeight() != null ? keyword.getWeight() : 1.0,
+                    Boolean.TRUE.equals(keyword.getWholeWord())
+                );
+                merged.put(entry.key(), entry);
+            }
+            List<Entry> entries = merged.values().stream()
+                .filter(entry -> entry.negation() != null || entry.weight() != 0)
+                .toList();
+            dictionary = CompiledDictionary.compile(entries);
+            log.debug("의도 사전 갱신 완료: {}개 키워드", entries.size());
+        } catch (Exception e) {
+            log.warn("의도 사전 갱신 실패, 기존 사전 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전 항목. intent 또는 negation 중 하나만 지정
+     */
+    record Entry(String keyword, Intent intent, NegationScope negation, double weight, boolean wholeWord) {
+
+        String key() {
+            return keyword + "|" + (intent != null ? intent.name() : "NEGATE_" + negation.name());
+        }
+    }
+
+    private static final class CompiledDictionary {
+
+        private final KeywordAutomaton automaton;
+        private final Entry[] entries;
+
+        private CompiledDictionary(KeywordAutomaton automaton, Entry[] entries) {
+            this.automaton = automaton;
+            this.entries = entries;
+        }
+
+        static CompiledDictionary compile(List<Entry> entries) {
+            List<String> keywords = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                keywords.add(entry.keyword());
+            }
+            return new CompiledDictionary(KeywordAutomaton.compile(keywords), entries.toArray(new Entry[0]));
+        }
+
+        IntentResult recognize(String message) {
+            MatchCollector matches = new MatchCollector();
+            automaton.scan(message, (index, start, end) -> {
+                Entry entry = entries[index];
+                if (!entry.wholeWord() || isWholeWord(message, start, end)) {
+                    matches.add(index, start, end);
+                }
+            });
+
+            double[] scores = new double[Intent.values().length];
+            for (int i = 0; i < matches.size; i++) {
+                Entry entry = entries[matches.keyword[i]];
+                if (entry.intent() != null && !isNegated(matches, i)) {
+                    scores[entry.intent().ordinal()] += entry.weight();
+                }
+            }
+            return new IntentResult(scores);
+        }
+
+        private boolean isNegated(MatchCollector matches, int target) {
+            int start = matches.start[target];
+            int end = matches.end[target];
+            for (int i = 0; i < matches.size; i++) {
+                NegationScope negation = entries[matches.keyword[i]].negation();
+                if (negation == NegationScope.NEXT
+                    && matches.end[i] <= start && start - matches.end[i] <= NEGATION_WINDOW) {
+                    return true;
+                }
+                if (negation == NegationScope.PREVIOUS
+                    && matches.start[i] >= end && matches.start[i] - end <= NEGATION_WINDOW) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isWholeWord(String message, int start, int end) {
+            boolean leftBoundary = start == 0 || !Character.isLetterOrDigit(message.charAt(start - 1));
+            boolean rightBoundary = end == message.length() || !Character.isLetterOrDigit(message.charAt(end));
+            return leftBoundary && rightBoundary;
+        }
+    }
+
+    /**
+     * 매칭 위치를 원시 배열에 모으는 버퍼
+     */
+    private static final class MatchCollector {
+        int[] keyword = new int[8];
+        int[] start = new int[8];
+        int[] end = new int[8];
+        int size;
+
+        void add(int keywordIndex, int matchStart, int matchEnd) {
+            if (size == keyword.length) {
+                keyword = Arrays.copyOf(keyword, size * 2);
+                start = Arrays.copyOf(start, size * 2);
+                end = Arrays.copyOf(end, size * 2);
+            }
+            keyword[size] = keywordIndex;
+            start[size] = matchStart;
+            end[size] = matchEnd;
+            size++;
+        }
+    }
+}
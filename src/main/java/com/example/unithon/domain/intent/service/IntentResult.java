@@ -0,0 +1,34 @@
+package com.example.unithon.domain.intent.service;
+
+/**
+ * 한 발화에 대한 의도 인식 결과. 의도별 점수가 임계값 이상이면 해당 의도가 있는 것으로 본다.
+ */
+public final class IntentResult {
+
+    static final double THRESHOLD = 1.0;
+
+    private final double[] scores;
+
+    IntentResult(double[] scores) {
+        this.scores = scores;
+    }
+
+    public boolean has(Intent intent) {
+        return scores[intent.ordinal()] >= THRESHOLD;
+    }
+
+    public double score(Intent intent) {
+        return scores[intent.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("IntentResult[");
+        for (Intent intent : Intent.values()) {
+            if (scores[intent.ordinal()] != 0) {
+                text.append(intent).append('=').append(scores[intent.ordinal()]).append(' ');
+            }
+        }
+        return text.toString().trim() + "]";
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.unithon.domain.intent.service;
+
+public enum NegationScope {
+    NEXT,     // 뒤에 오는 키워드를 부정 (안 끝났어, 아직 결제 전)
+    PREVIOUS  // 앞에 온 키워드를 부정 (결제 말고, 끝내지 않을래)
+}
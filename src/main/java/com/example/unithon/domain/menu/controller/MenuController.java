@@ -1,8 +1,10 @@
 package com.example.unithon.domain.menu.controller;
 
 import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.entity.Stores;
 import com.example.unithon.domain.menu.service.MenuSearchResult;
 import com.example.unithon.domain.menu.service.MenuService;
+import com.example.unithon.global.logging.LogText;
 import com.example.unithon.global.response.ApiResponse;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -23,10 +25,11 @@ public class MenuController {
     private final MenuService menuService;
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<MenuSearchResponse>> searchMenu(@RequestParam String query) {
-        log.info("메뉴 검색 요청: {}", query);
+    public ResponseEntity<ApiResponse<MenuSearchResponse>> searchMenu(@RequestParam String query,
+                                                                      @RequestParam(defaultValue = "" + Stores.DEFAULT_ID) long storeId) {
+        log.info("메뉴 검색 요청 (매장 {}): {}", storeId, LogText.transcript(query));
         
-        MenuSearchResult result = menuService.searchMenu(query);
+        MenuSearchResult result = menuService.searchMenu(storeId, query);
         
         log.info("검색 결과 - 타입: {}, 메뉴: {}", 
                 result.getType(), 
@@ -64,8 +67,9 @@ public class MenuController {
         }
     }
     @GetMapping("/search/simple")
-    public ResponseEntity<ApiResponse<MenuSearchResponse>> searchMenuSimple(@RequestParam String query) {
-        MenuSearchResult result = menuService.searchMenu(query);
+    public ResponseEntity<ApiResponse<MenuSearchResponse>> searchMenuSimple(@RequestParam String query,
+                                                                            @RequestParam(defaultValue = "" + Stores.DEFAULT_ID) long storeId) {
+        MenuSearchResult result = menuService.searchMenu(storeId, query);
         MenuSearchResponse response = MenuSearchResponse.from(result);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
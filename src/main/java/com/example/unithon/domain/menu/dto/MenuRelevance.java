@@ -0,0 +1,7 @@
+package com.example.unithon.domain.menu.dto;
+
+/**
+ * 전문 검색 결과 한 건 (메뉴명/동의어 중 가장 높은 점수)
+ */
+public record MenuRelevance(Long menuId, double score) {
+}
@@ -13,7 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "menu")
+@Table(name = "menu", indexes = @Index(name = "idx_menu_store", columnList = "store_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Menu {
@@ -22,6 +22,10 @@ public class Menu {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 카테고리와 같은 매장. 매장 단위 조회가 카테고리 조인 없이 되도록 따로 둔다
+    @Column(name = "store_id", nullable = false, columnDefinition = "BIGINT DEFAULT 1")
+    private Long storeId = Stores.DEFAULT_ID;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private MenuCategory category;
@@ -38,6 +42,14 @@ public class Menu {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal basePrice;
 
+    // 주문 시 온도(ICE/HOT)를 골라야 하는 메뉴인지. 따뜻한/아이스 메뉴가 따로 있으면 false
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean temperatureOption;
+
+    // 사이즈(REGULAR/LARGE)를 고를 수 있는 메뉴인지. 말하지 않으면 REGULAR
+    @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean sizeOption;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -50,6 +62,7 @@ public class Menu {
 
     public Menu(MenuCategory category, String name, String displayName, String description, 
                 BigDecimal basePrice) {
+        this.storeId = category != null ? category.getStoreId() : Stores.DEFAULT_ID;
         this.category = category;
         this.name = name;
         this.displayName = displayName;
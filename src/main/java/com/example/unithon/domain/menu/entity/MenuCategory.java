@@ -12,7 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "menu_category")
+@Table(name = "menu_category",
+       uniqueConstraints = @UniqueConstraint(name = "unique_store_category", columnNames = {"store_id", "name"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MenuCategory {
@@ -21,7 +22,10 @@ public class MenuCategory {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(name = "store_id", nullable = false, columnDefinition = "BIGINT DEFAULT 1")
+    private Long storeId = Stores.DEFAULT_ID;
+
+    @Column(nullable = false, length = 100)
     private String name;
 
     @Column(nullable = false, length = 100)
@@ -39,6 +43,13 @@ public class MenuCategory {
 
     public MenuCategory(String name,
                         String displayName) {
+        this(Stores.DEFAULT_ID, name, displayName);
+    }
+
+    public MenuCategory(Long storeId,
+                        String name,
+                        String displayName) {
+        this.storeId = storeId;
         this.name = name;
         this.displayName = displayName;
     }
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "menu_synonym", 
-       uniqueConstraints = @UniqueConstraint(name = "unique_synonym", columnNames = "synonym"))
+       uniqueConstraints = @UniqueConstraint(name = "unique_store_synonym", columnNames = {"store_id", "synonym"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MenuSynonym {
@@ -19,6 +19,9 @@ public class MenuSynonym {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "store_id", nullable = false, columnDefinition = "BIGINT DEFAULT 1")
+    private Long storeId = Stores.DEFAULT_ID;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_id", nullable = false)
     private Menu menu;
@@ -34,6 +37,7 @@ public class MenuSynonym {
     private LocalDateTime createdAt;
 
     public MenuSynonym(Menu menu, String synonym, Integer priority) {
+        this.storeId = menu.getStoreId();
         this.menu = menu;
         this.synonym = synonym;
         this.priority = priority;
@@ -0,0 +1,13 @@
+package com.example.unithon.domain.menu.entity;
+
+/**
+ * 매장 구분. 매장별 메뉴/카테고리/동의어는 store_id로 나뉜다
+ */
+public final class Stores {
+
+    /** storeId를 지정하지 않은 연결과 기존 시드 데이터의 매장 */
+    public static final long DEFAULT_ID = 1L;
+
+    private Stores() {
+    }
+}
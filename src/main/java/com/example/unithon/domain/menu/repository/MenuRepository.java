@@ -1,17 +1,24 @@
 package com.example.unithon.domain.menu.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 import com.example.unithon.domain.menu.entity.Menu;
 
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuSearchRepository {
 
-    @Query("SELECT m FROM Menu m WHERE m.displayName LIKE %:keyword%")
-    List<Menu> findByDisplayNameContaining(@Param("keyword") String keyword);
-;
-}
\ No newline at end of file
+    /**
+     * 한 매장의 메뉴 + 카테고리 + 동의어를 한 번의 조인 쿼리로 조회 (키워드 추출/매칭용 카탈로그)
+     */
+    @EntityGraph(attributePaths = {"category", "synonyms"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT m FROM Menu m WHERE m.storeId = :storeId ORDER BY m.id")
+    List<Menu> findAllByStoreIdWithCategoryAndSynonyms(@Param("storeId") Long storeId);
+}
@@ -0,0 +1,16 @@
+package com.example.unithon.domain.menu.repository;
+
+import java.util.List;
+
+import com.example.unithon.domain.menu.dto.MenuRelevance;
+
+/**
+ * 메뉴명/동의어 n-gram 전문 검색 (MenuRepository 조각)
+ */
+public interface MenuSearchRepository {
+
+    /**
+     * 한 매장 안에서 관련도 내림차순으로 최대 limit개. MySQL은 ngram FULLTEXT 인덱스, 그 외(H2 테스트)는 2-gram 비교로 대신한다
+     */
+    List<MenuRelevance> searchByText(Long storeId, String text, int limit);
+}
@@ -0,0 +1,101 @@
+package com.example.unithon.domain.menu.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.unithon.domain.menu.dto.MenuRelevance;
+
+class MenuSearchRepositoryImpl implements MenuSearchRepository {
+
+    // menu.display_name, menu_synonym.synonym 의 ngram FULLTEXT 인덱스 (schema-mysql.sql)
+    private static final String FULLTEXT_QUERY = """
+        SELECT t.menu_id, MAX(t.score) AS score FROM (
+            SELECT m.id AS menu_id, MATCH(m.display_name) AGAINST (:text IN NATURAL LANGUAGE MODE) AS score
+            FROM menu m
+            WHERE m.store_id = :storeId AND MATCH(m.display_name) AGAINST (:text IN NATURAL LANGUAGE MODE)
+            UNION ALL
+            SELECT s.menu_id, MATCH(s.synonym) AGAINST (:text IN NATURAL LANGUAGE MODE)
+            FROM menu_synonym s
+            WHERE s.store_id = :storeId AND MATCH(s.synonym) AGAINST (:text IN NATURAL LANGUAGE MODE)
+        ) t
+        GROUP BY t.menu_id
+        ORDER BY score DESC
+        LIMIT :limit
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean fullTextSupported;
+
+    @Override
+    public List<MenuRelevance> searchByText(Long storeId, String text, int limit) {
+        if (text == null || text.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        return isFullTextSupported() ? fullTextSearch(storeId, text, limit) : ngramScan(storeId, text, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MenuRelevance> fullTextSearch(Long storeId, String text, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(FULLTEXT_QUERY)
+            .setParameter("storeId", storeId)
+            .setParameter("text", text)
+            .setParameter("limit", limit)
+            .getResultList();
+        List<MenuRelevance> results = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            results.add(new MenuRelevance(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()));
+        }
+        return results;
+    }
+
+    /**
+     * 인덱스 없는 DB용: 메뉴명/동의어를 모두 읽어 n-gram 겹침으로 점수를 매긴다 (테스트/개발용)
+     */
+    private List<MenuRelevance> ngramScan(Long storeId, String text, int limit) {
+        Set<String> queryNgrams = NgramRelevance.ngrams(text);
+        Map<Long, Integer> scores = new HashMap<>();
+        List<Object[]> names = entityManager
+            .createQuery("SELECT m.id, m.displayName FROM Menu m WHERE m.storeId = :storeId", Object[].class)
+            .setParameter("storeId", storeId)
+            .getResultList();
+        List<Object[]> synonyms = entityManager
+            .createQuery("SELECT s.menu.id, s.synonym FROM MenuSynonym s WHERE s.storeId = :storeId", Object[].class)
+            .setParameter("storeId", storeId)
+            .getResultList();
+        for (List<Object[]> rows : List.of(names, synonyms)) {
+            for (Object[] row : rows) {
+                int score = NgramRelevance.score(queryNgrams, (String) row[1]);
+                if (score > 0) {
+                    scores.merge((Long) row[0], score, Math::max);
+                }
+            }
+        }
+        return scores.entrySet().stream()
+            .map(entry -> new MenuRelevance(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparingDouble(MenuRelevance::score).reversed()
+                .thenComparing(MenuRelevance::menuId))
+            .limit(limit)
+            .toList();
+    }
+
+    private boolean isFullTextSupported() {
+        Boolean supported = fullTextSupported;
+        if (supported == null) {
+            supported = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+            fullTextSupported = supported;
+        }
+        return supported;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.unithon.domain.menu.repository;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * MySQL ngram 파서(ngram_token_size=2)와 같은 방식으로 공백 단위 토큰을 2글자씩 잘라 겹치는 개수를 센다.
+ * FULLTEXT 인덱스가 없는 DB에서 searchByText 대신 쓰인다.
+ */
+public final class NgramRelevance {
+
+    private static final int TOKEN_SIZE = 2;
+
+    private NgramRelevance() {
+    }
+
+    public static Set<String> ngrams(String text) {
+        Set<String> ngrams = new HashSet<>();
+        if (text == null) {
+            return ngrams;
+        }
+        for (String token : text.toLowerCase().split("\\s+")) {
+            if (token.length() < TOKEN_SIZE) {
+                continue;
+            }
+            for (int i = 0; i + TOKEN_SIZE <= token.length(); i++) {
+                ngrams.add(token.substring(i, i + TOKEN_SIZE));
+            }
+        }
+        return ngrams;
+    }
+
+    /**
+     * text의 n-gram 중 query에 있는 개수
+     */
+    public static int score(Set<String> queryNgrams, String text) {
+        int matched = 0;
+        for (String ngram : ngrams(text)) {
+            if (queryNgrams.contains(ngram)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
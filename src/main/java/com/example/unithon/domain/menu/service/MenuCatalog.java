@@ -0,0 +1,181 @@
+package com.example.unithon.domain.menu.service;
+
+import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.entity.MenuCategory;
+import com.example.unithon.domain.menu.entity.MenuSynonym;
+import com.example.unithon.global.text.KeywordAutomaton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 매장의 메뉴 카탈로그 스냅샷.
+ * DB에서 한 번 읽은 메뉴/동의어로 검색용 색인과 키워드 오토마톤, Gemini 프롬프트용 메뉴 텍스트를 미리 만들어 둔다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 세션이 잠금 없이 같이 쓴다 (MenuCatalogCache)
+ */
+public final class MenuCatalog {
+
+    private final long storeId;
+    private final List<Menu> menus;
+    private final Map<Long, Menu> menusById;
+    private final Map<String, List<Menu>> menusBySynonym;
+    private final List<String> keywordsByLength;
+    private final KeywordAutomaton mentionAutomaton;
+    private final Menu[] mentionMenus;
+    private final String menuListText;
+    private final String menuDataText;
+
+    private MenuCatalog(long storeId, List<Menu> menus) {
+        this.storeId = storeId;
+        this.menus = List.copyOf(menus);
+
+        Map<Long, Menu> byId = new HashMap<>(menus.size() * 2);
+        // 메뉴명이 동의어보다 먼저 오도록 넣어 같은 키워드면 메뉴명 쪽 메뉴가 이긴다
+        Map<String, Menu> menuByKeyword = new LinkedHashMap<>();
+        for (Menu menu : menus) {
+            byId.put(menu.getId(), menu);
+            menuByKeyword.putIfAbsent(menu.getDisplayName(), menu);
+        }
+        for (Menu menu : menus) {
+            menu.getSynonyms().forEach(synonym -> menuByKeyword.putIfAbsent(synonym.getSynonym(), menu));
+        }
+        this.menusById = byId;
+        this.menusBySynonym = indexBySynonym(menus);
+
+        // 긴 키워드부터 검사해야 "아이스 아메리카노"가 "아메리카노"보다 먼저 잡힌다
+        this.keywordsByLength = menuByKeyword.keySet().stream()
+            .sorted(Comparator.comparingInt(String::length).reversed())
+            .toList();
+
+        List<String> mentionKeywords = new ArrayList<>(menuByKeyword.keySet());
+        this.mentionAutomaton = KeywordAutomaton.compile(mentionKeywords);
+        this.mentionMenus = menuByKeyword.values().toArray(new Menu[0]);
+
+        Map<MenuCategory, List<Menu>> byCategory = groupByCategory(menus);
+        this.menuListText = buildMenuListText(byCategory);
+        this.menuDataText = buildMenuDataText(byCategory);
+    }
+
+    /**
+     * 매장 메뉴 목록(카테고리/동의어 포함, id 순)으로 스냅샷 생성
+     */
+    public static MenuCatalog compile(long storeId, List<Menu> menus) {
+        return new MenuCatalog(storeId, menus);
+    }
+
+    public long storeId() {
+        return storeId;
+    }
+
+    public List<Menu> menus() {
+        return menus;
+    }
+
+    public boolean isEmpty() {
+        return menus.isEmpty();
+    }
+
+    public Menu findById(Long menuId) {
+        return menusById.get(menuId);
+    }
+
+    /**
+     * 동의어 -> 메뉴 목록 (priority 순). 없으면 빈 목록
+     */
+    public List<Menu> findBySynonym(String synonym) {
+        return menusBySynonym.getOrDefault(synonym, List.of());
+    }
+
+    /**
+     * 메뉴명과 동의어 전체, 글자 수 내림차순
+     */
+    public List<String> keywordsByLength() {
+        return keywordsByLength;
+    }
+
+    /**
+     * 발화에서 메뉴명/동의어가 나오는 위치를 모두 찾아 전달 (겹침 정리는 호출하는 쪽에서)
+     */
+    public void scanMentions(CharSequence text, MentionHandler handler) {
+        mentionAutomaton.scan(text, (keywordIndex, start, end) -> handler.onMention(mentionMenus[keywordIndex], start, end));
+    }
+
+    /**
+     * 추천 프롬프트용 카테고리별 메뉴명 목록 ("커피: 아메리카노, 카페 라떼 등")
+     */
+    public String menuListText() {
+        return menuListText;
+    }
+
+    /**
+     * RAG 프롬프트용 메뉴 데이터 (가격/설명과 카테고리별 개수)
+     */
+    public String menuDataText() {
+        return menuDataText;
+    }
+
+    @FunctionalInterface
+    public interface MentionHandler {
+        void onMention(Menu menu, int start, int end);
+    }
+
+    private static Map<String, List<Menu>> indexBySynonym(List<Menu> menus) {
+        Map<String, List<MenuSynonym>> synonymsByText = new HashMap<>();
+        for (Menu menu : menus) {
+            for (MenuSynonym synonym : menu.getSynonyms()) {
+                synonymsByText.computeIfAbsent(synonym.getSynonym(), k -> new ArrayList<>()).add(synonym);
+            }
+        }
+        Map<String, List<Menu>> menusBySynonym = new HashMap<>(synonymsByText.size() * 2);
+        synonymsByText.forEach((text, synonyms) -> menusBySynonym.put(text, synonyms.stream()
+            .sorted(Comparator.comparing(MenuSynonym::getPriority, Comparator.nullsLast(Comparator.naturalOrder())))
+            .map(MenuSynonym::getMenu)
+            .toList()));
+        return menusBySynonym;
+    }
+
+    private static Map<MenuCategory, List<Menu>> groupByCategory(List<Menu> menus) {
+        Set<MenuCategory> categories = new LinkedHashSet<>();
+        menus.stream()
+            .map(Menu::getCategory)
+            .sorted(Comparator.comparing(MenuCategory::getId))
+            .forEach(categories::add);
+        Map<MenuCategory, List<Menu>> byCategory = new LinkedHashMap<>();
+        categories.forEach(category -> byCategory.put(category, new ArrayList<>()));
+        menus.forEach(menu -> byCategory.get(menu.getCategory()).add(menu));
+        return byCategory;
+    }
+
+    private static String buildMenuListText(Map<MenuCategory, List<Menu>> byCategory) {
+        StringBuilder text = new StringBuilder();
+        byCategory.forEach((category, menus) -> {
+            text.append(category.getDisplayName()).append(": ");
+            text.append(String.join(", ", menus.stream().map(Menu::getDisplayName).toList()));
+            text.append(" 등\n");
+        });
+        return text.toString();
+    }
+
+    private static String buildMenuDataText(Map<MenuCategory, List<Menu>> byCategory) {
+        StringBuilder data = new StringBuilder();
+        data.append("=== 우리 카페 메뉴 ===\n");
+        byCategory.forEach((category, menus) -> {
+            data.append("\n[").append(category.getDisplayName()).append(" 메뉴]\n");
+            menus.forEach(menu -> data.append(String.format("- %s: %,d원 (%s)\n",
+                menu.getDisplayName(),
+                menu.getBasePrice().intValue(),
+                menu.getDescription() != null ? menu.getDescription() : "")));
+        });
+
+        data.append("\n=== 카테고리별 요약 ===\n");
+        byCategory.forEach((category, menus) ->
+            data.append("- ").append(category.getDisplayName()).append(": ").append(menus.size()).append("종\n"));
+        return data.toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.unithon.domain.menu.service;
+
+import com.example.unithon.domain.menu.repository.MenuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongFunction;
+
+/**
+ * 매장별 MenuCatalog 캐시.
+ * 처음 요청된 매장만 DB에서 읽어 스냅샷을 만들고, maxStores를 넘으면 가장 오래 안 쓴 매장부터 버린다 (LRU).
+ * 같은 매장을 동시에 요청하면 한 번만 읽고 나머지는 그 결과를 기다린다. ttl이 지난 스냅샷은 다음 요청 때 다시 읽는다.
+ * 앱에는 메뉴를 고치는 경로가 없어 DB에서 바꾼 메뉴/동의어는 ttl(menu.catalog.cache.ttl-seconds)이 지나야 반영된다.
+ * 스냅샷은 읽기 전용으로 읽어 영속성 컨텍스트와 분리된 Menu 엔티티를 들고 있으므로, 메모리는 maxStores로 제한한다.
+ */
+@Component
+@Slf4j
+public class MenuCatalogCache {
+
+    private final LongFunction<MenuCatalog> loader;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    // 접근 순서 LinkedHashMap. 모든 접근은 this로 동기화
+    private final LinkedHashMap<Long, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public MenuCatalogCache(MenuRepository menuRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${menu.catalog.cache.max-stores:200}") int maxStores,
+                            @Value("${menu.catalog.cache.ttl-seconds:300}") long ttlSeconds) {
+        this(storeId -> MenuCatalog.compile(storeId, menuRepository.findAllByStoreIdWithCategoryAndSynonyms(storeId)),
+            maxStores, Duration.ofSeconds(ttlSeconds), meterRegistry, Clock.systemUTC());
+    }
+
+    MenuCatalogCache(LongFunction<MenuCatalog> loader, int maxStores, Duration ttl,
+                     MeterRegistry meterRegistry, Clock clock) {
+        this.loader = loader;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() <= maxStores) {
+                    return false;
+                }
+                evictions.increment();
+                log.debug("메뉴 카탈로그 캐시에서 매장 {} 제거 (LRU)", eldest.getKey());
+                return true;
+            }
+        };
+
+        this.hits = Counter.builder("menu.catalog.cache")
+            .description("매장 메뉴 카탈로그 캐시 조회")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("menu.catalog.cache")
+            .description("매장 메뉴 카탈로그 캐시 조회")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("menu.catalog.cache.evictions")
+            .description("LRU로 버려진 매장 카탈로그 수")
+            .register(meterRegistry);
+        Gauge.builder("menu.catalog.cache.stores", this, MenuCatalogCache::size)
+            .description("메모리에 올라와 있는 매장 카탈로그 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 매장 카탈로그. 캐시에 없거나 만료됐으면 읽어서 만든다
+     */
+    public MenuCatalog get(long storeId) {
+        Entry entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(storeId);
+            if (entry == null || isExpired(entry)) {
+                entry = new Entry(clock.millis());
+                entries.put(storeId, entry);
+                owner = true;
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+        }
+
+        if (owner) {
+            // DB 조회는 잠금 밖에서. 다른 매장 요청은 기다리지 않는다
+            try {
+                MenuCatalog catalog = loader.apply(storeId);
+                entry.catalog.complete(catalog);
+                log.debug("매장 {} 메뉴 카탈로그 로드: {}개", storeId, catalog.menus().size());
+            } catch (RuntimeException e) {
+                entry.catalog.completeExceptionally(e);
+                synchronized (this) {
+                    entries.remove(storeId, entry);
+                }
+                throw e;
+            }
+        }
+
+        try {
+            return entry.catalog.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttlMillis > 0 && clock.millis() - entry.loadedAt >= ttlMillis;
+    }
+
+    private static final class Entry {
+        private final long loadedAt;
+        private final CompletableFuture<MenuCatalog> catalog = new CompletableFuture<>();
+
+        private Entry(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+    }
+}
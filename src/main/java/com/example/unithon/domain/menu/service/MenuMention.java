@@ -0,0 +1,9 @@
+package com.example.unithon.domain.menu.service;
+
+import com.example.unithon.domain.menu.entity.Menu;
+
+/**
+ * 발화 안에서 찾은 메뉴 언급. start/end는 메뉴명 또는 동의어가 차지하는 문자 범위
+ */
+public record MenuMention(Menu menu, int start, int end) {
+}
@@ -1,15 +1,22 @@
 package com.example.unithon.domain.menu.service;
 
+import com.example.unithon.domain.menu.dto.MenuRelevance;
 import com.example.unithon.domain.menu.entity.Menu;
 import com.example.unithon.domain.menu.repository.MenuRepository;
-import com.example.unithon.domain.menu.repository.MenuSynonymRepository;
+import com.example.unithon.domain.intent.service.Intent;
+import com.example.unithon.domain.intent.service.IntentRecognizer;
+import com.example.unithon.domain.intent.service.IntentResult;
 import com.example.unithon.global.client.gemini.GeminiService;
+import com.example.unithon.global.logging.LogText;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 
 @Service
 @Transactional(readOnly = true)
@@ -17,70 +24,132 @@ import java.util.*;
 @Slf4j
 public class MenuService {
 
+    // 부분 검색(전문 검색 인덱스)에서 검증할 후보 수
+    private static final int FUZZY_CANDIDATE_LIMIT = 5;
+
     private final MenuRepository menuRepository;
-    private final MenuSynonymRepository menuSynonymRepository;
+    private final MenuCatalogCache catalogCache;
     private final GeminiService geminiService;
+    private final IntentRecognizer intentRecognizer;
+    private final TurnMetrics turnMetrics;
 
     /**
-     * DB 동의어 우선 -> Gemini 보완
+     * 대화 턴 밖(REST 검색, 워밍업)에서 쓰는 검색. 의도 인식도 여기서 한다
      */
-    public MenuSearchResult searchMenu(String userInput) { //아메리카노 한잔줘
-        log.info("메뉴 검색 시작: {}", userInput);
+    public MenuSearchResult searchMenu(long storeId, String userInput) {
+        return searchMenu(storeId, userInput, intentRecognizer.recognize(userInput));
+    }
+
+    /**
+     * DB 동의어 우선 -> Gemini 보완. intents는 턴에서 이미 인식한 결과를 그대로 받는다
+     */
+    public MenuSearchResult searchMenu(long storeId, String userInput, IntentResult intents) { //아메리카노 한잔줘
+        log.debug("매장 {} 메뉴 검색 시작: {}", storeId, LogText.transcript(userInput));
+
+        // 매장 카탈로그 스냅샷(캐시)에서 키워드 추출과 매칭을 메모리로 처리 (키워드당 쿼리 없음)
+        MenuCatalog catalog = catalogCache.get(storeId);
 
         // 사용자 입력에서 검색 키워드들을 추출
-        List<String> keywords = extractKeywords(userInput); //아메리카노
+        List<String> keywords = extractKeywords(userInput, catalog); //아메리카노
 
         // 중복을 허용하지 않는 Set으로 검색 결과를 통합
         Set<Menu> foundMenus = new LinkedHashSet<>();
 
+        // 단계별 소요 시간은 키워드 전체에 대해 합산해서 한 번 기록
+        long nameNanos = 0;
+        long synonymNanos = 0;
+        int nameHits = 0;
+        int synonymHits = 0;
         for (String keyword : keywords) {
-            // 1. 메뉴 display_name 직접 검색 (Containing -> EqualsIgnoreCase로 변경하여 정확도 향상)
-            menuRepository.findByDisplayNameContaining(keyword).forEach(foundMenus::add);
-
-            // 2. 동의어 테이블 검색
-            menuSynonymRepository.findMenuBySynonym(keyword).forEach(foundMenus::add);
+            // 1. 메뉴 display_name 포함 검색 (LIKE %keyword% 와 같은 기준)
+            long start = System.nanoTime();
+            List<Menu> nameMatches = catalog.menus().stream()
+                .filter(menu -> menu.getDisplayName().contains(keyword))
+                .toList();
+            nameMatches.forEach(foundMenus::add);
+            nameNanos += System.nanoTime() - start;
+            nameHits += nameMatches.size();
+
+            // 2. 동의어 검색 (priority 순)
+            start = System.nanoTime();
+            List<Menu> synonymMatches = catalog.findBySynonym(keyword);
+            synonymMatches.forEach(foundMenus::add);
+            synonymNanos += System.nanoTime() - start;
+            synonymHits += synonymMatches.size();
         }
+        turnMetrics.recordNanos(Stage.MENU_NAME, nameHits > 0 ? "hit" : "miss", nameNanos);
+        turnMetrics.recordNanos(Stage.MENU_SYNONYM, synonymHits > 0 ? "hit" : "miss", synonymNanos);
 
-        // 만약 정확한 매칭 결과가 없다면, Containing 으로 넓게 다시 검색
+        // 만약 카탈로그에서 찾지 못했다면, 전문 검색 인덱스로 후보를 받아 띄어쓰기를 무시하고 다시 비교
         if (foundMenus.isEmpty()) {
-            for (String keyword : keywords) {
-                menuRepository.findByDisplayNameContaining(keyword).forEach(foundMenus::add);
-            }
+            long start = System.nanoTime();
+            foundMenus.addAll(searchIgnoringSpaces(keywords, catalog));
+            turnMetrics.record(Stage.MENU_FUZZY, foundMenus.isEmpty() ? "miss" : "hit", start);
         }
 
         List<Menu> resultList = new ArrayList<>(foundMenus);
 
         if (resultList.size() == 1) {
             // 정확히 하나의 메뉴를 찾은 경우
-            log.info("DB 직접 매칭 성공: {}", resultList.get(0).getDisplayName());
+            log.debug("DB 직접 매칭 성공: {}", resultList.get(0).getDisplayName());
             return MenuSearchResult.directMatch(resultList.get(0));
         } else if (resultList.size() > 1) {
             // 여러 개의 메뉴가 검색된 경우 (모호한 경우)
-            log.info("DB 모호한 매칭: {} 개의 결과 발견", resultList.size());
+            log.debug("DB 모호한 매칭: {} 개의 결과 발견", resultList.size());
             return MenuSearchResult.ambiguousMatch(resultList);
         } else {
             // DB에서 메뉴를 찾지 못한 경우, Gemini로 검색
             log.info("DB 매칭 실패. Gemini 검색으로 전환.");
-            return searchWithGemini(userInput);
+            long start = System.nanoTime();
+            MenuSearchResult geminiResult = searchWithGemini(userInput, intents, catalog);
+            turnMetrics.record(Stage.MENU_GEMINI, geminiResult.getType().name().toLowerCase(), start);
+            return geminiResult;
         }
     }
 
+    /**
+     * 발화에 등장하는 메뉴를 위치와 함께 순서대로 찾는다 (메뉴명/동의어 정확 일치).
+     * 겹치는 후보는 더 앞에서 시작하고 더 긴 쪽을 택한다 ("아이스 아메리카노" > "아메리카노").
+     */
+    public List<MenuMention> findMenuMentions(long storeId, String userInput) {
+        if (userInput == null || userInput.isBlank()) {
+            return List.of();
+        }
+
+        // 키워드 오토마톤은 매장 카탈로그를 만들 때 한 번만 컴파일된다
+        List<MenuMention> candidates = new ArrayList<>();
+        catalogCache.get(storeId).scanMentions(userInput, (menu, start, end) ->
+            candidates.add(new MenuMention(menu, start, end)));
+        candidates.sort(Comparator.comparingInt(MenuMention::start)
+            .thenComparing(Comparator.comparingInt(MenuMention::end).reversed()));
+
+        List<MenuMention> mentions = new ArrayList<>(candidates.size());
+        int coveredUntil = 0;
+        for (MenuMention candidate : candidates) {
+            if (candidate.start() >= coveredUntil) {
+                mentions.add(candidate);
+                coveredUntil = candidate.end();
+            }
+        }
+        return mentions;
+    }
+
     /**
      * Gemini를 활용한 메뉴 추천
      */
-    private MenuSearchResult searchWithGemini(String userInput) {
+    private MenuSearchResult searchWithGemini(String userInput, IntentResult intents, MenuCatalog catalog) {
         try {
-            List<Menu> allMenus = menuRepository.findAll();
+            boolean generalQuestion = intents.has(Intent.GENERAL_QUESTION);
             
-            String prompt = buildMenuRecommendationPrompt(userInput);
+            String prompt = buildMenuRecommendationPrompt(userInput, generalQuestion, catalog);
             String geminiResponse = geminiService.generateText(prompt);
             
-            log.info("Gemini 응답: {}", geminiResponse);
+            log.debug("Gemini 응답: {}", LogText.payload(geminiResponse));
             
-            if (isGeneralQuestion(userInput)) {
+            if (generalQuestion) {
                 return MenuSearchResult.geminiSuggestion(geminiResponse, new ArrayList<>());
             }
-            List<Menu> recommendedMenus = parseGeminiResponse(geminiResponse, allMenus);
+            List<Menu> recommendedMenus = parseGeminiResponse(geminiResponse, catalog.menus());
             
             if (!recommendedMenus.isEmpty()) {
                 return MenuSearchResult.geminiSuggestion(geminiResponse, recommendedMenus);
@@ -92,6 +161,10 @@ public class MenuService {
                 return MenuSearchResult.noMatch();
             }
             
+        } catch (CancellationException e) {
+            // 연결이 끊겨 취소된 턴. NO_MATCH로 대화를 이어가지 않고 호출한 쪽까지 취소를 전달한다
+            Thread.currentThread().interrupt();
+            throw e;
         } catch (Exception e) {
             log.error("Gemini 메뉴 검색 실패: {}", e.getMessage(), e);
             return MenuSearchResult.noMatch();
@@ -99,9 +172,9 @@ public class MenuService {
     }
 
 
-    private String buildMenuRecommendationPrompt(String userInput) {
-        if (isGeneralQuestion(userInput)) {
-            return buildRAGPrompt(userInput);
+    private String buildMenuRecommendationPrompt(String userInput, boolean generalQuestion, MenuCatalog catalog) {
+        if (generalQuestion) {
+            return buildRAGPrompt(userInput, catalog);
         }
 
         // 카페 메뉴 추천 프롬프트
@@ -109,10 +182,8 @@ public class MenuService {
         prompt.append("사용자가 '").append(userInput).append("'를 주문했습니다.\n");
         prompt.append("이것은 카페 매장입니다. 다음은 현재 판매 중인 메뉴입니다:\n\n");
         
-        // 카테고리별로 메뉴 정리
-        prompt.append("커피: 아메리카노, 에스프레소, 카페라떼, 바닐라라떼, 카라멜마키아토, 카푸치노, 카페모카, 플랫화이트, 헤이즐넛라떼, 콜드브루, 디카페인 등\n");
-        prompt.append("음료: 딸기스무디, 망고스무디, 블루베리스무디, 오렌지주스, 레몬에이드, 자몽에이드, 청포도에이드, 초코라떼, 녹차라떼, 말차라떼, 복숭아아이스티, 유자차, 밀크티 등\n");
-        prompt.append("디저트: 뉴욕치즈케이크, 초코칩쿠키, 초콜릿브라우니, 레드벨벳케이크, 크루아상, 에그타르트, 블루베리머핀, 마카롱세트, 시나몬롤 등\n\n");
+        // 카테고리별로 메뉴 정리 (매장 카탈로그에서 미리 만든 목록)
+        prompt.append(catalog.menuListText()).append("\n");
         
         prompt.append("판단 기준:\n");
         prompt.append("1. 요청한 음식이 카페에서 파는 종류의 음식인가?\n");
@@ -147,7 +218,7 @@ public class MenuService {
             List<Menu> recommendedMenus = new ArrayList<>();
 
             if (geminiResponse.contains("NO_MATCH")) {
-                log.info("Gemini 응답: 카페 메뉴와 관련 없는 요청으로 판단됨");
+                log.debug("Gemini 응답: 카페 메뉴와 관련 없는 요청으로 판단됨");
                 return new ArrayList<>(); // 빈 리스트 반환
             }
             
@@ -179,7 +250,7 @@ public class MenuService {
                 }
             }
             
-            log.info("Gemini 응답에서 파싱된 추천 메뉴: {}", 
+            log.debug("Gemini 응답에서 파싱된 추천 메뉴: {}", 
                     recommendedMenus.stream().map(Menu::getDisplayName).toList());
             
             return recommendedMenus;
@@ -194,23 +265,13 @@ public class MenuService {
     /**
      * 사용자 입력에서 메뉴 키워드 추출
      */
-    private List<String> extractKeywords(String userInput) {
+    private List<String> extractKeywords(String userInput, MenuCatalog catalog) {
         if (userInput == null || userInput.isBlank()) {
             return new ArrayList<>();
         }
 
-        // 1. DB에서 모든 메뉴명과 동의어 목록을 가져옵니다.
-        // 중복을 미리 제거하여 성능을 개선합니다.
-        Set<String> allMenuKeywordsSet = new HashSet<>();
-        menuRepository.findAll().forEach(menu -> {
-            allMenuKeywordsSet.add(menu.getDisplayName());
-            menu.getSynonyms().forEach(synonym -> allMenuKeywordsSet.add(synonym.getSynonym()));
-        });
-
-        // 2. 키워드를 글자 길이의 역순으로 정렬합니다. (매우 중요!)
-        List<String> allMenuKeywords = allMenuKeywordsSet.stream()
-                .sorted(Comparator.comparingInt(String::length).reversed())
-                .toList();
+        // 1~2. 카탈로그의 모든 메뉴명과 동의어를 글자 길이의 역순으로 (매우 중요!, 카탈로그 생성 시 정렬됨)
+        List<String> allMenuKeywords = catalog.keywordsByLength();
 
         Set<String> foundKeywords = new LinkedHashSet<>();
         String remainingInput = userInput;
@@ -227,14 +288,49 @@ public class MenuService {
         }
 
         if (foundKeywords.isEmpty()) {
-            log.warn("입력 '{}'에서 메뉴 키워드를 찾지 못했습니다. Gemini로 처리를 시도합니다.", userInput);
+            log.info("입력 '{}'에서 메뉴 키워드를 찾지 못했습니다. Gemini로 처리를 시도합니다.", LogText.transcript(userInput));
             return List.of(userInput);
         }
 
-        log.info("입력: '{}', 추출된 키워드: {}", userInput, foundKeywords);
+        log.debug("입력: '{}', 추출된 키워드: {}", LogText.transcript(userInput), foundKeywords);
         return new ArrayList<>(foundKeywords);
     }
 
+    /**
+     * 부분 검색. 인덱스 후보 중 메뉴명/동의어가 키워드를 포함하거나 키워드에 포함되는 것만 (공백/구두점 무시).
+     * "바닐라라떼" -> "바닐라 라떼"
+     */
+    private List<Menu> searchIgnoringSpaces(List<String> keywords, MenuCatalog catalog) {
+        List<Menu> matches = new ArrayList<>();
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalizeInput(keyword);
+            if (normalizedKeyword.isEmpty()) {
+                continue;
+            }
+            for (MenuRelevance candidate : menuRepository.searchByText(catalog.storeId(), keyword, FUZZY_CANDIDATE_LIMIT)) {
+                Menu menu = catalog.findById(candidate.menuId());
+                if (menu != null && !matches.contains(menu) && matchesIgnoringSpaces(menu, normalizedKeyword)) {
+                    matches.add(menu);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private boolean matchesIgnoringSpaces(Menu menu, String normalizedKeyword) {
+        List<String> texts = new ArrayList<>();
+        texts.add(menu.getDisplayName());
+        menu.getSynonyms().forEach(synonym -> texts.add(synonym.getSynonym()));
+        for (String text : texts) {
+            String normalizedText = normalizeInput(text);
+            if (!normalizedText.isEmpty()
+                && (normalizedText.contains(normalizedKeyword) || normalizedKeyword.contains(normalizedText))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String normalizeInput(String input) {
         if (input == null) return "";
         
@@ -244,55 +340,14 @@ public class MenuService {
                    .replaceAll("[.,!?]", ""); // 구두점 제거
     }
 
-    /**
-     * RAG용 메뉴 데이터 텍스트 변환
-     */
-    private String getAllMenuDataAsText() {
-        StringBuilder data = new StringBuilder();
-        List<Menu> menus = menuRepository.findAll();
-        
-        data.append("=== 우리 카페 메뉴 ===\n");
-        
-        data.append("\n[커피 메뉴]\n");
-        menus.stream()
-            .filter(menu -> menu.getCategory().getName().equals("coffee"))
-            .forEach(menu -> data.append(String.format("- %s: %,d원 (%s)\n", 
-                menu.getDisplayName(), 
-                menu.getBasePrice().intValue(),
-                menu.getDescription() != null ? menu.getDescription() : "")));
-
-        data.append("\n[음료 메뉴]\n");
-        menus.stream()
-            .filter(menu -> menu.getCategory().getName().equals("beverage"))
-            .forEach(menu -> data.append(String.format("- %s: %,d원 (%s)\n", 
-                menu.getDisplayName(), 
-                menu.getBasePrice().intValue(),
-                menu.getDescription() != null ? menu.getDescription() : "")));
-
-        data.append("\n[디저트 메뉴]\n");
-        menus.stream()
-            .filter(menu -> menu.getCategory().getName().equals("dessert"))
-            .forEach(menu -> data.append(String.format("- %s: %,d원 (%s)\n", 
-                menu.getDisplayName(), 
-                menu.getBasePrice().intValue(),
-                menu.getDescription() != null ? menu.getDescription() : "")));
-
-        data.append("\n=== 카테고리별 요약 ===\n");
-        data.append("- 커피: 아메리카노, 라떼, 에스프레소, 카푸치노, 모카 등 20종\n");
-        data.append("- 음료: 스무디, 주스, 에이드, 차류, 밀크티 등 23종\n");
-        data.append("- 디저트: 케이크, 쿠키, 브라우니, 마카롱 등 10종\n");
-
-        return data.toString();
-    }
-
     /**
      * RAG 기반 일반 질문 처리 프롬프트
      */
-    private String buildRAGPrompt(String userInput) {
+    private String buildRAGPrompt(String userInput, MenuCatalog catalog) {
         StringBuilder prompt = new StringBuilder();
         
-        // 메뉴 데이터 포함
-        prompt.append(getAllMenuDataAsText());
+        // 메뉴 데이터 포함 (매장 카탈로그에서 미리 만든 텍스트)
+        prompt.append(catalog.menuDataText());
         
         prompt.append("\n\n=== 사용자 질문 ===\n");
         prompt.append(userInput);
@@ -310,31 +365,15 @@ public class MenuService {
         return prompt.toString();
     }
 
-    /**
-     * 일반적인 질문인지 판단
-     */
-    private boolean isGeneralQuestion(String userInput) {
-        String[] questionKeywords = {
-            "뭐", "무엇", "어떤", "얼마", "가격", "비싼", "싼", "저렴", "제일", "가장", 
-            "추천", "인기", "맛있는", "몇개", "몇 개", "얼마나", "어디", "언제", 
-            "왜", "어떻게", "몇시", "몇 시", "정보", "알려", "궁금", "문의"
-        };
-        
-        for (String keyword : questionKeywords) {
-            if (userInput.contains(keyword)) {
-                return true;
-            }
-        }
-        
-        return false;
-    }
-
     /**
      * 의도 판단을 위한 간단한 Gemini 호출
      */
     public String callGeminiForIntent(String prompt) {
         try {
             return geminiService.generateText(prompt);
+        } catch (CancellationException e) {
+            Thread.currentThread().interrupt();
+            throw e;
         } catch (Exception e) {
             log.error("Gemini 의도 판단 호출 실패: {}", e.getMessage(), e);
             return null;
@@ -0,0 +1,89 @@
+package com.example.unithon.global.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * JDK HttpClient 기반 Feign 클라이언트.
+ * 기본 클라이언트(HttpURLConnection)는 응답을 기다리는 중 인터럽트돼도 read timeout까지 소켓을 붙잡고 있는데,
+ * 이 클라이언트는 호출 스레드가 인터럽트되면 요청을 취소해 연결과 스레드를 바로 돌려준다 (연결 종료 시 세션 작업 취소).
+ * Request.Options의 connect timeout은 클라이언트 설정, read timeout은 응답 헤더까지의 요청 timeout으로 쓰며 0 이하는 제한 없음이다
+ */
+public class InterruptibleFeignClient implements Client {
+
+    // JDK HttpClient가 직접 관리하는 헤더
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    // connect timeout은 HttpClient 단위 설정이라 값마다 클라이언트를 하나씩 만들어 재사용한다
+    private final Map<Integer, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.url()))
+            .method(request.httpMethod().name(), request.body() != null
+                ? HttpRequest.BodyPublishers.ofByteArray(request.body())
+                : HttpRequest.BodyPublishers.noBody());
+        if (options.readTimeoutMillis() > 0) {
+            builder.timeout(Duration.ofMillis(options.readTimeoutMillis()));
+        }
+        request.headers().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        CompletableFuture<HttpResponse<byte[]>> future =
+            httpClient(options.connectTimeoutMillis()).sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> response;
+        try {
+            response = future.get();
+        } catch (InterruptedException e) {
+            // 진행 중인 교환을 끊어 연결을 바로 반납한다
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Request cancelled: " + request.url());
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        response.headers().map().forEach(headers::put);
+        return Response.builder()
+            .status(response.statusCode())
+            .headers(headers)
+            .body(response.body())
+            .request(request)
+            .build();
+    }
+
+    private HttpClient httpClient(int connectTimeoutMillis) {
+        return httpClients.computeIfAbsent(connectTimeoutMillis, millis -> {
+            HttpClient.Builder builder = HttpClient.newBuilder();
+            if (millis > 0) {
+                builder.connectTimeout(Duration.ofMillis(millis));
+            }
+            return builder.build();
+        });
+    }
+}
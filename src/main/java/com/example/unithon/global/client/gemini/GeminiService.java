@@ -1,34 +1,70 @@
 package com.example.unithon.global.client.gemini;
 
+import com.example.unithon.global.logging.LogText;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CancellationException;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiService {
     
-    private final GeminiClient geminiClient;
+    // 지연 생성 빈 (Feign 프록시). 기동 후 UpstreamClientWarmer가 백그라운드에서 미리 만든다
+    private final ObjectProvider<GeminiClient> geminiClient;
     private final GeminiProperties geminiProperties;
+    private final TurnMetrics turnMetrics;
     
     public String generateText(String prompt) {
+        long start = System.nanoTime();
         try {
-            log.info("Calling Gemini API with prompt: {}", prompt);
+            log.debug("Calling Gemini API with prompt: {}", LogText.payload(prompt));
             
             GeminiRequest request = GeminiRequest.of(prompt);
-            GeminiResponse response = geminiClient.generateContent(
+            GeminiResponse response = geminiClient.getObject().generateContent(
                 geminiProperties.key(), 
                 request
             );
             
             String result = response.getFirstResponseText();
-            log.info("Received response from Gemini API: {}", result);
+            log.debug("Received response from Gemini API: {}", LogText.payload(result));
+            turnMetrics.record(Stage.GEMINI, "ok", start);
             
             return result;
         } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || causedByInterrupt(e)) {
+                // 세션이 끊겨 호출이 취소된 경우. 요청은 InterruptibleFeignClient가 이미 끊었다.
+                // 호출한 쪽이 대화 처리를 멈추도록 인터럽트 상태를 유지하고 CancellationException으로 알린다
+                Thread.currentThread().interrupt();
+                turnMetrics.record(Stage.GEMINI, "cancelled", start);
+                log.info("Gemini API call cancelled");
+                CancellationException cancelled = new CancellationException("Gemini API call cancelled");
+                cancelled.initCause(e);
+                throw cancelled;
+            }
+            turnMetrics.record(Stage.GEMINI, "error", start);
             log.error("Error calling Gemini API", e);
             throw new RuntimeException("Failed to generate text from Gemini API", e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 인터럽트로 끊긴 호출인지 (Feign이 감싼 InterruptedIOException 포함, 읽기 타임아웃은 제외)
+     */
+    private static boolean causedByInterrupt(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException
+                || (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
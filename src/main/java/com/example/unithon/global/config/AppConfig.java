@@ -1,13 +1,16 @@
 package com.example.unithon.global.config;
 
+import com.example.unithon.global.metrics.TurnTrace;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync // 비동기 기능 활성화
+@EnableScheduling // 의도 사전 주기적 갱신 등
 public class AppConfig {
 
     @Bean
@@ -17,6 +20,7 @@ public class AppConfig {
         executor.setMaxPoolSize(10);     // 최대 스레드 수
         executor.setQueueCapacity(25);   // 대기 큐 크기
         executor.setThreadNamePrefix("tts-executor-"); // 스레드 이름 접두사
+        executor.setTaskDecorator(TurnTrace::decorate); // 호출 스레드의 turnId를 작업 스레드로 전달
         executor.initialize();
         return executor;
     }
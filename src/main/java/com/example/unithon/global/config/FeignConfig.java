@@ -1,13 +1,24 @@
-
 package com.example.unithon.global.config;
 
+import com.example.unithon.global.client.InterruptibleFeignClient;
+import feign.Client;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableFeignClients("com.example.unithon")
 @ImportAutoConfiguration(FeignAutoConfiguration.class)
 public class FeignConfig {
-}
\ No newline at end of file
+
+    /**
+     * 세션이 끊기면 Gemini 호출도 바로 끊을 수 있도록 인터럽트에 반응하는 클라이언트 사용.
+     * 연결/응답 timeout은 Feign 설정(Request.Options)을 따른다
+     */
+    @Bean
+    public Client feignClient() {
+        return new InterruptibleFeignClient();
+    }
+}
@@ -1,47 +1,51 @@
 package com.example.unithon.global.config;
 
-import com.google.auth.oauth2.GoogleCredentials;
+import com.example.unithon.global.gcp.GrpcCallTracker;
+import com.example.unithon.global.gcp.GrpcChannelProperties;
+import com.example.unithon.global.gcp.SharedCredentialsProvider;
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
 import com.google.cloud.speech.v1.SpeechClient;
 import com.google.cloud.speech.v1.SpeechSettings;
 import com.google.cloud.texttospeech.v1.TextToSpeechClient;
 import com.google.cloud.texttospeech.v1.TextToSpeechSettings;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
 
-import java.io.FileInputStream;
-import java.io.InputStream;
+import java.util.List;
 
 @Configuration
 @Slf4j
 public class GoogleCloudConfig {
 
+    /**
+     * 서비스 계정 인증 정보. 처음 쓰일 때 한 번만 읽어서 Speech/TTS 클라이언트가 같이 쓴다
+     */
+    @Bean
+    @ConditionalOnExpression("${feature.stt:false} or ${feature.tts:false}")
+    public CredentialsProvider googleCredentialsProvider() {
+        return new SharedCredentialsProvider();
+    }
+
     @Bean
     @ConditionalOnProperty(name = "feature.stt", havingValue = "true")
-    public SpeechClient speechClient() {
+    public SpeechClient speechClient(CredentialsProvider googleCredentialsProvider,
+                                     GrpcChannelProperties grpcChannelProperties,
+                                     MeterRegistry meterRegistry) {
         try {
-            log.info("SpeechClient 생성 중... (JSON 파일 사용)");
-            
-            GoogleCredentials credentials;
+            log.info("SpeechClient 생성 중...");
 
-            String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
-            if (credentialsPath != null && !credentialsPath.isEmpty()) {
-                log.info("환경변수에서 인증 파일 사용: {}", credentialsPath);
-                credentials = GoogleCredentials.fromStream(new FileInputStream(credentialsPath));
-            } else {
-                log.info("클래스패스에서 인증 파일 사용");
-                ClassPathResource resource = new ClassPathResource("unithon-4b2df7873498.json");
-                try (InputStream inputStream = resource.getInputStream()) {
-                    credentials = GoogleCredentials.fromStream(inputStream);
-                }
-            }
-            
             SpeechSettings settings = SpeechSettings.newBuilder()
-                .setCredentialsProvider(() -> credentials)
+                .setCredentialsProvider(googleCredentialsProvider)
+                .setTransportChannelProvider(channelPool(SpeechSettings.defaultGrpcTransportProviderBuilder(),
+                    "speech", grpcChannelProperties, meterRegistry))
                 .build();
-                
+
             log.info("SpeechClient 생성 완료");
             return SpeechClient.create(settings);
         } catch (Exception e) {
@@ -52,28 +56,18 @@ public class GoogleCloudConfig {
 
     @Bean
     @ConditionalOnProperty(name = "feature.tts", havingValue = "true")
-    public TextToSpeechClient textToSpeechClient() {
+    public TextToSpeechClient textToSpeechClient(CredentialsProvider googleCredentialsProvider,
+                                                 GrpcChannelProperties grpcChannelProperties,
+                                                 MeterRegistry meterRegistry) {
         try {
-            log.info("TextToSpeechClient 생성 중... (JSON 파일 사용)");
-            
-            GoogleCredentials credentials;
+            log.info("TextToSpeechClient 생성 중...");
 
-            String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
-            if (credentialsPath != null && !credentialsPath.isEmpty()) {
-                log.info("환경변수에서 인증 파일 사용: {}", credentialsPath);
-                credentials = GoogleCredentials.fromStream(new FileInputStream(credentialsPath));
-            } else {
-                log.info("클래스패스에서 인증 파일 사용");
-                ClassPathResource resource = new ClassPathResource("unithon-4b2df7873498.json");
-                try (InputStream inputStream = resource.getInputStream()) {
-                    credentials = GoogleCredentials.fromStream(inputStream);
-                }
-            }
-            
             TextToSpeechSettings settings = TextToSpeechSettings.newBuilder()
-                .setCredentialsProvider(() -> credentials)
+                .setCredentialsProvider(googleCredentialsProvider)
+                .setTransportChannelProvider(channelPool(TextToSpeechSettings.defaultGrpcTransportProviderBuilder(),
+                    "tts", grpcChannelProperties, meterRegistry))
                 .build();
-                
+
             log.info("TextToSpeechClient 생성 완료");
             return TextToSpeechClient.create(settings);
         } catch (Exception e) {
@@ -81,4 +75,29 @@ public class GoogleCloudConfig {
             throw new RuntimeException("Failed to create TextToSpeechClient", e);
         }
     }
+
+    /**
+     * 기본 단일 채널 대신 부하에 따라 늘어나는 채널 풀. 진행 중인 호출 수는 GrpcCallTracker가 센다
+     */
+    private InstantiatingGrpcChannelProvider channelPool(InstantiatingGrpcChannelProvider.Builder builder,
+                                                         String client,
+                                                         GrpcChannelProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        GrpcCallTracker tracker = new GrpcCallTracker(client, properties.callCapacity(), meterRegistry);
+        log.info("{} gRPC 채널 풀: 초기 {}개, 최대 {}개 (채널당 호출 {}개)", client,
+            properties.initialChannels(), properties.maxChannels(), properties.maxRpcsPerChannel());
+        return builder
+            .setChannelPoolSettings(ChannelPoolSettings.builder()
+                .setInitialChannelCount(properties.initialChannels())
+                .setMinChannelCount(properties.minChannels())
+                .setMaxChannelCount(properties.maxChannels())
+                .setMaxRpcsPerChannel(properties.maxRpcsPerChannel())
+                .build())
+            .setKeepAliveTimeDuration(properties.keepAliveTime())
+            .setKeepAliveTimeoutDuration(properties.keepAliveTimeout())
+            .setKeepAliveWithoutCalls(true)
+            .setMaxInboundMessageSize(properties.maxInboundMessageSize())
+            .setInterceptorProvider(() -> List.of(tracker))
+            .build();
+    }
 }
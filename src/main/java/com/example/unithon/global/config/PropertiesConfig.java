@@ -1,10 +1,16 @@
 package com.example.unithon.global.config;
 
+import com.example.unithon.domain.chat.service.MacroWebhookBatchProperties;
+import com.example.unithon.domain.chat.service.MacroWebhookHttpProperties;
 import com.example.unithon.global.client.gemini.GeminiProperties;
+import com.example.unithon.global.gcp.GrpcChannelProperties;
+import com.example.unithon.global.startup.StartupProperties;
+import com.example.unithon.global.startup.WarmupProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(value = {GeminiProperties.class})
+@EnableConfigurationProperties(value = {GeminiProperties.class, GrpcChannelProperties.class, MacroWebhookHttpProperties.class,
+	MacroWebhookBatchProperties.class, StartupProperties.class, WarmupProperties.class})
 public class PropertiesConfig {
 }
\ No newline at end of file
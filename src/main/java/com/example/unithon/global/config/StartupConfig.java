@@ -0,0 +1,32 @@
+package com.example.unithon.global.config;
+
+import com.example.unithon.global.client.gemini.GeminiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    /**
+     * 기동 시간을 가장 많이 잡아먹는 외부 클라이언트 빈 (인증 정보 파싱, gRPC 채널 풀, Feign 프록시).
+     * Feign 클라이언트 빈 이름은 인터페이스의 전체 클래스 이름이다
+     */
+    static final List<String> UPSTREAM_CLIENT_BEANS = List.of(
+        "googleCredentialsProvider", "speechClient", "textToSpeechClient", GeminiClient.class.getName());
+
+    /**
+     * 외부 클라이언트를 지연 생성 빈으로 바꾼다. 기동을 막지 않고 준비 완료 후 UpstreamClientWarmer가 백그라운드에서 만든다.
+     * 쓰는 쪽은 ObjectProvider로 받으므로 워머보다 요청이 먼저 오면 그 자리에서 만들어진다
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyUpstreamClients() {
+        return beanFactory -> UPSTREAM_CLIENT_BEANS.stream()
+            .filter(beanFactory::containsBeanDefinition)
+            .forEach(name -> beanFactory.getBeanDefinition(name).setLazyInit(true));
+    }
+}
@@ -17,6 +17,7 @@ public enum ErrorCode {
     // 사용자 입력 관련
     INVALID_USER_INPUT("INPUT_001", "올바르지 않은 입력입니다. 다시 말씀해주세요.", false),
     INVALID_QUANTITY("INPUT_002", "올바른 수량을 입력해주세요.", false),
+    UNSUPPORTED_AUDIO_FORMAT("INPUT_003", "지원하지 않는 오디오 형식입니다.", false),
     
     // 세션 관련
     SESSION_EXPIRED("SESSION_001", "세션이 만료되었습니다. 다시 시작해주세요.", false),
@@ -27,7 +28,9 @@ public enum ErrorCode {
     
     // 일반적인 서버 오류
     INTERNAL_SERVER_ERROR("SERVER_001", "서버 내부 오류가 발생했습니다.", true),
-    WEBSOCKET_ERROR("SERVER_002", "연결 중 오류가 발생했습니다.", true);
+    WEBSOCKET_ERROR("SERVER_002", "연결 중 오류가 발생했습니다.", true),
+    MESSAGE_PROCESSING_FAILED("SERVER_003", "메시지 처리 중 오류가 발생했습니다.", true),
+    SERVICE_DISABLED("SERVER_004", "서비스가 비활성화되어 있습니다.", false);
     
     private final String code;
     private final String message;
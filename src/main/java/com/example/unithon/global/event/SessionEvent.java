@@ -0,0 +1,9 @@
+package com.example.unithon.global.event;
+
+/**
+ * 세션 단위로 순서가 보장되어 전달되는 이벤트
+ */
+public interface SessionEvent {
+
+    String getSessionId();
+}
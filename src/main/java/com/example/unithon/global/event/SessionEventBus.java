@@ -0,0 +1,219 @@
+package com.example.unithon.global.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로세스 내부 비동기 세션 이벤트 버스.
+ * 세션마다 고정 크기 링 버퍼(mailbox)를 두고, 한 세션의 mailbox는 동시에 하나의 워커만 비우므로 발행 순서가 유지된다.
+ * 발행 스레드(대화 처리 스레드)는 큐에 넣기만 하고 직렬화/소켓 쓰기는 워커 스레드에서 배치 단위로 수행된다.
+ * mailbox는 연결될 때 open으로 만들고 close로 없앤다. 열려 있지 않은 세션으로 발행된 이벤트는 버린다.
+ * mailbox가 가득 차면 발행 스레드가 fullWait만큼 기다리고, 그래도 자리가 없으면 이벤트를 조용히 버리지 않고 수신자에게 알린다(onOverflow).
+ */
+@Component
+@Slf4j
+public class SessionEventBus {
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long fullWaitNanos;
+
+    private final Timer deliveryLag;
+    private final DistributionSummary batchSizes;
+    private final Counter droppedEvents;
+    private final Counter closedSessionEvents;
+
+    private volatile SessionEventSubscriber subscriber;
+
+    public SessionEventBus(MeterRegistry meterRegistry,
+                           @Value("${event-bus.threads:4}") int threads,
+                           @Value("${event-bus.queue-capacity:256}") int queueCapacity,
+                           @Value("${event-bus.batch-size:16}") int batchSize,
+                           @Value("${event-bus.full-wait-ms:200}") long fullWaitMillis) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "event-bus-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.fullWaitNanos = TimeUnit.MILLISECONDS.toNanos(fullWaitMillis);
+
+        this.deliveryLag = Timer.builder("session.event.lag")
+            .description("이벤트 발행부터 수신자 전달 완료까지 걸린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("session.event.batch.size")
+            .description("한 번에 전달된 세션 이벤트 수")
+            .register(meterRegistry);
+        this.droppedEvents = Counter.builder("session.event.dropped")
+            .description("mailbox가 가득 차 전달하지 못한 이벤트 수 (해당 연결은 끊는다)")
+            .register(meterRegistry);
+        this.closedSessionEvents = Counter.builder("session.event.closed")
+            .description("닫혔거나 열리지 않은 세션으로 발행돼 버려진 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("session.event.queue.depth", queuedEvents, AtomicInteger::get)
+            .description("전달 대기 중인 전체 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("session.event.mailboxes", mailboxes, Map::size)
+            .description("이벤트 mailbox가 열려 있는 세션 수")
+            .register(meterRegistry);
+    }
+
+    public void subscribe(SessionEventSubscriber subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    /**
+     * 세션 mailbox 열기 (연결 시). 이미 열려 있으면 그대로 둔다
+     */
+    public void open(String sessionId) {
+        mailboxes.computeIfAbsent(sessionId, Mailbox::new);
+    }
+
+    /**
+     * 이벤트를 세션 mailbox에 넣고 반환. 세션이 이미 닫혔으면 버린다.
+     * mailbox가 가득 차 있으면 잠깐 기다리고, 그래도 못 넣으면 수신자에게 알려 연결을 끊게 한다
+     */
+    public void publish(SessionEvent event) {
+        Mailbox mailbox = mailboxes.get(event.getSessionId());
+        if (mailbox == null) {
+            // 연결 종료 뒤 늦게 도착한 이벤트(에러, 비동기 턴, 웹훅 결과). mailbox를 다시 만들지 않는다
+            closedSessionEvents.increment();
+            log.debug("닫힌 세션으로 발행된 이벤트 버림 [{}]: {}",
+                event.getSessionId(), event.getClass().getSimpleName());
+            return;
+        }
+        Envelope envelope = new Envelope(event, System.nanoTime());
+        if (!mailbox.queue.offer(envelope) && !offerWithinFullWait(mailbox, envelope)) {
+            droppedEvents.increment();
+            log.error("세션 이벤트 mailbox가 가득 차 연결을 끊음 [{}]: {}",
+                event.getSessionId(), event.getClass().getSimpleName());
+            SessionEventSubscriber target = subscriber;
+            if (target != null) {
+                target.onOverflow(event.getSessionId());
+            }
+            return;
+        }
+        queuedEvents.incrementAndGet();
+        schedule(mailbox);
+    }
+
+    private boolean offerWithinFullWait(Mailbox mailbox, Envelope envelope) {
+        // 워커가 비우는 동안 기다린다. 대기 중에도 예약은 걸려 있다
+        schedule(mailbox);
+        try {
+            return mailbox.queue.offer(envelope, fullWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 세션 종료 시 mailbox 정리 (전달되지 않은 이벤트는 버림)
+     */
+    public void close(String sessionId) {
+        Mailbox mailbox = mailboxes.remove(sessionId);
+        if (mailbox != null) {
+            queuedEvents.addAndGet(-mailbox.queue.size());
+            mailbox.queue.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+        try {
+            if (!dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+                dispatcher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatcher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(mailbox));
+        }
+    }
+
+    /**
+     * 한 번에 batchSize개까지 꺼내 전달하고, 남은 이벤트가 있으면 다른 세션에 양보한 뒤 다시 예약한다
+     */
+    private void drain(Mailbox mailbox) {
+        List<Envelope> envelopes = new ArrayList<>(batchSize);
+        mailbox.queue.drainTo(envelopes, batchSize);
+
+        if (!envelopes.isEmpty()) {
+            queuedEvents.addAndGet(-envelopes.size());
+            deliver(mailbox.sessionId, envelopes);
+        }
+
+        mailbox.scheduled.set(false);
+        if (!mailbox.queue.isEmpty()) {
+            schedule(mailbox);
+        }
+    }
+
+    private void deliver(String sessionId, List<Envelope> envelopes) {
+        SessionEventSubscriber target = subscriber;
+        if (target == null) {
+            return;
+        }
+
+        List<SessionEvent> events = new ArrayList<>(envelopes.size());
+        for (Envelope envelope : envelopes) {
+            events.add(envelope.event);
+        }
+
+        try {
+            target.onEvents(sessionId, events);
+        } catch (Exception e) {
+            log.error("세션 이벤트 전달 실패 [{}]: {}", sessionId, e.getMessage(), e);
+        }
+
+        long now = System.nanoTime();
+        for (Envelope envelope : envelopes) {
+            deliveryLag.record(now - envelope.publishedAt, TimeUnit.NANOSECONDS);
+        }
+        batchSizes.record(envelopes.size());
+    }
+
+    private record Envelope(SessionEvent event, long publishedAt) {
+    }
+
+    private class Mailbox {
+        final String sessionId;
+        final ArrayBlockingQueue<Envelope> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(String sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+}
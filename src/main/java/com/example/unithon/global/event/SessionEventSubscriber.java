@@ -0,0 +1,18 @@
+package com.example.unithon.global.event;
+
+import java.util.List;
+
+/**
+ * 세션 이벤트 수신자. 같은 세션의 이벤트는 발행 순서대로, 한 번에 하나의 배치씩 전달된다.
+ */
+@FunctionalInterface
+public interface SessionEventSubscriber {
+
+    void onEvents(String sessionId, List<SessionEvent> events);
+
+    /**
+     * mailbox가 가득 차 이벤트를 넣지 못했을 때. 이후 프레임을 믿을 수 없으므로 연결을 끊어 클라이언트가 다시 붙게 한다
+     */
+    default void onOverflow(String sessionId) {
+    }
+}
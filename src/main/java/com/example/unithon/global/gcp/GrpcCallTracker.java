@@ -0,0 +1,85 @@
+package com.example.unithon.global.gcp;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클라이언트별 진행 중인 gRPC 호출(스트림) 수를 세는 인터셉터.
+ * 채널 풀 용량 대비 사용률(gcp.grpc.channel.saturation)이 1에 가까우면 새 스트림이 HTTP/2 연결 안에서 줄을 선다
+ */
+public class GrpcCallTracker implements ClientInterceptor {
+
+    private final int capacity;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final Counter overCapacity;
+
+    public GrpcCallTracker(String client, int capacity, MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        Gauge.builder("gcp.grpc.calls.active", activeCalls, AtomicInteger::get)
+            .description("진행 중인 gRPC 호출 수 (스트리밍 인식은 스트림이 끝날 때까지)")
+            .tag("client", client)
+            .register(meterRegistry);
+        Gauge.builder("gcp.grpc.channel.saturation", this, GrpcCallTracker::saturation)
+            .description("채널 풀 최대 용량 대비 진행 중인 호출 비율")
+            .tag("client", client)
+            .register(meterRegistry);
+        this.overCapacity = Counter.builder("gcp.grpc.calls.over.capacity")
+            .description("채널 풀 용량을 넘은 상태에서 시작된 호출 수 (대기 발생)")
+            .tag("client", client)
+            .register(meterRegistry);
+    }
+
+    public int activeCalls() {
+        return activeCalls.get();
+    }
+
+    public double saturation() {
+        return capacity <= 0 ? 0 : (double) activeCalls.get() / capacity;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            private final AtomicBoolean released = new AtomicBoolean();
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                if (activeCalls.incrementAndGet() > capacity) {
+                    overCapacity.increment();
+                }
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            release();
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    release();
+                    throw e;
+                }
+            }
+
+            private void release() {
+                if (released.compareAndSet(false, true)) {
+                    activeCalls.decrementAndGet();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.unithon.global.gcp;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Speech/TTS 클라이언트 gRPC 채널 풀 설정.
+ * HTTP/2 연결 하나가 동시에 여는 스트림은 100개 안팎이라, 채널당 maxRpcsPerChannel을 넘으면 maxChannels까지 채널을 늘린다
+ */
+@ConfigurationProperties(prefix = "google.cloud.grpc")
+public record GrpcChannelProperties(
+	@DefaultValue("2") int initialChannels,
+	@DefaultValue("1") int minChannels,
+	@DefaultValue("8") int maxChannels,
+	@DefaultValue("80") int maxRpcsPerChannel,
+	@DefaultValue("30s") Duration keepAliveTime,
+	@DefaultValue("10s") Duration keepAliveTimeout,
+	@DefaultValue("8388608") int maxInboundMessageSize
+) {
+
+	/**
+	 * 풀이 최대로 늘었을 때 동시에 처리할 수 있는 호출 수. 넘으면 호출이 채널 안에서 대기한다
+	 */
+	public int callCapacity() {
+		return maxChannels * maxRpcsPerChannel;
+	}
+}
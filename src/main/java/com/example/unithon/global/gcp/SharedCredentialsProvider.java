@@ -0,0 +1,52 @@
+package com.example.unithon.global.gcp;
+
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.auth.Credentials;
+import com.google.auth.oauth2.GoogleCredentials;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Speech/TTS 클라이언트가 같이 쓰는 서비스 계정 인증 정보.
+ * 처음 클라이언트가 만들어질 때 한 번만 읽고 이후에는 같은 GoogleCredentials를 돌려준다 (토큰 갱신도 한 곳에서)
+ */
+@Slf4j
+public class SharedCredentialsProvider implements CredentialsProvider {
+
+    private static final String CLASSPATH_KEY_FILE = "unithon-4b2df7873498.json";
+
+    private volatile GoogleCredentials credentials;
+
+    @Override
+    public Credentials getCredentials() throws IOException {
+        GoogleCredentials loaded = credentials;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = credentials;
+                if (loaded == null) {
+                    loaded = load();
+                    credentials = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private static GoogleCredentials load() throws IOException {
+        String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
+        if (credentialsPath != null && !credentialsPath.isEmpty()) {
+            log.info("환경변수에서 인증 파일 사용: {}", credentialsPath);
+            try (InputStream inputStream = new FileInputStream(credentialsPath)) {
+                return GoogleCredentials.fromStream(inputStream);
+            }
+        }
+        log.info("클래스패스에서 인증 파일 사용");
+        try (InputStream inputStream = new ClassPathResource(CLASSPATH_KEY_FILE).getInputStream()) {
+            return GoogleCredentials.fromStream(inputStream);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.unithon.global.gcp;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 클라이언트가 audio.start에 선언한 업링크 오디오 형식.
+ * 기본은 예전과 같은 LINEAR16 16kHz. OGG_OPUS/WEBM_OPUS는 Google STT가 그대로 받으므로 서버에서 디코딩하지 않고 넘긴다.
+ * Opus(약 24kbps)는 LINEAR16 16kHz(256kbps) 대비 업링크가 약 1/10이다.
+ */
+public record SttAudioFormat(AudioEncoding encoding, int sampleRateHertz) {
+
+    public static final SttAudioFormat DEFAULT = new SttAudioFormat(AudioEncoding.LINEAR16, 16000);
+
+    // Opus 컨테이너는 인코더 입력 샘플레이트만 받는다
+    private static final Set<Integer> OPUS_SAMPLE_RATES = Set.of(8000, 12000, 16000, 24000, 48000);
+    private static final int DEFAULT_OPUS_SAMPLE_RATE = 48000;
+
+    /**
+     * audio.start의 encoding/sampleRate 해석. 지원하지 않는 형식이면 null
+     */
+    public static SttAudioFormat parse(String encoding, Integer sampleRate) {
+        if (encoding == null || encoding.isBlank()) {
+            return sampleRate == null || sampleRate == DEFAULT.sampleRateHertz() ? DEFAULT
+                : linear16(sampleRate);
+        }
+        return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+            case "linear16", "pcm" -> linear16(sampleRate == null ? DEFAULT.sampleRateHertz() : sampleRate);
+            case "ogg_opus", "opus" -> opus(AudioEncoding.OGG_OPUS, sampleRate);
+            case "webm_opus", "webm" -> opus(AudioEncoding.WEBM_OPUS, sampleRate);
+            default -> null;
+        };
+    }
+
+    private static SttAudioFormat linear16(int sampleRate) {
+        // Google STT 권장 범위 (8kHz ~ 48kHz)
+        if (sampleRate < 8000 || sampleRate > 48000) {
+            return null;
+        }
+        return new SttAudioFormat(AudioEncoding.LINEAR16, sampleRate);
+    }
+
+    private static SttAudioFormat opus(AudioEncoding encoding, Integer sampleRate) {
+        int hertz = sampleRate == null ? DEFAULT_OPUS_SAMPLE_RATE : sampleRate;
+        if (!OPUS_SAMPLE_RATES.contains(hertz)) {
+            return null;
+        }
+        return new SttAudioFormat(encoding, hertz);
+    }
+}
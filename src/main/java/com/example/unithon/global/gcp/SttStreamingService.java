@@ -1,102 +1,101 @@
 package com.example.unithon.global.gcp;
 
+import com.example.unithon.global.logging.LogText;
 import com.google.api.gax.rpc.ClientStream;
 import com.google.api.gax.rpc.ResponseObserver;
 import com.google.api.gax.rpc.StreamController;
 import com.google.cloud.speech.v1.*;
 import com.google.protobuf.ByteString;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+/**
+ * Google STT 스트리밍 인식.
+ * 연결된 세션마다 설정 요청까지 보낸 인식 스트림을 하나 미리 열어 두고(prewarm), audio.start 때 그 스트림을 바로 쓴다.
+ * 오디오 없이 열려 있는 스트림은 Google이 끊기 전에(prewarm.max-idle-ms) 새 스트림으로 바꾸되,
+ * 마지막 발화 뒤로 prewarm.max-renewals번까지만 바꾸고 그 뒤로는 다음 audio.start 때 새로 연다 (유휴 키오스크의 빈 스트림 방지).
+ * 업링크 형식(LINEAR16/OGG_OPUS/WEBM_OPUS)은 audio.start마다 정해지며, 대기 스트림은 세션이 마지막으로 쓴 형식으로 연다.
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "feature.stt", havingValue = "true")
 public class SttStreamingService {
 
-    private final SpeechClient speechClient;
+    // 지연 생성 빈. 기동 후 UpstreamClientWarmer가 백그라운드에서 미리 만든다
+    private final ObjectProvider<SpeechClient> speechClient;
     private final Map<String, StreamingSession> streamingSessions = new ConcurrentHashMap<>();
+    // prewarm을 요청한 (연결 중인) 세션과 그 세션의 대기 스트림
+    private final Set<String> prewarmSessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, RecognizeStream> warmStreams = new ConcurrentHashMap<>();
+    // 세션이 마지막으로 쓴 업링크 형식. 다음 대기 스트림을 이 형식으로 연다
+    private final Map<String, SttAudioFormat> audioFormats = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
 
-    /**
-     * STT 스트리밍 세션 시작
-     */
-    public void startStreaming(String sessionId, Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
-        try {
-            ResponseObserver<StreamingRecognizeResponse> responseObserver = new ResponseObserver<>() {
-                @Override
-                public void onStart(StreamController controller) {
-                    log.debug("STT 스트리밍 시작됨 [{}]", sessionId);
-                }
-
-                @Override
-                public void onResponse(StreamingRecognizeResponse response) {
-                    StreamingSession session = streamingSessions.get(sessionId);
-                    // 세션이 이미 종료된 후 도착하는 응답은 무시
-                    if (session == null) return;
-
-                    for (StreamingRecognitionResult result : response.getResultsList()) {
-                        if (result.getAlternativesCount() > 0) {
-                            SpeechRecognitionAlternative alternative = result.getAlternatives(0);
-                            String transcript = alternative.getTranscript();
-
-                            if (result.getIsFinal()) {
-                                log.info("STT 최종 결과 [{}]: {}", sessionId, transcript);
-                                session.cancelTimeoutTask(); // ㄹ최종 결과를 받았으므로 타임아웃 취소
-                                onFinalResult.accept(transcript);
-                            } else {
-                                log.debug("STT 중간 결과 [{}]: {}", sessionId, transcript);
-                                onPartialResult.accept(transcript);
-                            }
-                        }
-                    }
-                }
-
-                @Override
-                public void onError(Throwable t) {
-                    log.error("STT 스트리밍 오류 [{}]: {}", sessionId, t.getMessage());
-                    // 오류 발생 시에도 리소스 정리
-                    cleanupSession(sessionId);
-                }
+    private final boolean prewarmEnabled;
+    // 오디오 없이 스트림을 열어 둘 수 있는 시간. Google은 오디오가 10초 넘게 없으면 스트림을 끊는다
+    private final long prewarmMaxIdleMs;
+    // 발화 없이 대기 스트림을 바꿔 여는 최대 횟수
+    private final int prewarmMaxRenewals;
 
-                @Override
-                public void onComplete() {
-                    log.info("STT 스트리밍 완료 (onComplete) [{}]", sessionId);
-                    // Google 서버가 스트림을 닫았을 때 호출됨. 리소스만 정리.
-                    cleanupSession(sessionId);
-                }
-            };
-
-            ClientStream<StreamingRecognizeRequest> clientStream = speechClient.streamingRecognizeCallable().splitCall(responseObserver);
+    public SttStreamingService(ObjectProvider<SpeechClient> speechClient,
+                               @Value("${stt.prewarm.enabled:true}") boolean prewarmEnabled,
+                               @Value("${stt.prewarm.max-idle-ms:8000}") long prewarmMaxIdleMs,
+                               @Value("${stt.prewarm.max-renewals:3}") int prewarmMaxRenewals) {
+        this.speechClient = speechClient;
+        this.prewarmEnabled = prewarmEnabled;
+        this.prewarmMaxIdleMs = prewarmMaxIdleMs;
+        this.prewarmMaxRenewals = prewarmMaxRenewals;
+    }
 
-            RecognitionConfig recognitionConfig = RecognitionConfig.newBuilder()
-                    .setEncoding(RecognitionConfig.AudioEncoding.LINEAR16)
-                    .setSampleRateHertz(16000)
-                    .setLanguageCode("ko-KR")
-                    .setEnableAutomaticPunctuation(true)
-                    .setModel("latest_short")
-                    .build();
+    /**
+     * 세션의 다음 발화용 인식 스트림을 미리 연다 (WebSocket 연결 시). 연결이 끝날 때까지 계속 채워 둔다
+     */
+    public void prewarm(String sessionId) {
+        if (!prewarmEnabled) {
+            return;
+        }
+        prewarmSessions.add(sessionId);
+        refillWarmStream(sessionId, 0);
+    }
 
-            StreamingRecognitionConfig streamingConfig = StreamingRecognitionConfig.newBuilder()
-                    .setConfig(recognitionConfig)
-                    .setInterimResults(true)
-                    .setSingleUtterance(true)
-                    .build();
+    /**
+     * STT 스트리밍 세션 시작 (LINEAR16 16kHz)
+     */
+    public void startStreaming(String sessionId, Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
+        startStreaming(sessionId, SttAudioFormat.DEFAULT, onPartialResult, onFinalResult);
+    }
 
-            StreamingRecognizeRequest configRequest = StreamingRecognizeRequest.newBuilder()
-                    .setStreamingConfig(streamingConfig)
-                    .build();
-            clientStream.send(configRequest);
+    /**
+     * 클라이언트가 선언한 형식으로 STT 스트리밍 세션 시작
+     */
+    public void startStreaming(String sessionId, SttAudioFormat format,
+                               Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
+        try {
+            if (prewarmSessions.contains(sessionId)) {
+                audioFormats.put(sessionId, format);
+            }
+            RecognizeStream stream = takeWarmStream(sessionId, format);
+            if (stream == null) {
+                stream = openStream(sessionId, format);
+                log.debug("STT 스트림 새로 열기 [{}]: {} {}Hz", sessionId, format.encoding(), format.sampleRateHertz());
+            } else {
+                log.debug("STT 미리 연 스트림 사용 [{}] ({}ms 대기)", sessionId, stream.idleMillis());
+            }
 
             // 30초 후 자동 종료 스케줄링 (기존 10초에서 30초로 증가)
             ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
@@ -105,13 +104,52 @@ public class SttStreamingService {
                 endAudioStream(sessionId); // 스트림을 정상적으로 종료 시도
             }, 30, TimeUnit.SECONDS);
 
-            streamingSessions.put(sessionId, new StreamingSession(clientStream, timeoutTask));
+            streamingSessions.put(sessionId, new StreamingSession(stream, timeoutTask));
+            stream.bind(onPartialResult, onFinalResult);
 
         } catch (Exception e) {
             log.error("STT 스트리밍 시작 실패 [{}]: {}", sessionId, e.getMessage(), e);
         }
     }
 
+    /**
+     * 웜업: 설정 요청만 보내고 바로 닫는 인식 스트림을 count개 동시에 열어 채널 풀의 gRPC 연결(TLS, HTTP/2)을 미리 맺는다.
+     * Google이 빈 결과로 스트림을 끝낼 때까지(왕복 한 번) 기다리고, timeout 안에 끝난 스트림 수를 돌려준다
+     */
+    public int warmUpChannels(int count, Duration timeout) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(count);
+        AtomicInteger completed = new AtomicInteger();
+        ResponseObserver<StreamingRecognizeResponse> observer = new ResponseObserver<>() {
+            @Override
+            public void onStart(StreamController controller) {
+            }
+
+            @Override
+            public void onResponse(StreamingRecognizeResponse response) {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("STT 웜업 스트림 오류: {}", t.getMessage());
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+                done.countDown();
+            }
+        };
+        SpeechClient client = speechClient.getObject();
+        for (int i = 0; i < count; i++) {
+            ClientStream<StreamingRecognizeRequest> stream = client.streamingRecognizeCallable().splitCall(observer);
+            stream.send(configRequest(SttAudioFormat.DEFAULT));
+            stream.closeSend();
+        }
+        done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        return completed.get();
+    }
+
     /**
      * 오디오 청크 전송
      */
@@ -122,7 +160,7 @@ public class SttStreamingService {
                 StreamingRecognizeRequest audioRequest = StreamingRecognizeRequest.newBuilder()
                         .setAudioContent(ByteString.copyFrom(audioData))
                         .build();
-                session.clientStream.send(audioRequest);
+                session.stream.clientStream.send(audioRequest);
             } catch (Exception e) {
                 log.error("오디오 청크 전송 실패 [{}]: {}", sessionId, e.getMessage());
             }
@@ -136,8 +174,8 @@ public class SttStreamingService {
         StreamingSession session = streamingSessions.get(sessionId);
         if (session != null && session.setClosing()) { // setClosing()이 true를 반환할 때만 실행 (최초 1회)
             try {
-                log.info("STT 오디오 스트림 종료 신호 전송 [{}]", sessionId);
-                session.clientStream.closeSend();
+                log.debug("STT 오디오 스트림 종료 신호 전송 [{}]", sessionId);
+                session.stream.clientStream.closeSend();
             } catch (Exception e) {
                 log.error("STT 오디오 스트림 종료 실패 [{}]: {}", sessionId, e.getMessage());
                 cleanupSession(sessionId); // 실패 시에도 리소스 정리
@@ -146,14 +184,21 @@ public class SttStreamingService {
     }
 
     /**
-     * STT 스트리밍 세션 종료
+     * STT 스트리밍 세션 종료 (연결 종료). 미리 열어 둔 스트림도 닫는다
      */
     public void stopStreaming(String sessionId) {
+        prewarmSessions.remove(sessionId);
+        audioFormats.remove(sessionId);
+        RecognizeStream warm = warmStreams.remove(sessionId);
+        if (warm != null) {
+            warm.discard();
+        }
+
         StreamingSession session = streamingSessions.get(sessionId);
         if (session != null) {
             if (session.setClosing()) { // 아직 닫는 중이 아닐 경우에만 closeSend() 호출
                 try {
-                    session.clientStream.closeSend();
+                    session.stream.clientStream.closeSend();
                     log.info("STT 스트리밍 강제 종료 [{}]", sessionId);
                 } catch (Exception e) {
                     log.error("STT 세션 강제 종료 중 오류 [{}]: {}", sessionId, e.getMessage());
@@ -167,17 +212,219 @@ public class SttStreamingService {
         StreamingSession session = streamingSessions.remove(sessionId);
         if (session != null) {
             session.cancelTimeoutTask();
-            log.info("STT 세션 리소스 정리 완료 [{}]", sessionId);
+            log.debug("STT 세션 리소스 정리 완료 [{}]", sessionId);
+        }
+        // 발화 하나가 끝났으니 다음 발화용 스트림을 미리 연다
+        refillWarmStream(sessionId, 0);
+    }
+
+    /**
+     * 대기 스트림을 꺼낸다. 이미 닫혔거나 곧 끊길 스트림, 형식이 다른 스트림이면 버리고 null
+     */
+    private RecognizeStream takeWarmStream(String sessionId, SttAudioFormat format) {
+        RecognizeStream stream = warmStreams.remove(sessionId);
+        if (stream == null) {
+            return null;
+        }
+        stream.cancelRenewTask();
+        if (stream.isDead() || stream.idleMillis() >= prewarmMaxIdleMs || !stream.format.equals(format)) {
+            stream.discard();
+            return null;
+        }
+        return stream;
+    }
+
+    /**
+     * 대기 스트림을 새로 연다. renewals는 마지막 발화 뒤로 오디오 없이 바꿔 연 횟수
+     */
+    private void refillWarmStream(String sessionId, int renewals) {
+        if (!prewarmSessions.contains(sessionId) || streamingSessions.containsKey(sessionId)) {
+            return;
+        }
+        try {
+            RecognizeStream stream = openStream(sessionId, audioFormats.getOrDefault(sessionId, SttAudioFormat.DEFAULT));
+            stream.renewals = renewals;
+            RecognizeStream previous = warmStreams.put(sessionId, stream);
+            if (previous != null) {
+                previous.cancelRenewTask();
+                previous.discard();
+            }
+            stream.renewTask = scheduler.schedule(() -> renewWarmStream(sessionId, stream),
+                prewarmMaxIdleMs, TimeUnit.MILLISECONDS);
+            // 그 사이 연결이 끊겼으면 방금 연 스트림도 정리
+            if (!prewarmSessions.contains(sessionId) && warmStreams.remove(sessionId, stream)) {
+                stream.cancelRenewTask();
+                stream.discard();
+            }
+        } catch (Exception e) {
+            log.warn("STT 스트림 미리 열기 실패 [{}]: {}", sessionId, e.getMessage());
+        }
+    }
+
+    private void renewWarmStream(String sessionId, RecognizeStream stream) {
+        if (warmStreams.remove(sessionId, stream)) {
+            stream.discard();
+            if (stream.renewals >= prewarmMaxRenewals) {
+                // 한동안 말이 없는 연결. 다음 audio.start에서 스트림을 새로 연다
+                log.debug("STT 대기 스트림 중단 [{}]: 발화 없이 {}회 갱신", sessionId, stream.renewals);
+                return;
+            }
+            log.debug("STT 대기 스트림 갱신 [{}]", sessionId);
+            refillWarmStream(sessionId, stream.renewals + 1);
+        }
+    }
+
+    /**
+     * 인식 스트림을 열고 설정 요청까지 보낸다. 결과 콜백은 bind 전까지 비어 있다
+     */
+    private RecognizeStream openStream(String sessionId, SttAudioFormat format) {
+        RecognizeStream stream = new RecognizeStream(sessionId, format);
+        stream.clientStream = speechClient.getObject().streamingRecognizeCallable().splitCall(stream);
+        stream.clientStream.send(configRequest(format));
+        return stream;
+    }
+
+    private static StreamingRecognizeRequest configRequest(SttAudioFormat format) {
+        RecognitionConfig recognitionConfig = RecognitionConfig.newBuilder()
+                .setEncoding(format.encoding())
+                .setSampleRateHertz(format.sampleRateHertz())
+                .setLanguageCode("ko-KR")
+                .setEnableAutomaticPunctuation(true)
+                .setModel("latest_short")
+                .build();
+
+        StreamingRecognitionConfig streamingConfig = StreamingRecognitionConfig.newBuilder()
+                .setConfig(recognitionConfig)
+                .setInterimResults(true)
+                .setSingleUtterance(true)
+                .build();
+
+        return StreamingRecognizeRequest.newBuilder()
+                .setStreamingConfig(streamingConfig)
+                .build();
+    }
+
+    /**
+     * 인식 스트림 하나. 미리 열린 동안에는 응답을 버리고, bind 이후부터 세션 콜백으로 전달한다
+     */
+    private class RecognizeStream implements ResponseObserver<StreamingRecognizeResponse> {
+        private final String sessionId;
+        private final SttAudioFormat format;
+        private final long openedAtNanos = System.nanoTime();
+        private volatile ClientStream<StreamingRecognizeRequest> clientStream;
+        private volatile StreamController controller;
+        private volatile Consumer<String> onPartialResult;
+        private volatile Consumer<String> onFinalResult;
+        private volatile boolean dead;
+        private volatile ScheduledFuture<?> renewTask;
+        private volatile int renewals;
+
+        RecognizeStream(String sessionId, SttAudioFormat format) {
+            this.sessionId = sessionId;
+            this.format = format;
+        }
+
+        void bind(Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
+            this.onPartialResult = onPartialResult;
+            this.onFinalResult = onFinalResult;
+        }
+
+        long idleMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedAtNanos);
+        }
+
+        boolean isDead() {
+            return dead;
+        }
+
+        void cancelRenewTask() {
+            ScheduledFuture<?> task = renewTask;
+            if (task != null && !task.isDone()) {
+                task.cancel(false);
+            }
+        }
+
+        /**
+         * 쓰지 않은 대기 스트림 닫기
+         */
+        void discard() {
+            dead = true;
+            try {
+                if (controller != null) {
+                    controller.cancel();
+                } else if (clientStream != null) {
+                    clientStream.closeSend();
+                }
+            } catch (Exception e) {
+                log.debug("STT 대기 스트림 닫기 실패 [{}]: {}", sessionId, e.getMessage());
+            }
+        }
+
+        private boolean isActive() {
+            StreamingSession session = streamingSessions.get(sessionId);
+            return session != null && session.stream == this && onFinalResult != null;
+        }
+
+        @Override
+        public void onStart(StreamController controller) {
+            this.controller = controller;
+            log.debug("STT 스트리밍 시작됨 [{}]", sessionId);
+        }
+
+        @Override
+        public void onResponse(StreamingRecognizeResponse response) {
+            // 대기 중이거나 세션이 이미 종료된 후 도착하는 응답은 무시
+            if (!isActive()) return;
+            StreamingSession session = streamingSessions.get(sessionId);
+
+            for (StreamingRecognitionResult result : response.getResultsList()) {
+                if (result.getAlternativesCount() > 0) {
+                    SpeechRecognitionAlternative alternative = result.getAlternatives(0);
+                    String transcript = alternative.getTranscript();
+
+                    if (result.getIsFinal()) {
+                        log.info("STT 최종 결과 [{}]: {}", sessionId, LogText.transcript(transcript));
+                        session.cancelTimeoutTask(); // 최종 결과를 받았으므로 타임아웃 취소
+                        onFinalResult.accept(transcript);
+                    } else {
+                        log.debug("STT 중간 결과 [{}]: {}", sessionId, LogText.transcript(transcript));
+                        onPartialResult.accept(transcript);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            dead = true;
+            if (!isActive()) {
+                log.debug("STT 대기 스트림 종료 [{}]: {}", sessionId, t.getMessage());
+                return;
+            }
+            log.error("STT 스트리밍 오류 [{}]: {}", sessionId, t.getMessage());
+            // 오류 발생 시에도 리소스 정리
+            cleanupSession(sessionId);
+        }
+
+        @Override
+        public void onComplete() {
+            dead = true;
+            if (!isActive()) {
+                return;
+            }
+            log.info("STT 스트리밍 완료 (onComplete) [{}]", sessionId);
+            // Google 서버가 스트림을 닫았을 때 호출됨. 리소스만 정리.
+            cleanupSession(sessionId);
         }
     }
 
     private static class StreamingSession {
-        final ClientStream<StreamingRecognizeRequest> clientStream;
+        final RecognizeStream stream;
         final ScheduledFuture<?> timeoutTask;
         private boolean closing = false;
 
-        StreamingSession(ClientStream<StreamingRecognizeRequest> clientStream, ScheduledFuture<?> timeoutTask) {
-            this.clientStream = clientStream;
+        StreamingSession(RecognizeStream stream, ScheduledFuture<?> timeoutTask) {
+            this.stream = stream;
             this.timeoutTask = timeoutTask;
         }
 
@@ -206,4 +453,4 @@ public class SttStreamingService {
             }
         }
     }
-} 
\ No newline at end of file
+}
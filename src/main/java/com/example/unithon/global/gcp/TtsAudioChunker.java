@@ -0,0 +1,185 @@
+package com.example.unithon.global.gcp;
+
+import com.google.cloud.texttospeech.v1.AudioEncoding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TTS 오디오를 코덱 프레임 경계에 맞춰 청크로 나눈다. 청크는 targetSize 이상이 될 때까지 프레임을 모은다.
+ * MP3는 프레임 헤더, OGG_OPUS는 패킷이 끝나는 페이지, LINEAR16은 샘플 경계에서만 자른다.
+ * 첫 청크에는 컨테이너 헤더(ID3, Opus 헤더 페이지, WAV 헤더)가 같이 들어가 첫 청크만으로 재생을 시작할 수 있다.
+ * 형식을 해석하지 못하면 예전처럼 targetSize 고정 크기로 자른다.
+ */
+final class TtsAudioChunker {
+
+    private static final int[] MPEG1_LAYER3_KBPS = {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320};
+    private static final int[] MPEG2_LAYER3_KBPS = {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160};
+    private static final int[] MPEG1_SAMPLE_RATES = {44100, 48000, 32000};
+
+    private TtsAudioChunker() {
+    }
+
+    static List<byte[]> split(byte[] audio, AudioEncoding encoding, int targetSize) {
+        int[] cuts = switch (encoding) {
+            case MP3 -> mp3Cuts(audio);
+            case OGG_OPUS -> oggCuts(audio);
+            case LINEAR16 -> pcmCuts(audio, targetSize);
+            default -> null;
+        };
+        if (cuts == null) {
+            cuts = fixedCuts(audio.length, targetSize);
+        }
+        return group(audio, cuts, targetSize);
+    }
+
+    /**
+     * 자를 수 있는 위치(오름차순, 마지막은 audio.length)를 모아 targetSize 이상씩 묶는다
+     */
+    private static List<byte[]> group(byte[] audio, int[] cuts, int targetSize) {
+        List<byte[]> chunks = new ArrayList<>(audio.length / Math.max(1, targetSize) + 1);
+        int start = 0;
+        for (int i = 0; i < cuts.length; i++) {
+            int cut = cuts[i];
+            boolean last = i == cuts.length - 1;
+            if (cut > start && (cut - start >= targetSize || last)) {
+                chunks.add(Arrays.copyOfRange(audio, start, cut));
+                start = cut;
+            }
+        }
+        return chunks;
+    }
+
+    private static int[] fixedCuts(int length, int targetSize) {
+        int count = (length + targetSize - 1) / targetSize;
+        int[] cuts = new int[count];
+        for (int i = 0; i < count; i++) {
+            cuts[i] = Math.min(length, (i + 1) * targetSize);
+        }
+        return cuts;
+    }
+
+    /**
+     * MPEG Layer III 프레임 경계. ID3v2 태그는 첫 프레임에 붙인다
+     */
+    private static int[] mp3Cuts(byte[] audio) {
+        int offset = id3v2Length(audio);
+        List<Integer> cuts = new ArrayList<>();
+        while (offset + 4 <= audio.length) {
+            int frameLength = mp3FrameLength(audio, offset);
+            if (frameLength <= 0) {
+                break;
+            }
+            offset = Math.min(audio.length, offset + frameLength);
+            cuts.add(offset);
+        }
+        if (cuts.isEmpty()) {
+            return null;
+        }
+        if (offset < audio.length) {
+            // 뒤쪽 해석 못 한 바이트는 마지막 청크에 붙인다
+            cuts.set(cuts.size() - 1, audio.length);
+        }
+        return cuts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int id3v2Length(byte[] audio) {
+        if (audio.length < 10 || audio[0] != 'I' || audio[1] != 'D' || audio[2] != '3') {
+            return 0;
+        }
+        int size = (audio[6] & 0x7F) << 21 | (audio[7] & 0x7F) << 14 | (audio[8] & 0x7F) << 7 | (audio[9] & 0x7F);
+        boolean footer = (audio[5] & 0x10) != 0;
+        return Math.min(audio.length, 10 + size + (footer ? 10 : 0));
+    }
+
+    private static int mp3FrameLength(byte[] audio, int offset) {
+        int b1 = audio[offset + 1] & 0xFF;
+        int b2 = audio[offset + 2] & 0xFF;
+        if ((audio[offset] & 0xFF) != 0xFF || (b1 & 0xE0) != 0xE0) {
+            return -1;
+        }
+        int version = (b1 >> 3) & 0x3; // 3: MPEG1, 2: MPEG2, 0: MPEG2.5
+        int layer = (b1 >> 1) & 0x3;   // 1: Layer III
+        int bitrateIndex = (b2 >> 4) & 0xF;
+        int sampleRateIndex = (b2 >> 2) & 0x3;
+        if (version == 1 || layer != 1 || bitrateIndex == 0 || bitrateIndex == 15 || sampleRateIndex == 3) {
+            return -1;
+        }
+        boolean mpeg1 = version == 3;
+        int bitrate = (mpeg1 ? MPEG1_LAYER3_KBPS : MPEG2_LAYER3_KBPS)[bitrateIndex] * 1000;
+        int sampleRate = MPEG1_SAMPLE_RATES[sampleRateIndex] >> (mpeg1 ? 0 : version == 2 ? 1 : 2);
+        int padding = (b2 >> 1) & 0x1;
+        return (mpeg1 ? 144 : 72) * bitrate / sampleRate + padding;
+    }
+
+    /**
+     * OGG 페이지 경계. 헤더 페이지(granule 0)와 패킷이 다음 페이지로 이어지는 페이지(granule -1) 뒤에서는 자르지 않는다
+     */
+    private static int[] oggCuts(byte[] audio) {
+        List<Integer> cuts = new ArrayList<>();
+        int offset = 0;
+        while (offset + 27 <= audio.length) {
+            if (audio[offset] != 'O' || audio[offset + 1] != 'g' || audio[offset + 2] != 'g' || audio[offset + 3] != 'S') {
+                break;
+            }
+            long granule = 0;
+            for (int i = 7; i >= 0; i--) {
+                granule = granule << 8 | (audio[offset + 6 + i] & 0xFF);
+            }
+            int segments = audio[offset + 26] & 0xFF;
+            if (offset + 27 + segments > audio.length) {
+                break;
+            }
+            int bodyLength = 0;
+            for (int i = 0; i < segments; i++) {
+                bodyLength += audio[offset + 27 + i] & 0xFF;
+            }
+            offset = Math.min(audio.length, offset + 27 + segments + bodyLength);
+            if (granule != 0 && granule != -1) {
+                cuts.add(offset);
+            }
+        }
+        if (cuts.isEmpty()) {
+            return null;
+        }
+        if (cuts.get(cuts.size() - 1) < audio.length) {
+            cuts.set(cuts.size() - 1, audio.length);
+        }
+        return cuts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * WAV(LINEAR16)는 data 청크 시작부터 blockAlign 배수로 자른다. 헤더가 없으면 16비트 모노로 본다
+     */
+    private static int[] pcmCuts(byte[] audio, int targetSize) {
+        int dataStart = 0;
+        int blockAlign = 2;
+        if (audio.length >= 12 && audio[0] == 'R' && audio[1] == 'I' && audio[2] == 'F' && audio[3] == 'F'
+                && audio[8] == 'W' && audio[9] == 'A' && audio[10] == 'V' && audio[11] == 'E') {
+            int offset = 12;
+            while (offset + 8 <= audio.length) {
+                int size = (audio[offset + 4] & 0xFF) | (audio[offset + 5] & 0xFF) << 8
+                        | (audio[offset + 6] & 0xFF) << 16 | (audio[offset + 7] & 0xFF) << 24;
+                if (audio[offset] == 'f' && audio[offset + 1] == 'm' && audio[offset + 2] == 't' && offset + 22 <= audio.length) {
+                    blockAlign = Math.max(1, (audio[offset + 20] & 0xFF) | (audio[offset + 21] & 0xFF) << 8);
+                }
+                if (audio[offset] == 'd' && audio[offset + 1] == 'a' && audio[offset + 2] == 't' && audio[offset + 3] == 'a') {
+                    dataStart = offset + 8;
+                    break;
+                }
+                if (size < 0) {
+                    break;
+                }
+                offset += 8 + size + (size & 1);
+            }
+        }
+        int step = Math.max(blockAlign, targetSize / blockAlign * blockAlign);
+        int count = Math.max(1, (audio.length - dataStart + step - 1) / step);
+        int[] cuts = new int[count];
+        for (int i = 0; i < count; i++) {
+            cuts[i] = Math.min(audio.length, dataStart + (i + 1) * step);
+        }
+        return cuts;
+    }
+}
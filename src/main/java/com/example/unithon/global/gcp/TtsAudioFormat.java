@@ -0,0 +1,98 @@
+package com.example.unithon.global.gcp;
+
+import com.example.unithon.global.logging.LogText;
+import com.google.cloud.texttospeech.v1.AudioEncoding;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 클라이언트가 연결할 때 고른 TTS 출력 형식.
+ * OGG_OPUS는 대역폭이 작고, LINEAR16(WAV)은 디코딩 지연이 가장 짧고, MP3는 어디서나 재생된다.
+ * sampleRateHertz가 0이면 목소리 기본값을 쓴다.
+ */
+@Slf4j
+public record TtsAudioFormat(AudioEncoding encoding, int sampleRateHertz, double speakingRate) {
+
+    public static final TtsAudioFormat DEFAULT = new TtsAudioFormat(AudioEncoding.MP3, 0, 1.0);
+
+    private static final int DEFAULT_PCM_SAMPLE_RATE = 24000;
+    private static final Set<Integer> PCM_SAMPLE_RATES = Set.of(8000, 11025, 16000, 22050, 24000, 32000, 44100, 48000);
+    // Opus 인코더가 받는 입력 샘플레이트
+    private static final Set<Integer> OPUS_SAMPLE_RATES = Set.of(8000, 12000, 16000, 24000, 48000);
+    private static final double MIN_SPEAKING_RATE = 0.25;
+    private static final double MAX_SPEAKING_RATE = 4.0;
+
+    /**
+     * 연결 파라미터(ttsCodec, ttsSampleRate, ttsSpeakingRate)로 형식 결정. 모르는 값은 기본값으로 대신한다
+     */
+    public static TtsAudioFormat negotiate(String codec, String sampleRate, String speakingRate) {
+        AudioEncoding encoding = parseEncoding(codec);
+        return new TtsAudioFormat(encoding, parseSampleRate(encoding, sampleRate), parseSpeakingRate(speakingRate));
+    }
+
+    /**
+     * 클라이언트에 알려 주는 코덱 이름 (mp3, ogg_opus, linear16)
+     */
+    public String codecName() {
+        return encoding.name().toLowerCase(Locale.ROOT);
+    }
+
+    public String mimeType() {
+        return switch (encoding) {
+            case OGG_OPUS -> "audio/ogg; codecs=opus";
+            case LINEAR16 -> "audio/wav";
+            default -> "audio/mpeg";
+        };
+    }
+
+    private static AudioEncoding parseEncoding(String codec) {
+        if (codec == null || codec.isBlank()) {
+            return DEFAULT.encoding();
+        }
+        return switch (codec.trim().toLowerCase(Locale.ROOT)) {
+            case "mp3" -> AudioEncoding.MP3;
+            case "opus", "ogg", "ogg_opus" -> AudioEncoding.OGG_OPUS;
+            case "pcm", "wav", "linear16" -> AudioEncoding.LINEAR16;
+            default -> {
+                log.warn("지원하지 않는 TTS 코덱: {} - mp3 사용", LogText.truncate(codec, LogText.TEXT_LIMIT));
+                yield DEFAULT.encoding();
+            }
+        };
+    }
+
+    private static int parseSampleRate(AudioEncoding encoding, String sampleRate) {
+        int fallback = encoding == AudioEncoding.MP3 ? 0 : DEFAULT_PCM_SAMPLE_RATE;
+        if (sampleRate == null || sampleRate.isBlank()) {
+            return fallback;
+        }
+        try {
+            int hertz = Integer.parseInt(sampleRate.trim());
+            Set<Integer> supported = encoding == AudioEncoding.OGG_OPUS ? OPUS_SAMPLE_RATES : PCM_SAMPLE_RATES;
+            if (supported.contains(hertz)) {
+                return hertz;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 기본값 사용
+        }
+        log.warn("지원하지 않는 TTS 샘플레이트: {} ({}) - 기본값 사용", LogText.truncate(sampleRate, LogText.TEXT_LIMIT), encoding);
+        return fallback;
+    }
+
+    private static double parseSpeakingRate(String speakingRate) {
+        if (speakingRate == null || speakingRate.isBlank()) {
+            return DEFAULT.speakingRate();
+        }
+        try {
+            double rate = Double.parseDouble(speakingRate.trim());
+            if (Double.isFinite(rate)) {
+                return Math.max(MIN_SPEAKING_RATE, Math.min(MAX_SPEAKING_RATE, rate));
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 기본값 사용
+        }
+        log.warn("잘못된 TTS 말하기 속도: {} - 기본값 사용", LogText.truncate(speakingRate, LogText.TEXT_LIMIT));
+        return DEFAULT.speakingRate();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.unithon.global.gcp;
+
+/**
+ * 취소할 수 있는 TTS 합성/스트리밍 작업 하나.
+ * 취소되면 아직 시작하지 않은 작업은 건너뛰고, 진행 중인 작업은 다음 청크 전에 멈춘다 (청크 사이 대기 중이면 깨운다).
+ * cancel과 청크 전송을 같은 잠금(this)으로 묶으면 취소 알림 뒤에 청크가 나가지 않는다.
+ */
+public class TtsJob {
+
+    private boolean cancelled;
+    private boolean started;
+    private Thread runner;
+
+    /**
+     * 작업 스레드 등록. 이미 취소됐으면 false
+     */
+    synchronized boolean attach(Thread thread) {
+        if (cancelled) {
+            return false;
+        }
+        this.runner = thread;
+        return true;
+    }
+
+    synchronized void detach() {
+        this.runner = null;
+    }
+
+    /**
+     * 첫 청크를 보낼 때 한 번만 true (tts.start 전송용)
+     */
+    public synchronized boolean markStarted() {
+        if (started) {
+            return false;
+        }
+        started = true;
+        return true;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 작업 취소. 처음 취소할 때만 true
+     */
+    public synchronized boolean cancel() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        if (runner != null) {
+            runner.interrupt();
+        }
+        return true;
+    }
+}
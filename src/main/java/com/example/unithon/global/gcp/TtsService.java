@@ -2,27 +2,54 @@ package com.example.unithon.global.gcp;
 
 import com.example.unithon.global.error.exception.BusinessException;
 import com.example.unithon.global.error.exception.GlobalExceptionMessage;
+import com.example.unithon.global.logging.LogText;
+import com.example.unithon.global.metrics.TurnMetrics;
+import com.example.unithon.global.metrics.TurnMetrics.Stage;
+import com.google.api.core.ApiFuture;
 import com.google.cloud.texttospeech.v1.*;
 import com.google.protobuf.ByteString;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "feature.tts", havingValue = "true")
 public class TtsService {
 
-    private final TextToSpeechClient textToSpeechClient;
+    // 지연 생성 빈. 기동 후 UpstreamClientWarmer가 백그라운드에서 미리 만든다
+    private final ObjectProvider<TextToSpeechClient> textToSpeechClient;
+    private final TurnMetrics turnMetrics;
+    // 웜업 때 미리 합성해 둔 고정 안내 문구 (인사, 재질문 등). 미리 넣은 문구만 담기므로 크기가 늘지 않는다
+    private final Map<PromptKey, byte[]> promptCache = new ConcurrentHashMap<>();
 
     public byte[] synthesizeText(String text) {
+        return synthesizeText(text, TtsAudioFormat.DEFAULT);
+    }
+
+    /**
+     * 지정한 코덱/샘플레이트/말하기 속도로 합성
+     */
+    public byte[] synthesizeText(String text, TtsAudioFormat format) {
         if (!StringUtils.hasText(text)) {
             throw new BusinessException(GlobalExceptionMessage.TEXT_EMPTY);
         }
-        
+
+        long start = System.nanoTime();
+        byte[] cached = promptCache.get(new PromptKey(text, format));
+        if (cached != null) {
+            turnMetrics.record(Stage.TTS_SYNTHESIS, "cached", start);
+            return cached;
+        }
         try {
             // 1. 변환할 텍스트 설정
             SynthesisInput input = SynthesisInput.newBuilder()
@@ -36,22 +63,71 @@ public class TtsService {
                     .setName("ko-KR-Standard-A") // 상세 목소리 선택
                     .build();
 
-            // 3. 오디오 출력 형식 설정 (MP3)
-            AudioConfig audioConfig = AudioConfig.newBuilder()
-                    .setAudioEncoding(AudioEncoding.MP3)
-                    .build();
+            // 3. 오디오 출력 형식 설정 (기본 MP3, 클라이언트가 고른 코덱)
+            AudioConfig.Builder audioConfigBuilder = AudioConfig.newBuilder()
+                    .setAudioEncoding(format.encoding())
+                    .setSpeakingRate(format.speakingRate());
+            if (format.sampleRateHertz() > 0) {
+                audioConfigBuilder.setSampleRateHertz(format.sampleRateHertz());
+            }
+            AudioConfig audioConfig = audioConfigBuilder.build();
 
-            // 4. TTS 요청 보내기 (Spring에서 주입받은 클라이언트 사용)
-            SynthesizeSpeechResponse response = textToSpeechClient.synthesizeSpeech(
-                    input, voice, audioConfig
-            );
+            // 4. TTS 요청 보내기. 동기 호출은 인터럽트에 반응하지 않으므로 future로 기다리고, 인터럽트되면 gRPC 호출을 취소
+            SynthesizeSpeechRequest request = SynthesizeSpeechRequest.newBuilder()
+                    .setInput(input)
+                    .setVoice(voice)
+                    .setAudioConfig(audioConfig)
+                    .build();
+            ApiFuture<SynthesizeSpeechResponse> future = textToSpeechClient.getObject().synthesizeSpeechCallable().futureCall(request);
+            SynthesizeSpeechResponse response;
+            try {
+                response = future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                turnMetrics.record(Stage.TTS_SYNTHESIS, "cancelled", start);
+                log.info("TTS 합성 취소");
+                throw new BusinessException(GlobalExceptionMessage.TTS_SERVICE_ERROR);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
 
             // 5. 응답에서 오디오 콘텐츠(ByteString)를 추출하여 byte 배열로 변환
             ByteString audioContents = response.getAudioContent();
+            turnMetrics.record(Stage.TTS_SYNTHESIS, "ok", start);
+            turnMetrics.ttsSynthesized(audioContents.size());
             return audioContents.toByteArray();
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
+            turnMetrics.record(Stage.TTS_SYNTHESIS, "error", start);
             log.error("TTS 서비스 예상치 못한 오류: {}", e.getMessage(), e);
             throw new BusinessException(GlobalExceptionMessage.TTS_SERVICE_ERROR);
         }
     }
+
+    /**
+     * 고정 안내 문구를 미리 합성해 캐시에 넣는다. 이후 같은 문구/형식의 합성은 Google 호출 없이 캐시에서 돌려준다.
+     * 캐시된 배열은 호출한 쪽끼리 공유하므로 수정하면 안 된다. 미리 넣은 문구 수를 돌려준다
+     */
+    public int preloadPrompts(List<String> prompts, TtsAudioFormat format) {
+        int loaded = 0;
+        for (String prompt : prompts) {
+            PromptKey key = new PromptKey(prompt, format);
+            if (promptCache.containsKey(key)) {
+                loaded++;
+                continue;
+            }
+            try {
+                promptCache.put(key, synthesizeText(prompt, format));
+                loaded++;
+            } catch (BusinessException e) {
+                log.warn("TTS 안내 문구 미리 합성 실패 ({}): {}", format.codecName(), LogText.truncate(prompt, LogText.TEXT_LIMIT));
+            }
+        }
+        return loaded;
+    }
+
+    private record PromptKey(String text, TtsAudioFormat format) {
+    }
 }
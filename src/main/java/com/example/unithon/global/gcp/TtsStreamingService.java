@@ -1,10 +1,12 @@
 package com.example.unithon.global.gcp;
 
+import com.example.unithon.global.logging.LogText;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 @Service
@@ -13,28 +15,50 @@ import java.util.function.Consumer;
 @ConditionalOnProperty(name = "feature.tts", havingValue = "true")
 public class TtsStreamingService {
 
+    private static final int CHUNK_SIZE = 1024;
+
     private final TtsService ttsService;
 
     /**
      * 텍스트를 음성으로 변환하고 청크 단위로 스트리밍
      */
     public void synthesizeAndStream(String sessionId, String text, Consumer<byte[]> onAudioChunk, Consumer<Void> onComplete) {
+        synthesizeAndStream(sessionId, text, new TtsJob(), onAudioChunk, onComplete);
+    }
+
+    /**
+     * 취소 가능한 스트리밍. job이 취소되면 남은 청크와 완료 콜백을 보내지 않는다
+     */
+    public void synthesizeAndStream(String sessionId, String text, TtsJob job,
+                                    Consumer<byte[]> onAudioChunk, Consumer<Void> onComplete) {
+        synthesizeAndStream(sessionId, text, TtsAudioFormat.DEFAULT, job, onAudioChunk, onComplete);
+    }
+
+    /**
+     * 클라이언트가 고른 형식으로 합성해 프레임 경계에 맞춘 청크로 스트리밍
+     */
+    public void synthesizeAndStream(String sessionId, String text, TtsAudioFormat format, TtsJob job,
+                                    Consumer<byte[]> onAudioChunk, Consumer<Void> onComplete) {
+        if (!job.attach(Thread.currentThread())) {
+            log.debug("TTS 시작 전 취소됨 [{}]", sessionId);
+            return;
+        }
         try {
-            log.info("TTS 시작 [{}]: {}", sessionId, text);
+            log.debug("TTS 시작 [{}]: {}", sessionId, LogText.truncate(text, LogText.TEXT_LIMIT));
             
             // TTS 서비스로 전체 오디오 생성
-            byte[] audioData = ttsService.synthesizeText(text);
+            byte[] audioData = ttsService.synthesizeText(text, format);
             
-            // 청크 단위로 분할해서 스트리밍 (1KB씩)
-            int chunkSize = 1024;
-            int totalChunks = (int) Math.ceil((double) audioData.length / chunkSize);
+            // 프레임 경계에 맞춰 1KB 이상씩 묶어 스트리밍. 각 청크는 온전한 프레임만 담는다
+            List<byte[]> chunks = TtsAudioChunker.split(audioData, format.encoding(), CHUNK_SIZE);
+            int totalChunks = chunks.size();
             
             for (int i = 0; i < totalChunks; i++) {
-                int start = i * chunkSize;
-                int end = Math.min(start + chunkSize, audioData.length);
-                
-                byte[] chunk = new byte[end - start];
-                System.arraycopy(audioData, start, chunk, 0, chunk.length);
+                if (job.isCancelled()) {
+                    log.info("TTS 취소 [{}]: {}/{} 청크에서 중단", sessionId, i, totalChunks);
+                    return;
+                }
+                byte[] chunk = chunks.get(i);
                 
                 // 청크 전송
                 onAudioChunk.accept(chunk);
@@ -45,17 +69,35 @@ public class TtsStreamingService {
                 try {
                     Thread.sleep(20); // 50ms 지연
                 } catch (InterruptedException e) {
+                    if (job.isCancelled()) {
+                        // 취소로 깨어난 경우. 작업 스레드(풀)의 인터럽트 상태는 남기지 않는다
+                        log.info("TTS 취소 [{}]: {}/{} 청크에서 중단", sessionId, i + 1, totalChunks);
+                        return;
+                    }
                     Thread.currentThread().interrupt();
                     break;
                 }
             }
             
+            if (job.isCancelled()) {
+                return;
+            }
             // 완료 콜백
             onComplete.accept(null);
             log.info("TTS 완료 [{}]: {} 청크 전송 완료", sessionId, totalChunks);
             
         } catch (Exception e) {
+            if (job.isCancelled()) {
+                log.debug("TTS 취소 중 예외 [{}]: {}", sessionId, e.getMessage());
+                return;
+            }
             log.error("TTS 스트리밍 실패 [{}]: {}", sessionId, e.getMessage(), e);
+        } finally {
+            job.detach();
+            // cancel()이 detach 직전에 인터럽트했을 수 있으므로 풀 스레드에 남은 인터럽트를 지운다
+            if (job.isCancelled()) {
+                Thread.interrupted();
+            }
         }
     }
 
@@ -0,0 +1,70 @@
+package com.example.unithon.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.unithon.global.metrics.TurnTrace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로거 이름 접두사별 INFO 이하 로그 샘플링 (logback-spring.xml의 비동기 appender에 붙인다).
+ * rules 형식: "com.example.unithon.global.gcp=0.2,org.hibernate.SQL=0" (가장 긴 접두사 규칙 적용).
+ * WARN 이상은 항상 남기고, MDC에 turnId가 있으면 턴 단위로 남기거나 버려 한 턴의 로그가 중간에 끊기지 않게 한다.
+ */
+public class LogSamplingFilter extends Filter<ILoggingEvent> {
+
+    private static final int SCALE = 10_000;
+
+    private record Rule(String prefix, int keepPerScale) {
+    }
+
+    private List<Rule> rules = List.of();
+
+    public void setRules(String spec) {
+        List<Rule> parsed = new ArrayList<>();
+        if (spec != null) {
+            for (String entry : spec.split(",")) {
+                int eq = entry.indexOf('=');
+                if (eq <= 0) {
+                    continue;
+                }
+                double rate = Double.parseDouble(entry.substring(eq + 1).trim());
+                int keep = (int) Math.round(Math.max(0, Math.min(1, rate)) * SCALE);
+                parsed.add(new Rule(entry.substring(0, eq).trim(), keep));
+            }
+        }
+        parsed.sort(Comparator.comparingInt((Rule rule) -> rule.prefix().length()).reversed());
+        this.rules = List.copyOf(parsed);
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rules.isEmpty() || event.getLevel().isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = ruleFor(event.getLoggerName());
+        if (rule == null || rule.keepPerScale() >= SCALE) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String turnId = event.getMDCPropertyMap().get(TurnTrace.TURN_ID);
+        int bucket = turnId != null
+            ? Math.floorMod(turnId.hashCode(), SCALE)
+            : ThreadLocalRandom.current().nextInt(SCALE);
+        return bucket < rule.keepPerScale() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Rule ruleFor(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.startsWith(rule.prefix())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+}
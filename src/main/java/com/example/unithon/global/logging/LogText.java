@@ -0,0 +1,71 @@
+package com.example.unithon.global.logging;
+
+/**
+ * 로그에 넣을 사용자 발화/LLM 페이로드 가공.
+ * 앞부분만 잘라 쓰므로 로그 비용이 원문 길이에 비례하지 않는다.
+ */
+public final class LogText {
+
+    /** 발화/응답 문장 */
+    public static final int TEXT_LIMIT = 80;
+    /** 프롬프트/LLM 응답 미리보기 */
+    public static final int PAYLOAD_LIMIT = 120;
+
+    // 이보다 긴 숫자열은 전화번호/카드번호일 수 있어 가린다
+    private static final int MAX_VISIBLE_DIGITS = 3;
+
+    private LogText() {
+    }
+
+    /**
+     * limit 글자까지만 남기고 잘린 길이를 붙인다. 예) "안녕하세요…(+120)"
+     */
+    public static String truncate(CharSequence text, int limit) {
+        if (text == null) {
+            return "null";
+        }
+        if (text.length() <= limit) {
+            return text.toString();
+        }
+        return text.subSequence(0, limit) + "…(+" + (text.length() - limit) + ")";
+    }
+
+    /**
+     * 사용자 발화 (STT 결과, client.text). 잘라낸 뒤 4자리 이상 숫자열을 가린다
+     */
+    public static String transcript(CharSequence text) {
+        return maskDigits(truncate(text, TEXT_LIMIT));
+    }
+
+    /**
+     * 프롬프트/LLM 응답. 길이와 앞부분만 남긴다
+     */
+    public static String payload(CharSequence text) {
+        if (text == null) {
+            return "null";
+        }
+        return "[" + text.length() + "자] " + truncate(text, PAYLOAD_LIMIT);
+    }
+
+    static String maskDigits(String text) {
+        StringBuilder masked = null;
+        int runStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean digit = i < text.length() && Character.isDigit(text.charAt(i));
+            if (digit && runStart < 0) {
+                runStart = i;
+            } else if (!digit && runStart >= 0) {
+                if (i - runStart > MAX_VISIBLE_DIGITS) {
+                    if (masked == null) {
+                        masked = new StringBuilder(text);
+                    }
+                    for (int j = runStart; j < i; j++) {
+                        masked.setCharAt(j, '*');
+                    }
+                }
+                runStart = -1;
+            }
+        }
+        return masked != null ? masked.toString() : text;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.unithon.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 턴 단계별 지연 시간 기록.
+ * 모든 단계가 chat.turn.stage 타이머 하나에 stage/result 태그로 쌓이므로
+ * /actuator/metrics/chat.turn.stage?tag=stage:stt.final 처럼 단계별로 조회할 수 있다.
+ */
+@Component
+public class TurnMetrics {
+
+    public static final String STAGE_TIMER = "chat.turn.stage";
+
+    public enum Stage {
+        AUDIO_INGEST("audio.ingest"),         // audio.start ~ audio.end
+        STT_FIRST_PARTIAL("stt.first-partial"), // audio.start ~ 첫 중간 결과
+        STT_FINAL("stt.final"),               // audio.start ~ 최종 결과
+        DIALOG("dialog"),                     // 발화 하나의 대화 처리 (result = 전이 이름)
+        MENU_NAME("menu.name"),               // 메뉴명 조회
+        MENU_SYNONYM("menu.synonym"),         // 동의어 조회
+        MENU_FUZZY("menu.fuzzy"),             // 부분 일치 재검색
+        MENU_GEMINI("menu.gemini"),           // Gemini 메뉴 추천
+        GEMINI("gemini"),                     // Gemini API 호출
+        WEBHOOK("webhook"),                   // 매크로 주문 전송
+        TTS_SYNTHESIS("tts.synthesis"),       // TTS 합성
+        TTS_FIRST_CHUNK("tts.first-chunk");   // 턴 시작 ~ 첫 tts.chunk 전송
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary audioIngestBytes;
+    private final DistributionSummary ttsAudioBytes;
+
+    public TurnMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.audioIngestBytes = DistributionSummary.builder("chat.audio.ingest.bytes")
+            .description("음성 턴 하나에서 받은 오디오 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.ttsAudioBytes = DistributionSummary.builder("chat.tts.audio.bytes")
+            .description("TTS 응답 하나의 오디오 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * startNanos(System.nanoTime())부터 지금까지를 기록
+     */
+    public void record(Stage stage, String result, long startNanos) {
+        recordNanos(stage, result, System.nanoTime() - startNanos);
+    }
+
+    public void recordNanos(Stage stage, String result, long elapsedNanos) {
+        // 같은 이름/태그의 타이머는 레지스트리가 재사용한다
+        Timer.builder(STAGE_TIMER)
+            .description("대화 턴 단계별 소요 시간")
+            .tag("stage", stage.tag())
+            .tag("result", result)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void audioIngested(long bytes) {
+        audioIngestBytes.record(bytes);
+    }
+
+    public void ttsSynthesized(long bytes) {
+        ttsAudioBytes.record(bytes);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.unithon.global.metrics;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 턴 추적 id를 MDC(sessionId, turnId)로 전달한다.
+ * taskExecutor 작업은 AppConfig의 TaskDecorator가, gRPC 콜백은 propagate로 감싸서 같은 turnId를 이어받는다.
+ */
+public final class TurnTrace {
+
+    public static final String SESSION_ID = "sessionId";
+    public static final String TURN_ID = "turnId";
+
+    private TurnTrace() {
+    }
+
+    public static String newTurnId() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public static void set(String sessionId, String turnId) {
+        MDC.put(SESSION_ID, sessionId);
+        if (turnId != null) {
+            MDC.put(TURN_ID, turnId);
+        } else {
+            MDC.remove(TURN_ID);
+        }
+    }
+
+    public static void clear() {
+        MDC.remove(SESSION_ID);
+        MDC.remove(TURN_ID);
+    }
+
+    /**
+     * 현재 스레드의 MDC를 작업 실행 스레드로 복사 (TaskDecorator)
+     */
+    public static Runnable decorate(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(context);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 다른 스레드(gRPC 응답 스레드 등)에서 호출될 콜백에 현재 MDC를 묶는다
+     */
+    public static <T> Consumer<T> propagate(Consumer<T> callback) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return value -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            restore(context);
+            try {
+                callback.accept(value);
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
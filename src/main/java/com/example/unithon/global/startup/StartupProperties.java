@@ -0,0 +1,18 @@
+package com.example.unithon.global.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 기동 관련 설정.
+ * warmClients: 준비 완료 후 지연 생성된 외부 클라이언트(Google STT/TTS, Gemini)를 백그라운드에서 미리 만든다.
+ * reportFile/exitWhenReady: 기동 벤치마크(./gradlew startupBenchmark)가 준비 시간을 JSONL로 받고 바로 종료시킬 때 쓴다
+ */
+@ConfigurationProperties(prefix = "startup")
+public record StartupProperties(
+	@DefaultValue("true") boolean warmClients,
+	@DefaultValue("") String reportFile,
+	@DefaultValue("") String reportLabel,
+	@DefaultValue("false") boolean exitWhenReady
+) {
+}
@@ -0,0 +1,73 @@
+package com.example.unithon.global.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 준비 완료(time-to-ready) 기록.
+ * readyMs는 SpringApplication.run 시작부터, jvmReadyMs는 JVM 시작부터 ApplicationReadyEvent까지의 시간이다.
+ * startup.report-file이 있으면 한 줄(JSON)씩 덧붙이고, startup.exit-when-ready면 바로 종료한다 (기동 벤치마크용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupReporter {
+
+    private final StartupProperties startupProperties;
+    private final ObjectMapper objectMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        long readyMs = event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis();
+        long jvmReadyMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        List<String> profiles = Arrays.asList(event.getApplicationContext().getEnvironment().getActiveProfiles());
+        boolean aot = AotDetector.useGeneratedArtifacts();
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        log.info("애플리케이션 준비 완료: {}ms (JVM 시작부터 {}ms, 프로파일 {}, AOT {}, CDS {})",
+            readyMs, jvmReadyMs, profiles, aot, cds);
+
+        if (!startupProperties.reportFile().isBlank()) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("label", startupProperties.reportLabel());
+            report.put("readyMs", readyMs);
+            report.put("jvmReadyMs", jvmReadyMs);
+            report.put("profiles", profiles);
+            report.put("aot", aot);
+            report.put("cds", cds);
+            write(Path.of(startupProperties.reportFile()), report);
+        }
+        if (startupProperties.exitWhenReady()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void write(Path file, Map<String, Object> report) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, objectMapper.writeValueAsString(report) + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("기동 시간 기록 실패 ({}): {}", file, e.getMessage());
+        }
+    }
+}
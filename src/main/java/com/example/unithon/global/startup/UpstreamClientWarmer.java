@@ -0,0 +1,41 @@
+package com.example.unithon.global.startup;
+
+import com.example.unithon.global.client.gemini.GeminiClient;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 생성 빈으로 둔 외부 클라이언트를 만든다 (WarmupService의 첫 단계, 웜업 스레드에서 실행).
+ * 기동은 클라이언트 생성(인증 정보 파싱, gRPC 채널 연결, Feign 프록시 생성)을 기다리지 않고,
+ * 첫 대화는 대부분 이미 만들어진 클라이언트를 쓴다. 생성에 실패하면 로그만 남기고 첫 요청에서 다시 시도된다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpstreamClientWarmer {
+
+    private final ObjectProvider<SpeechClient> speechClient;
+    private final ObjectProvider<TextToSpeechClient> textToSpeechClient;
+    private final ObjectProvider<GeminiClient> geminiClient;
+
+    public void createClients() {
+        long start = System.nanoTime();
+        // 기능 플래그로 꺼진 클라이언트는 빈이 없으므로 건너뛴다
+        create("SpeechClient", speechClient);
+        create("TextToSpeechClient", textToSpeechClient);
+        create("GeminiClient", geminiClient);
+        log.info("외부 클라이언트 백그라운드 생성 완료: {}ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void create(String name, ObjectProvider<?> provider) {
+        try {
+            provider.getIfAvailable();
+        } catch (Exception e) {
+            log.warn("{} 미리 생성 실패 (첫 요청에서 다시 시도): {}", name, e.getMessage());
+        }
+    }
+}
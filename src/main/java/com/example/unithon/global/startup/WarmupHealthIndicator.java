@@ -0,0 +1,69 @@
+package com.example.unithon.global.startup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 웜업 진행 상태 (health 이름: warmup). readiness 그룹에 들어가 웜업이 끝날 때까지 OUT_OF_SERVICE를 돌려준다.
+ * 로드밸런서는 웜업이 끝난 노드로만 트래픽을 보낸다. 웜업이 timeout을 넘기면 끝나지 않았어도 UP으로 바꾼다
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupProperties warmupProperties;
+    private final Map<String, String> steps = new LinkedHashMap<>();
+    private long startedNanos;
+    private long finishedNanos;
+    private String currentStep;
+
+    public WarmupHealthIndicator(WarmupProperties warmupProperties) {
+        this.warmupProperties = warmupProperties;
+    }
+
+    synchronized void started() {
+        startedNanos = System.nanoTime();
+    }
+
+    synchronized void stepStarted(String step) {
+        currentStep = step;
+    }
+
+    synchronized void stepFinished(String step, String result, long elapsedMillis) {
+        steps.put(step, result + " (" + elapsedMillis + "ms)");
+        currentStep = null;
+    }
+
+    synchronized void finished() {
+        finishedNanos = System.nanoTime();
+    }
+
+    synchronized boolean isFinished() {
+        return finishedNanos != 0;
+    }
+
+    @Override
+    public synchronized Health health() {
+        if (!warmupProperties.enabled()) {
+            return Health.up().withDetail("warmup", "disabled").build();
+        }
+        if (startedNanos == 0) {
+            return Health.outOfService().withDetail("warmup", "waiting").build();
+        }
+        long elapsedMillis = ((finishedNanos != 0 ? finishedNanos : System.nanoTime()) - startedNanos) / 1_000_000;
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("elapsedMs", elapsedMillis);
+        details.put("steps", new LinkedHashMap<>(steps));
+        if (finishedNanos != 0) {
+            return Health.up().withDetail("warmup", "done").withDetails(details).build();
+        }
+        details.put("currentStep", currentStep == null ? "-" : currentStep);
+        if (elapsedMillis >= warmupProperties.timeout().toMillis()) {
+            return Health.up().withDetail("warmup", "timed-out").withDetails(details).build();
+        }
+        return Health.outOfService().withDetail("warmup", "running").withDetails(details).build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.unithon.global.startup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 준비 완료 후 웜업 설정. 웜업이 끝나기 전까지 readiness 프로브는 OUT_OF_SERVICE다.
+ * utterances는 가상 세션으로 ChatService에 차례로 보내는 발화(주문 완료 발화는 넣지 않는다 - 웹훅이 나간다),
+ * menuQueries는 매장마다 MenuService.searchMenu로 보내는 검색어, ttsPrompts는 미리 합성해 캐시에 둘 고정 안내 문구.
+ * timeout이 지나도 끝나지 않으면 웜업은 계속하되 readiness는 올린다
+ */
+@ConfigurationProperties(prefix = "warmup")
+public record WarmupProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("60s") Duration timeout,
+	@DefaultValue("1") List<Long> storeIds,
+	@DefaultValue("3") int iterations,
+	@DefaultValue({"안녕하세요", "카페 라떼", "따뜻하게", "두 잔", "더 담을게요", "아이스 아메리카노 한 잔이랑 바닐라 라떼 두 잔"})
+	List<String> utterances,
+	@DefaultValue({"아메리카노", "카페 라떼", "딸기 스무디"}) List<String> menuQueries,
+	@DefaultValue({"채팅이 연결되었습니다. 주문하실 메뉴를 말씀해주세요.", "안녕하세요! 주문하실 메뉴를 말씀해주세요.",
+		"주문하실 메뉴를 말씀해주세요.", "추가로 주문하실 메뉴를 말씀해주세요.", "메뉴를 더 담겠습니까? 주문을 마치겠습니까?",
+		"죄송합니다. 해당 메뉴를 찾을 수 없습니다. 다른 메뉴로 말씀해주세요.", "주문이 취소되었습니다."})
+	List<String> ttsPrompts,
+	@DefaultValue("mp3") List<String> ttsCodecs
+) {
+}
@@ -0,0 +1,154 @@
+package com.example.unithon.global.startup;
+
+import com.example.unithon.domain.chat.service.ChatService;
+import com.example.unithon.domain.menu.service.MenuService;
+import com.example.unithon.global.event.SessionEventBus;
+import com.example.unithon.global.gcp.GrpcChannelProperties;
+import com.example.unithon.global.gcp.SttStreamingService;
+import com.example.unithon.global.gcp.TtsAudioFormat;
+import com.example.unithon.global.gcp.TtsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 준비 완료 후 웜업. 첫 실제 대화가 콜드 JIT, 비어 있는 메뉴 카탈로그 캐시, 아직 없는 gRPC 연결 비용을 내지 않도록
+ * 백그라운드 스레드에서 차례로 실행한다:
+ * 외부 클라이언트 생성 → 매장별 메뉴 검색 → 가상 세션 대화 → STT 채널 연결 → 고정 안내 문구 TTS 미리 합성.
+ * 각 단계는 실패해도 다음 단계로 넘어가며, 진행 상태는 WarmupHealthIndicator가 readiness로 알린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmupService {
+
+    private static final String SESSION_PREFIX = "warmup-";
+    private static final Duration STT_WARMUP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WarmupProperties warmupProperties;
+    private final StartupProperties startupProperties;
+    private final WarmupHealthIndicator healthIndicator;
+    private final UpstreamClientWarmer upstreamClientWarmer;
+    private final ChatService chatService;
+    private final MenuService menuService;
+    private final SessionEventBus eventBus;
+    private final GrpcChannelProperties grpcChannelProperties;
+    private final ObjectProvider<SttStreamingService> sttStreamingService;
+    private final ObjectProvider<TtsService> ttsService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!warmupProperties.enabled() && !startupProperties.warmClients()) {
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void warmUp() {
+        healthIndicator.started();
+        long start = System.nanoTime();
+        if (startupProperties.warmClients()) {
+            step("clients", () -> {
+                upstreamClientWarmer.createClients();
+                return "ok";
+            });
+        }
+        if (warmupProperties.enabled()) {
+            step("menu", this::searchMenus);
+            step("dialog", this::runSyntheticTurns);
+            step("stt", this::openSttChannels);
+            step("tts", this::preloadTtsPrompts);
+        }
+        healthIndicator.finished();
+        log.info("웜업 완료: {}ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void step(String name, WarmupStep step) {
+        healthIndicator.stepStarted(name);
+        long start = System.nanoTime();
+        String result;
+        try {
+            result = step.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = "interrupted";
+        } catch (Exception e) {
+            log.warn("웜업 단계 실패 [{}]: {}", name, e.getMessage());
+            result = "failed";
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        healthIndicator.stepFinished(name, result, elapsedMillis);
+        log.info("웜업 [{}]: {} ({}ms)", name, result, elapsedMillis);
+    }
+
+    /**
+     * 매장 카탈로그 캐시를 채우고 검색 경로(키워드 오토마톤, 동의어 매칭)를 JIT에 올린다
+     */
+    private String searchMenus() {
+        int searches = 0;
+        for (long storeId : warmupProperties.storeIds()) {
+            for (String query : warmupProperties.menuQueries()) {
+                menuService.searchMenu(storeId, query);
+                searches++;
+            }
+        }
+        return searches + " searches";
+    }
+
+    /**
+     * 가상 세션으로 실제 대화 경로(의도 인식, 대화 흐름, 메뉴 검색, dialog.state 발행)를 iterations번 돌린다
+     */
+    private String runSyntheticTurns() {
+        int turns = 0;
+        for (int i = 0; i < warmupProperties.iterations(); i++) {
+            for (long storeId : warmupProperties.storeIds()) {
+                String sessionId = SESSION_PREFIX + storeId + "-" + i;
+                eventBus.open(sessionId);
+                chatService.bindStore(sessionId, storeId);
+                try {
+                    for (String utterance : warmupProperties.utterances()) {
+                        chatService.processMessage(sessionId, utterance);
+                        turns++;
+                    }
+                } finally {
+                    chatService.closeSession(sessionId);
+                    eventBus.close(sessionId);
+                }
+            }
+        }
+        return turns + " turns";
+    }
+
+    private String openSttChannels() throws InterruptedException {
+        SttStreamingService stt = sttStreamingService.getIfAvailable();
+        if (stt == null) {
+            return "skipped";
+        }
+        int channels = grpcChannelProperties.initialChannels();
+        return stt.warmUpChannels(channels, STT_WARMUP_TIMEOUT) + "/" + channels + " streams";
+    }
+
+    private String preloadTtsPrompts() {
+        TtsService tts = ttsService.getIfAvailable();
+        if (tts == null) {
+            return "skipped";
+        }
+        int loaded = 0;
+        for (String codec : warmupProperties.ttsCodecs()) {
+            loaded += tts.preloadPrompts(warmupProperties.ttsPrompts(), TtsAudioFormat.negotiate(codec, null, null));
+        }
+        return loaded + " prompts";
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        String run() throws Exception;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.unithon.global.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick 다중 키워드 매칭기.
+ * 키워드 목록을 한 번 컴파일해 두면 입력 문장을 한 번만 훑으면서 모든 키워드 출현 위치를 찾는다.
+ * 컴파일 이후에는 불변이므로 여러 스레드가 공유해도 된다.
+ */
+public final class KeywordAutomaton {
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_INTS = new int[0];
+
+    private final char[][] labels;      // 노드별 전이 문자 (정렬됨)
+    private final int[][] targets;      // 노드별 전이 대상
+    private final int[] fail;           // 실패 링크
+    private final int[] outputLink;     // 실패 경로상 출력이 있는 가장 가까운 노드 (-1이면 없음)
+    private final int[][] outputs;      // 노드에서 끝나는 키워드 인덱스
+    private final int[] keywordLengths;
+
+    private KeywordAutomaton(char[][] labels, int[][] targets, int[] fail, int[] outputLink,
+                             int[][] outputs, int[] keywordLengths) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputLink = outputLink;
+        this.outputs = outputs;
+        this.keywordLengths = keywordLengths;
+    }
+
+    /**
+     * 키워드 목록으로 매칭기를 만든다. 매칭 결과의 keywordIndex는 이 목록의 인덱스다.
+     */
+    public static KeywordAutomaton compile(List<String> keywords) {
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        int[] keywordLengths = new int[keywords.size()];
+        for (int k = 0; k < keywords.size(); k++) {
+            String keyword = keywords.get(k);
+            keywordLengths[k] = keyword.length();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = transitions.get(node).get(c);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(node).put(c, next);
+                    transitions.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(k);
+        }
+
+        int nodeCount = transitions.size();
+        char[][] labels = new char[nodeCount][];
+        int[][] targets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            Map<Character, Integer> edges = transitions.get(node);
+            if (edges.isEmpty()) {
+                labels[node] = NO_LABELS;
+                targets[node] = NO_INTS;
+                continue;
+            }
+            char[] nodeLabels = new char[edges.size()];
+            int i = 0;
+            for (char c : edges.keySet()) {
+                nodeLabels[i++] = c;
+            }
+            Arrays.sort(nodeLabels);
+            int[] nodeTargets = new int[nodeLabels.length];
+            for (i = 0; i < nodeLabels.length; i++) {
+                nodeTargets[i] = edges.get(nodeLabels[i]);
+            }
+            labels[node] = nodeLabels;
+            targets[node] = nodeTargets;
+        }
+
+        int[][] outputs = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // 너비 우선으로 실패 링크 계산
+        int[] fail = new int[nodeCount];
+        int[] outputLink = new int[nodeCount];
+        Arrays.fill(outputLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int target : targets[0]) {
+            fail[target] = 0;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+                int state = fail[node];
+                int next = step(labels, targets, state, c);
+                while (next < 0 && state != 0) {
+                    state = fail[state];
+                    next = step(labels, targets, state, c);
+                }
+                fail[child] = next < 0 ? 0 : next;
+                outputLink[child] = outputs[fail[child]].length > 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        return new KeywordAutomaton(labels, targets, fail, outputLink, outputs, keywordLengths);
+    }
+
+    /**
+     * 입력을 한 번 훑으면서 모든 키워드 출현을 끝 위치 순으로 알린다 (겹치는 출현 포함)
+     */
+    public void scan(CharSequence text, MatchHandler handler) {
+        int state = 0;
+        for (int pos = 0; pos < text.length(); pos++) {
+            char c = text.charAt(pos);
+            int next = step(labels, targets, state, c);
+            while (next < 0 && state != 0) {
+                state = fail[state];
+                next = step(labels, targets, state, c);
+            }
+            state = next < 0 ? 0 : next;
+
+            int end = pos + 1;
+            for (int node = state; node >= 0; node = outputLink[node]) {
+                for (int keyword : outputs[node]) {
+                    handler.onMatch(keyword, end - keywordLengths[keyword], end);
+                }
+                if (node == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public int keywordCount() {
+        return keywordLengths.length;
+    }
+
+    private static int step(char[][] labels, int[][] targets, int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+
+    @FunctionalInterface
+    public interface MatchHandler {
+        void onMatch(int keywordIndex, int start, int end);
+    }
+}
@@ -157,4 +157,9 @@ INSERT INTO menu_synonym (menu_id, synonym, priority) VALUES
 (50, '머핀', 1),
 (51, '마카롱', 1),
 (52, '시나몬롤', 1),
-(53, '허니버터브레드', 1);
\ No newline at end of file
+(53, '허니버터브레드', 1);
+-- 주문 옵션: 온도를 골라야 하는 메뉴 (따뜻한/아이스가 별도 메뉴이거나 한 가지로만 나오는 메뉴 제외)
+UPDATE menu SET temperature_option = TRUE WHERE id IN (5, 6, 7, 8, 9, 10, 11, 14, 15, 17, 18, 19, 29, 30, 31, 40, 41);
+
+-- 주문 옵션: 사이즈를 고를 수 있는 메뉴 (에스프레소와 디저트 제외)
+UPDATE menu SET size_option = TRUE WHERE category_id IN (1, 2) AND id NOT IN (3, 4);
@@ -0,0 +1,4 @@
+-- 메뉴명/동의어 부분 검색용 n-gram 전문 인덱스 (MenuSearchRepository.searchByText)
+-- Hibernate가 테이블을 만든 뒤 실행된다 (defer-datasource-initialization). 토큰 크기는 서버 ngram_token_size(기본 2)
+ALTER TABLE menu ADD FULLTEXT INDEX ft_menu_display_name (display_name) WITH PARSER ngram;
+ALTER TABLE menu_synonym ADD FULLTEXT INDEX ft_menu_synonym (synonym) WITH PARSER ngram;
@@ -0,0 +1,53 @@
+package com.example.unithon.domain.chat.flow;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DialogFlowTest {
+
+    enum State { IDLE, ORDERING }
+
+    static class Context {
+        State state = State.IDLE;
+        String message;
+    }
+
+    private final DialogFlow<State, Context> flow = DialogFlow.<State, Context>builder(State.class, c -> c.state)
+        .global("cancel", c -> c.message.equals("취소"), c -> {
+            c.state = State.IDLE;
+            return "취소됨";
+        })
+        .on(State.IDLE, "start", c -> c.message.equals("주문"), c -> {
+            c.state = State.ORDERING;
+            return "메뉴?";
+        })
+        .otherwise(State.IDLE, "idle", c -> "안녕하세요")
+        .otherwise(State.ORDERING, "order", c -> c.message + " 담음")
+        .build();
+
+    @Test
+    void firesOnlyTheFirstPassingTransitionAndRecordsStates() {
+        Context context = new Context();
+
+        context.message = "주문";
+        DialogFlow.Fired<State> first = flow.fire(context);
+        context.message = "취소";
+        DialogFlow.Fired<State> second = flow.fire(context);
+
+        assertThat(first).isEqualTo(new DialogFlow.Fired<>("start", State.IDLE, State.ORDERING, "메뉴?"));
+        assertThat(second).isEqualTo(new DialogFlow.Fired<>("cancel", State.ORDERING, State.IDLE, "취소됨"));
+        assertThat(flow.transitionNames(State.ORDERING)).containsExactly("cancel", "order");
+    }
+
+    @Test
+    void refusesToBuildWhenAStateHasNoFallback() {
+        DialogFlow.Builder<State, Context> builder = DialogFlow.<State, Context>builder(State.class, c -> c.state)
+            .otherwise(State.IDLE, "idle", c -> "안녕하세요");
+
+        assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ORDERING");
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.unithon.domain.chat.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CancellationScopeTest {
+
+    @Test
+    void cancelInterruptsRunningTask() throws Exception {
+        CancellationScope scope = new CancellationScope();
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean interruptLeftOnThread = new AtomicBoolean(true);
+
+        Thread worker = new Thread(() -> {
+            scope.run(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                    Thread.currentThread().interrupt();
+                }
+            });
+            interruptLeftOnThread.set(Thread.currentThread().isInterrupted());
+        });
+        worker.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(scope.activeCount()).isEqualTo(1);
+
+        assertThat(scope.cancel()).isTrue();
+        worker.join(5_000);
+
+        assertThat(interrupted).isTrue();
+        assertThat(interruptLeftOnThread).isFalse();
+        assertThat(scope.activeCount()).isZero();
+        assertThat(scope.cancel()).isFalse();
+    }
+
+    @Test
+    void skipsTasksStartedAfterCancel() {
+        CancellationScope scope = new CancellationScope();
+        AtomicBoolean ran = new AtomicBoolean();
+        Runnable queued = scope.wrap(() -> ran.set(true));
+
+        scope.cancel();
+        queued.run();
+
+        assertThat(ran).isFalse();
+        assertThat(scope.run(() -> ran.set(true))).isFalse();
+    }
+
+    @Test
+    void runsTasksAndLeavesThreadUntouchedWhenNotCancelled() {
+        CancellationScope scope = new CancellationScope();
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertThat(scope.run(() -> ran.set(true))).isTrue();
+
+        assertThat(ran).isTrue();
+        assertThat(scope.isCancelled()).isFalse();
+        assertThat(scope.activeCount()).isZero();
+    }
+
+    @Test
+    void endsCancelledTaskQuietlyButRethrowsWhenScopeIsLive() {
+        CancellationScope scope = new CancellationScope();
+        assertThatThrownBy(() -> scope.run(() -> {
+            throw new CancellationException("not from this scope");
+        })).isInstanceOf(CancellationException.class);
+
+        CancellationScope cancelled = new CancellationScope();
+        boolean completed = cancelled.run(() -> {
+            cancelled.cancel();
+            throw new CancellationException("turn cancelled");
+        });
+
+        assertThat(completed).isFalse();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChatMessageCodec codec = new ChatMessageCodec(objectMapper);
+
+    @Test
+    void encodesAudioChunksAsStandardBase64() throws Exception {
+        byte[] audio = new byte[1025];
+        for (int i = 0; i < audio.length; i++) {
+            audio[i] = (byte) (i * 31);
+        }
+
+        JsonNode message = objectMapper.readTree(codec.audioChunk("tts.chunk", audio));
+
+        assertThat(message.get("type").asText()).isEqualTo("tts.chunk");
+        assertThat(message.get("audioData").asText()).isEqualTo(Base64.getEncoder().encodeToString(audio));
+    }
+
+    @Test
+    void escapesStringFields() throws Exception {
+        String reply = "아메리카노 2개가 담겼습니다.\n\n\"메뉴\"를 더 담겠습니까?";
+
+        JsonNode message = objectMapper.readTree(codec.message("bot.reply", reply));
+
+        assertThat(message.get("type").asText()).isEqualTo("bot.reply");
+        assertThat(message.get("message").asText()).isEqualTo(reply);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.chat.dto.DialogStateDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DialogStateSynchronizerTest {
+
+    private static final DialogState.CartItem AMERICANO = new DialogState.CartItem("아이스 아메리카노", "", 2, 9000);
+    private static final DialogState.CartItem CHEESECAKE = new DialogState.CartItem("뉴욕 치즈 케이크", "", 1, 6500);
+
+    @Test
+    void sendsOnlyChangedFieldsAndAddedCartLines() {
+        DialogStateSynchronizer synchronizer = new DialogStateSynchronizer(20);
+
+        Map<String, Object> first = synchronizer.encode(state("ORDER_CONFIRMATION", List.of(AMERICANO), 9000, 1L));
+        Map<String, Object> second = synchronizer.encode(
+            state("ORDER_CONFIRMATION", List.of(AMERICANO, CHEESECAKE), 15500, 1L));
+
+        assertThat(first).containsEntry("type", DialogStateSynchronizer.SNAPSHOT_TYPE).containsEntry("version", 1L);
+        assertThat(second).containsEntry("type", DialogStateSynchronizer.DELTA_TYPE);
+        DialogStateDelta delta = (DialogStateDelta) second.get("delta");
+        assertThat(delta.getBaseVersion()).isEqualTo(1L);
+        assertThat(delta.getVersion()).isEqualTo(2L);
+        assertThat(delta.getChanged()).containsOnlyKeys("cartItemCount", "totalPrice");
+        assertThat(delta.getCartRemoved()).isEmpty();
+        assertThat(delta.getCartAdded()).singleElement()
+            .satisfies(added -> {
+                assertThat(added.getIndex()).isEqualTo(1);
+                assertThat(added.getItem()).isSameAs(CHEESECAKE);
+            });
+    }
+
+    @Test
+    void removesAllPreviousLinesWhenCartIsReplaced() {
+        DialogStateSynchronizer synchronizer = new DialogStateSynchronizer(20);
+        synchronizer.encode(state("ORDER_CONFIRMATION", List.of(AMERICANO, CHEESECAKE), 15500, 1L));
+
+        Map<String, Object> message = synchronizer.encode(state("GREETING", Collections.emptyList(), 0, 2L));
+
+        DialogStateDelta delta = (DialogStateDelta) message.get("delta");
+        assertThat(delta.getCartRemoved()).containsExactly(1, 0);
+        assertThat(delta.getCartAdded()).isEmpty();
+        assertThat(delta.getChanged()).containsKeys("state", "cartItemCount", "totalPrice");
+    }
+
+    @Test
+    void skipsUnchangedStateAndResendsSnapshotOnRequestOrInterval() {
+        DialogStateSynchronizer synchronizer = new DialogStateSynchronizer(1);
+        synchronizer.encode(state("MENU_SELECTION", Collections.emptyList(), 0, 1L));
+
+        assertThat(synchronizer.encode(state("MENU_SELECTION", Collections.emptyList(), 0, 1L))).isNull();
+        assertThat(synchronizer.encode(state("QUANTITY_SELECTION", Collections.emptyList(), 0, 1L)))
+            .containsEntry("type", DialogStateSynchronizer.DELTA_TYPE);
+        assertThat(synchronizer.encode(state("ORDER_CONFIRMATION", Collections.emptyList(), 0, 1L)))
+            .containsEntry("type", DialogStateSynchronizer.SNAPSHOT_TYPE);
+
+        synchronizer.requestSnapshot();
+        assertThat(synchronizer.encode(state("ORDER_CONFIRMATION", Collections.emptyList(), 0, 1L)))
+            .containsEntry("type", DialogStateSynchronizer.SNAPSHOT_TYPE);
+    }
+
+    private static DialogState state(String state, List<DialogState.CartItem> cart, int totalPrice, long cartEpoch) {
+        return DialogState.builder()
+            .state(state)
+            .selectedOptions(Collections.emptyMap())
+            .cart(cart)
+            .nextAction("next")
+            .cartItemCount(cart.size())
+            .totalPrice(totalPrice)
+            .cartEpoch(cartEpoch)
+            .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.unithon.domain.chat.handler;
+
+import com.example.unithon.domain.chat.dto.BotReplyEvent;
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.chat.dto.DialogStateEvent;
+import com.example.unithon.domain.chat.dto.ServerErrorEvent;
+import com.example.unithon.global.error.ErrorCode;
+import com.example.unithon.global.event.SessionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionEventOrderTest {
+
+    private static final String SESSION = "s1";
+
+    @Test
+    void keepsOnlyTheLatestDialogStateBeforeEachReply() {
+        List<SessionEvent> events = List.of(
+            state(), state(), reply("첫 응답"),
+            state(), reply("두 번째 응답"),
+            state(), state());
+
+        boolean[] superseded = ChatWebSocketHandler.supersededDialogStates(events);
+
+        assertThat(superseded).containsExactly(true, false, false, false, false, true, false);
+    }
+
+    @Test
+    void otherEventsDoNotSplitDialogStates() {
+        List<SessionEvent> events = List.of(
+            state(), ServerErrorEvent.of(SESSION, ErrorCode.GEMINI_TIMEOUT), state());
+
+        boolean[] superseded = ChatWebSocketHandler.supersededDialogStates(events);
+
+        assertThat(superseded).containsExactly(true, false, false);
+    }
+
+    private static DialogStateEvent state() {
+        return new DialogStateEvent(SESSION, DialogState.builder().build());
+    }
+
+    private static BotReplyEvent reply(String message) {
+        return new BotReplyEvent(SESSION, "bot.reply", message);
+    }
+}
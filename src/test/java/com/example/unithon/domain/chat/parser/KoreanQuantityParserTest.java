@@ -0,0 +1,77 @@
+package com.example.unithon.domain.chat.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanQuantityParserTest {
+
+    private static final String[] NATIVE_UNITS = {"", "한", "두", "세", "네", "다섯", "여섯", "일곱", "여덟", "아홉"};
+    private static final String[] NATIVE_STANDALONE = {"", "하나", "둘", "셋", "넷", "다섯", "여섯", "일곱", "여덟", "아홉"};
+    private static final String[] NATIVE_TENS = {"", "열", "스물", "서른", "마흔", "쉰", "예순", "일흔", "여든", "아흔"};
+    private static final String[] SINO_DIGITS = {"", "", "이", "삼", "사", "오", "육", "칠", "팔", "구"};
+
+    private static final String[] COUNTERS = {"잔", "개", "조각", "세트", "컵"};
+    private static final String[] PREFIXES = {"", "아이스 아메리카노 ", "치즈케이크", "카페라떼 ", "바닐라 스무디 "};
+    private static final String[] SUFFIXES = {"", " 주세요", "요", " 부탁해요", "만 주세요"};
+
+    @Test
+    void readsRandomlyGeneratedQuantityPhrasesAsTheSameValue() {
+        Random random = new Random(20240819L);
+
+        for (int i = 0; i < 5_000; i++) {
+            int quantity = 1 + random.nextInt(99);
+            String spacing = random.nextBoolean() ? " " : "";
+            String counter = COUNTERS[random.nextInt(COUNTERS.length)];
+            String number = switch (random.nextInt(4)) {
+                case 0 -> nativeWithCounter(quantity) + spacing + counter;
+                case 1 -> sino(quantity) + spacing + counter;
+                case 2 -> quantity + spacing + counter;
+                default -> quantity < 10 ? NATIVE_STANDALONE[quantity] : String.valueOf(quantity);
+            };
+            String utterance = PREFIXES[random.nextInt(PREFIXES.length)] + number
+                + SUFFIXES[random.nextInt(SUFFIXES.length)];
+
+            assertThat(KoreanQuantityParser.firstQuantity(utterance))
+                .as(utterance)
+                .isEqualTo(quantity);
+        }
+    }
+
+    @Test
+    void findsMultipleQuantitiesInOrderWithinOneSentence() {
+        List<QuantitySpan> spans = KoreanQuantityParser.parse("아메리카노 2잔이랑 치즈케이크 3개, 라떼 하나");
+
+        assertThat(spans).extracting(QuantitySpan::quantity).containsExactly(2, 3, 1);
+        assertThat(spans.get(0).start()).isEqualTo(6);
+        assertThat(spans.get(0).end()).isEqualTo(8);
+    }
+
+    @Test
+    void ignoresPhrasesThatAreNotQuantities() {
+        List<String> utterances = List.of(
+            "오렌지 주스", "이거 주세요", "세트 메뉴", "사이즈 업", "한국 커피", "딸기 스무디",
+            "10000원짜리", "두 번째 메뉴", "둘러볼게요", "열대과일 에이드", "구워주세요", "백설기");
+
+        for (String utterance : utterances) {
+            assertThat(KoreanQuantityParser.parse(utterance)).as(utterance).isEmpty();
+        }
+    }
+
+    private static String nativeWithCounter(int quantity) {
+        if (quantity == 20) {
+            return "스무";
+        }
+        return NATIVE_TENS[quantity / 10] + NATIVE_UNITS[quantity % 10];
+    }
+
+    private static String sino(int quantity) {
+        int tens = quantity / 10;
+        String tensText = tens == 0 ? "" : SINO_DIGITS[tens] + "십";
+        int units = quantity % 10;
+        return tensText + (units == 0 ? "" : units == 1 ? "일" : SINO_DIGITS[units]);
+    }
+}
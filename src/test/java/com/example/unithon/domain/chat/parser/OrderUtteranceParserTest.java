@@ -0,0 +1,65 @@
+package com.example.unithon.domain.chat.parser;
+
+import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.service.MenuMention;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderUtteranceParserTest {
+
+    private final Menu americano = menu("hot_americano", "아메리카노");
+    private final Menu cheesecake = menu("ny_cheesecake", "치즈케이크");
+    private final Menu latte = menu("cafe_latte", "카페라떼");
+
+    @Test
+    void attachesTrailingQuantityToEachMenu() {
+        String text = "아메리카노 두 잔이랑 치즈케이크 하나";
+
+        List<OrderLine> lines = OrderUtteranceParser.parse(text, mentions(text, americano, cheesecake));
+
+        assertThat(lines).containsExactly(new OrderLine(americano, 2, null, null), new OrderLine(cheesecake, 1, null, null));
+    }
+
+    @Test
+    void distinguishesLeadingQuantityFromMissingQuantity() {
+        String text = "두 잔 아메리카노, 카페라떼랑 치즈케이크 3개";
+
+        List<OrderLine> lines = OrderUtteranceParser.parse(text, mentions(text, americano, latte, cheesecake));
+
+        assertThat(lines).containsExactly(
+            new OrderLine(americano, 2, null, null),
+            new OrderLine(latte, 0, null, null),
+            new OrderLine(cheesecake, 3, null, null));
+    }
+
+    @Test
+    void attachesOptionsToTheNearestMenu() {
+        String text = "아이스 라지 카페라떼 하나랑 아메리카노 따뜻하게 두 잔";
+
+        List<OrderLine> lines = OrderUtteranceParser.parse(text, mentions(text, latte, americano));
+
+        assertThat(lines).containsExactly(
+            new OrderLine(latte, 1, "ICE", "LARGE"),
+            new OrderLine(americano, 2, "HOT", null));
+    }
+
+    private static List<MenuMention> mentions(String text, Menu... menus) {
+        List<MenuMention> mentions = new ArrayList<>();
+        int from = 0;
+        for (Menu menu : menus) {
+            int start = text.indexOf(menu.getDisplayName(), from);
+            from = start + menu.getDisplayName().length();
+            mentions.add(new MenuMention(menu, start, from));
+        }
+        return mentions;
+    }
+
+    private static Menu menu(String name, String displayName) {
+        return new Menu(null, name, displayName, null, BigDecimal.valueOf(4500));
+    }
+}
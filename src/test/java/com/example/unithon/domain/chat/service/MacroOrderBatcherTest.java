@@ -0,0 +1,158 @@
+package com.example.unithon.domain.chat.service;
+
+import com.example.unithon.domain.chat.dto.MacroOrderData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MacroOrderBatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<JsonNode> receivedBatches = new CopyOnWriteArrayList<>();
+    private final List<String> contentEncodings = new CopyOnWriteArrayList<>();
+    private final List<String> recordedResults = new CopyOnWriteArrayList<>();
+    private volatile Function<JsonNode, Map<String, Object>> receiver;
+    private HttpServer server;
+    private MacroOrderBatcher batcher;
+
+    @BeforeEach
+    void startStubReceiver() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/orders/batch", exchange -> {
+            contentEncodings.add(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            try (InputStream body = new GZIPInputStream(exchange.getRequestBody())) {
+                JsonNode batch = objectMapper.readTree(body);
+                receivedBatches.add(batch);
+                byte[] response = objectMapper.writeValueAsBytes(receiver.apply(batch));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        if (batcher != null) {
+            batcher.close(1, TimeUnit.SECONDS);
+        }
+        server.stop(0);
+    }
+
+    @Test
+    void sendsOrdersWithinWindowAsOneGzipRequest() throws Exception {
+        receiver = batch -> Map.of("results", results(batch, key -> "accepted", false));
+        batcher = batcher(Duration.ofMillis(200));
+
+        batcher.submit(order("s1"));
+        batcher.submit(order("s2"));
+        batcher.submit(order("s3"));
+        awaitBatches(1);
+
+        JsonNode orders = receivedBatches.get(0).get("orders");
+        assertThat(orders).hasSize(3);
+        assertThat(contentEncodings).containsExactly("gzip");
+        assertThat(keys(orders)).doesNotHaveDuplicates();
+        assertThat(orders.get(0).get("order").get("sessionId").asText()).isEqualTo("s1");
+        awaitResults(1);
+        assertThat(recordedResults).containsExactly("ok");
+        assertThat(meterRegistry.get("macro.webhook.batch.orders").tag("status", "accepted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void resendsOnlyRetryableFailuresWithSameIdempotencyKey() throws Exception {
+        List<String> firstKeys = new ArrayList<>();
+        receiver = batch -> {
+            List<String> keys = keys(batch.get("orders"));
+            if (firstKeys.isEmpty()) {
+                firstKeys.addAll(keys);
+                return Map.of("results", List.of(
+                    result(keys.get(0), "accepted", false),
+                    result(keys.get(1), "rejected", true),
+                    result(keys.get(2), "rejected", false)));
+            }
+            return Map.of("results", results(batch, key -> "duplicate", false));
+        };
+        batcher = batcher(Duration.ofMillis(200));
+
+        batcher.submit(order("s1"));
+        batcher.submit(order("s2"));
+        batcher.submit(order("s3"));
+        awaitBatches(2);
+
+        JsonNode retried = receivedBatches.get(1).get("orders");
+        assertThat(keys(retried)).containsExactly(firstKeys.get(1));
+        assertThat(retried.get(0).get("attempt").asInt()).isEqualTo(2);
+        awaitResults(2);
+        assertThat(recordedResults).containsExactly("partial", "ok");
+        assertThat(meterRegistry.get("macro.webhook.batch.orders").tag("status", "rejected").counter().count()).isEqualTo(1);
+        assertThat(batcher.pending()).isZero();
+    }
+
+    private MacroOrderBatcher batcher(Duration maxDelay) {
+        RestTemplate restTemplate = new RestTemplate(new JdkClientHttpRequestFactory());
+        MacroWebhookBatchProperties properties = new MacroWebhookBatchProperties(
+            true, "", 20, maxDelay, 3, Duration.ofMillis(10), true);
+        String webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/orders";
+        return new MacroOrderBatcher(restTemplate, properties.resolveUrl(webhookUrl), "token", objectMapper,
+            properties, meterRegistry, (result, start) -> recordedResults.add(result));
+    }
+
+    private void awaitBatches(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receivedBatches.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(receivedBatches).hasSize(count);
+    }
+
+    private void awaitResults(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (recordedResults.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static MacroOrderData order(String sessionId) {
+        return new MacroOrderData(sessionId, List.of(), 4500, "2026-07-15T12:00:00Z");
+    }
+
+    private static List<String> keys(JsonNode orders) {
+        List<String> keys = new ArrayList<>();
+        orders.forEach(order -> keys.add(order.get("idempotencyKey").asText()));
+        return keys;
+    }
+
+    private static List<Map<String, Object>> results(JsonNode batch, Function<String, String> status, boolean retryable) {
+        return keys(batch.get("orders")).stream()
+            .map(key -> result(key, status.apply(key), retryable))
+            .toList();
+    }
+
+    private static Map<String, Object> result(String key, String status, boolean retryable) {
+        return Map.of("idempotencyKey", key, "status", status, "retryable", retryable,
+            "message", status);
+    }
+}
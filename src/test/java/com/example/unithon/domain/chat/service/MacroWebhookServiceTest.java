@@ -2,13 +2,19 @@ package com.example.unithon.domain.chat.service;
 
 import com.example.unithon.domain.chat.dto.MacroOrderData;
 import com.example.unithon.domain.chat.dto.MacroOrderItem;
+import com.example.unithon.global.metrics.TurnMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
@@ -36,7 +42,74 @@ class MacroWebhookServiceTest {
             .andRespond(withSuccess("{\"success\":true}", MediaType.APPLICATION_JSON));
 
         service.sendOrderToMacro(order);
+        service.shutdown();
 
         server.verify();
     }
+
+    @Test
+    void deliversQueuedOrderOnceInFlightRequestFinishes() throws Exception {
+        RestTemplate restTemplate = new RestTemplate();
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return execution.execute(request, body);
+        });
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        String url = "http://localhost:9999/api/orders";
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MacroWebhookService service = new MacroWebhookService(restTemplate, url, "",
+            new TurnMetrics(meterRegistry), meterRegistry, 1);
+        MacroOrderData order = new MacroOrderData("session-1", List.of(), 0, "2026-07-15T12:00:00Z");
+
+        server.expect(ExpectedCount.twice(), requestTo(url))
+            .andRespond(withSuccess("{\"success\":true}", MediaType.APPLICATION_JSON));
+
+        service.sendOrderToMacro(order);
+        assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 한도에 걸린 두 번째 주문은 버려지지 않고 차례를 기다린다
+        service.sendOrderToMacro(order);
+        assertThat(meterRegistry.get("macro.webhook.queue").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        service.shutdown();
+
+        server.verify();
+        assertThat(meterRegistry.get("macro.webhook.request").tag("result", "ok").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("macro.webhook.request").tag("result", "rejected").timer()).isNull();
+        assertThat(meterRegistry.get("macro.webhook.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void deliversOrderEvenWhenCallingSessionIsCancelled() {
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        String url = "http://localhost:9999/api/orders";
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MacroWebhookService service = new MacroWebhookService(restTemplate, url, "",
+            new TurnMetrics(meterRegistry), meterRegistry, 1);
+        MacroOrderData order = new MacroOrderData("session-1", List.of(), 0, "2026-07-15T12:00:00Z");
+
+        server.expect(requestTo(url))
+            .andRespond(withSuccess("{\"success\":true}", MediaType.APPLICATION_JSON));
+
+        // 결제 직후 연결이 끊겨 세션 작업 스레드가 인터럽트된 상황
+        Thread.currentThread().interrupt();
+        try {
+            service.sendOrderToMacro(order);
+        } finally {
+            Thread.interrupted();
+        }
+        service.shutdown();
+
+        server.verify();
+        assertThat(meterRegistry.get("macro.webhook.request").tag("result", "ok").timer().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,91 @@
+package com.example.unithon.domain.chat.service;
+
+import com.example.unithon.domain.chat.dto.DialogState;
+import com.example.unithon.domain.menu.entity.Menu;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCartTest {
+
+    private static final Menu AMERICANO = new Menu(null, "americano", "아메리카노", null, BigDecimal.valueOf(4500));
+    private static final Menu LATTE = new Menu(null, "latte", "카페라떼", null, BigDecimal.valueOf(5000));
+
+    @Test
+    void snapshotDoesNotSeeItemsAddedLater() {
+        OrderCart cart = new OrderCart();
+        cart.add(item(AMERICANO, "ICE", "LARGE", 2));
+
+        List<DialogState.CartItem> snapshot = cart.snapshot();
+        cart.add(item(LATTE, "HOT", null, 1));
+
+        assertThat(snapshot).singleElement()
+            .satisfies(cartItem -> {
+                assertThat(cartItem.getMenu()).isEqualTo("아메리카노");
+                assertThat(cartItem.getOptions()).isEqualTo("아이스 라지");
+                assertThat(cartItem.getQuantity()).isEqualTo(2);
+                assertThat(cartItem.getPrice()).isEqualTo(9000);
+            });
+        assertThat(cart.snapshot()).hasSize(2);
+    }
+
+    @Test
+    void snapshotSurvivesCapacityGrowth() {
+        OrderCart cart = new OrderCart();
+        cart.add(item(AMERICANO, null, null, 1));
+        List<DialogState.CartItem> snapshot = cart.snapshot();
+        DialogState.CartItem first = snapshot.get(0);
+
+        for (int i = 0; i < 10; i++) {
+            cart.add(item(LATTE, null, null, 1));
+        }
+
+        assertThat(snapshot).containsExactly(first);
+        assertThat(cart.size()).isEqualTo(11);
+        assertThat(cart.getTotalPrice()).isEqualTo(4500 + 10 * 5000);
+    }
+
+    @Test
+    void snapshotIsReadOnly() {
+        OrderCart cart = new OrderCart();
+        cart.add(item(AMERICANO, null, null, 1));
+
+        assertThatThrownBy(() -> cart.snapshot().add(null))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void positionalAccessorsDecodeStoredLine() {
+        OrderCart cart = new OrderCart();
+        cart.add(item(LATTE, "HOT", "REGULAR", 3));
+
+        assertThat(cart.menuAt(0)).isSameAs(LATTE);
+        assertThat(cart.quantityAt(0)).isEqualTo(3);
+        assertThat(cart.unitPriceAt(0)).isEqualTo(5000);
+        assertThat(cart.linePriceAt(0)).isEqualTo(15000);
+        assertThat(cart.optionTextAt(0)).isEqualTo("핫");
+        assertThat(cart.temperatureAt(0)).isEqualTo("HOT");
+        assertThat(cart.sizeAt(0)).isEqualTo("REGULAR");
+    }
+
+    @Test
+    void positionalAccessorsRejectIndexBeyondSize() {
+        OrderCart cart = new OrderCart();
+        cart.add(item(AMERICANO, null, null, 1));
+
+        // 배열 용량 안쪽이라도 담기지 않은 칸은 읽을 수 없다
+        assertThatThrownBy(() -> cart.menuAt(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static ChatService.OrderItem item(Menu menu, String temperature, String size, int quantity) {
+        ChatService.OrderItem item = new ChatService.OrderItem(menu);
+        item.setTemperature(temperature);
+        item.setSize(size);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.unithon.domain.intent.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntentRecognizerTest {
+
+    private final IntentRecognizer recognizer = new IntentRecognizer(null);
+
+    @Test
+    void recognizesAllIntentsInOnePass() {
+        IntentResult result = recognizer.recognize("안녕하세요 주문 완료할게요");
+
+        assertThat(result.has(Intent.GREETING)).isTrue();
+        assertThat(result.has(Intent.ORDER_COMPLETE)).isTrue();
+        assertThat(result.has(Intent.ADD_MORE)).isFalse();
+    }
+
+    @Test
+    void treatsStandaloneDeoAsAddMoreOnly() {
+        assertThat(recognizer.recognize("하나 더 주세요").has(Intent.ADD_MORE)).isTrue();
+        assertThat(recognizer.recognize("더 담을게요").has(Intent.ADD_MORE)).isTrue();
+        assertThat(recognizer.recognize("더블 에스프레소 하나").has(Intent.ADD_MORE)).isFalse();
+        assertThat(recognizer.recognize("오늘 더워요").has(Intent.ADD_MORE)).isFalse();
+    }
+
+    @Test
+    void ignoresNegatedKeywords() {
+        IntentResult result = recognizer.recognize("결제 말고 더 주문할게");
+
+        assertThat(result.has(Intent.ORDER_COMPLETE)).isFalse();
+        assertThat(result.has(Intent.ADD_MORE)).isTrue();
+        assertThat(recognizer.recognize("아직 안 끝났어요").has(Intent.ORDER_COMPLETE)).isFalse();
+        assertThat(recognizer.recognize("주문 완료 안 할래요").has(Intent.ORDER_COMPLETE)).isFalse();
+    }
+
+    @Test
+    void recognizesGeneralQuestion() {
+        assertThat(recognizer.recognize("제일 인기 있는 메뉴가 뭐예요").has(Intent.GENERAL_QUESTION)).isTrue();
+        assertThat(recognizer.recognize("아이스 아메리카노 두 잔").has(Intent.GENERAL_QUESTION)).isFalse();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.unithon.domain.menu.repository;
+
+import com.example.unithon.domain.menu.dto.MenuRelevance;
+import com.example.unithon.domain.menu.entity.Menu;
+import com.example.unithon.domain.menu.entity.MenuCategory;
+import com.example.unithon.domain.menu.entity.MenuSynonym;
+import com.example.unithon.domain.menu.entity.Stores;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class MenuRepositoryTest {
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loadsCatalogWithCategoriesAndSynonymsInOneQuery() {
+        List<Menu> catalog = menuRepository.findAllByStoreIdWithCategoryAndSynonyms(Stores.DEFAULT_ID);
+
+        long synonymCount = catalog.stream().mapToLong(menu -> menu.getSynonyms().size()).sum();
+        long categoryNames = catalog.stream().map(menu -> menu.getCategory().getName()).distinct().count();
+
+        assertThat(catalog).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(synonymCount).isPositive();
+        assertThat(categoryNames).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchByTextRanksMenusByNgramOverlapWithoutSpaces() {
+        Menu vanillaLatte = menuRepository.findAllByStoreIdWithCategoryAndSynonyms(Stores.DEFAULT_ID).stream()
+            .filter(menu -> menu.getDisplayName().equals("바닐라 라떼"))
+            .findFirst()
+            .orElseThrow();
+
+        List<MenuRelevance> results = menuRepository.searchByText(Stores.DEFAULT_ID, "바닐라라떼 주세요", 3);
+
+        assertThat(results).isNotEmpty().hasSizeLessThanOrEqualTo(3);
+        assertThat(results.get(0).menuId()).isEqualTo(vanillaLatte.getId());
+        assertThat(results).isSortedAccordingTo((a, b) -> Double.compare(b.score(), a.score()));
+        assertThat(menuRepository.searchByText(Stores.DEFAULT_ID, "짜장면", 3)).isEmpty();
+    }
+
+    @Test
+    void catalogsAndSearchAreScopedToStore() {
+        MenuCategory category = entityManager.persist(new MenuCategory(2L, "coffee", "커피"));
+        Menu menu = entityManager.persist(new Menu(category, "hand_drip", "핸드드립 커피", null, new BigDecimal("6000")));
+        entityManager.persist(new MenuSynonym(menu, "아메리카노", 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Menu> otherStore = menuRepository.findAllByStoreIdWithCategoryAndSynonyms(2L);
+        List<Menu> defaultStore = menuRepository.findAllByStoreIdWithCategoryAndSynonyms(Stores.DEFAULT_ID);
+
+        assertThat(otherStore).extracting(Menu::getDisplayName).containsExactly("핸드드립 커피");
+        assertThat(otherStore.get(0).getSynonyms()).extracting(MenuSynonym::getStoreId).containsOnly(2L);
+        assertThat(defaultStore).extracting(Menu::getDisplayName).doesNotContain("핸드드립 커피");
+        assertThat(menuRepository.searchByText(2L, "아메리카노", 5))
+            .extracting(MenuRelevance::menuId)
+            .containsExactly(menu.getId());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.unithon.domain.menu.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MenuCatalogCacheTest {
+
+    private final List<Long> loads = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void loadsEachStoreOnce() {
+        MenuCatalogCache cache = cache(10, Duration.ofMinutes(5), Clock.systemUTC());
+
+        MenuCatalog first = cache.get(1L);
+        MenuCatalog second = cache.get(1L);
+        cache.get(2L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.storeId()).isEqualTo(1L);
+        assertThat(loads).containsExactly(1L, 2L);
+        assertThat(meterRegistry.get("menu.catalog.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedStoreWhenFull() {
+        MenuCatalogCache cache = cache(2, Duration.ofMinutes(5), Clock.systemUTC());
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L); // 2번 매장이 가장 오래 안 쓴 매장이 된다
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(loads).containsExactly(1L, 2L, 3L, 2L);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("menu.catalog.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void reloadsExpiredSnapshot() {
+        MutableClock clock = new MutableClock();
+        MenuCatalogCache cache = cache(10, Duration.ofSeconds(60), clock);
+
+        cache.get(1L);
+        clock.advance(Duration.ofSeconds(59));
+        cache.get(1L);
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(1L);
+
+        assertThat(loads).containsExactly(1L, 1L);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        MenuCatalogCache cache = new MenuCatalogCache(storeId -> {
+            loads.add(storeId);
+            if (loads.size() == 1) {
+                throw new IllegalStateException("db down");
+            }
+            return MenuCatalog.compile(storeId, List.of());
+        }, 10, Duration.ofMinutes(5), meterRegistry, Clock.systemUTC());
+
+        assertThatThrownBy(() -> cache.get(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L).isEmpty()).isTrue();
+        assertThat(loads).containsExactly(1L, 1L);
+    }
+
+    private MenuCatalogCache cache(int maxStores, Duration ttl, Clock clock) {
+        return new MenuCatalogCache(storeId -> {
+            loads.add(storeId);
+            return MenuCatalog.compile(storeId, List.of());
+        }, maxStores, ttl, meterRegistry, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.unithon.global.client;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterruptibleFeignClientTest {
+
+    private final InterruptibleFeignClient client = new InterruptibleFeignClient();
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            requestReceived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void returnsResponse() throws Exception {
+        Response response = client.execute(request("/ok"), new Request.Options());
+
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(response.headers().get("content-type")).containsExactly("application/json");
+        assertThat(new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8))
+            .isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void interruptCancelsRequestInFlight() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                client.execute(request("/slow"), new Request.Options());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        caller.start();
+        assertThat(requestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        caller.interrupt();
+        caller.join(5_000);
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+        assertThat(failure.get()).isInstanceOf(InterruptedIOException.class);
+    }
+
+    @Test
+    void readTimeoutBoundsWaitForResponse() {
+        Request.Options options = new Request.Options(Duration.ofSeconds(1), Duration.ofMillis(200), true);
+
+        assertThatThrownBy(() -> client.execute(request("/slow"), options))
+            .isInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void zeroTimeoutsMeanNoLimit() throws Exception {
+        Request.Options options = new Request.Options(Duration.ZERO, Duration.ZERO, true);
+
+        Response response = client.execute(request("/ok"), options);
+
+        assertThat(response.status()).isEqualTo(200);
+    }
+
+    private Request request(String path) {
+        return Request.create(Request.HttpMethod.POST,
+            "http://127.0.0.1:" + server.getAddress().getPort() + path,
+            Map.of("Content-Type", List.of("application/json"), "Content-Length", List.of("2")),
+            "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+    }
+}
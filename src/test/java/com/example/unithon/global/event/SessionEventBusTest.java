@@ -0,0 +1,183 @@
+package com.example.unithon.global.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionEventBus eventBus = new SessionEventBus(meterRegistry, 4, 1024, 8, 200);
+
+    @AfterEach
+    void tearDown() {
+        eventBus.shutdown();
+    }
+
+    @Test
+    void deliversEventsOfEachSessionInPublishOrder() throws InterruptedException {
+        int sessionCount = 8;
+        int eventsPerSession = 200;
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(sessionCount * eventsPerSession);
+        eventBus.subscribe((sessionId, events) -> {
+            assertThat(events.size()).isLessThanOrEqualTo(8);
+            for (SessionEvent event : events) {
+                received.computeIfAbsent(sessionId, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(((TestEvent) event).sequence());
+                latch.countDown();
+            }
+        });
+
+        for (int session = 0; session < sessionCount; session++) {
+            eventBus.open("session-" + session);
+        }
+        for (int sequence = 0; sequence < eventsPerSession; sequence++) {
+            for (int session = 0; session < sessionCount; session++) {
+                eventBus.publish(new TestEvent("session-" + session, sequence));
+            }
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        for (List<Integer> sequences : received.values()) {
+            assertThat(sequences).isSorted().hasSize(eventsPerSession);
+        }
+        // 지연 시간은 수신자가 돌아온 뒤 기록되므로 마지막 배치 기록까지 기다린다
+        assertThat(awaitLagCount((long) sessionCount * eventsPerSession)).isEqualTo((long) sessionCount * eventsPerSession);
+    }
+
+    @Test
+    void dropsEventsForSessionsThatAreNotOpen() throws InterruptedException {
+        List<SessionEvent> delivered = Collections.synchronizedList(new ArrayList<>());
+        eventBus.subscribe((sessionId, events) -> delivered.addAll(events));
+
+        eventBus.open("open");
+        eventBus.publish(new TestEvent("never-opened", 0));
+        eventBus.close("open");
+        eventBus.publish(new TestEvent("open", 1));
+
+        Thread.sleep(100);
+        assertThat(delivered).isEmpty();
+        assertThat(meterRegistry.get("session.event.closed").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("session.event.mailboxes").gauge().value()).isZero();
+    }
+
+    @Test
+    void notifiesSubscriberInsteadOfSilentlyDroppingWhenMailboxStaysFull() throws InterruptedException {
+        SessionEventBus smallBus = new SessionEventBus(new SimpleMeterRegistry(), 1, 1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch taken = new CountDownLatch(1);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<String> overflowed = Collections.synchronizedList(new ArrayList<>());
+        smallBus.subscribe(new SessionEventSubscriber() {
+            @Override
+            public void onEvents(String sessionId, List<SessionEvent> events) {
+                taken.countDown();
+                awaitQuietly(release);
+                events.forEach(event -> delivered.add(((TestEvent) event).sequence()));
+            }
+
+            @Override
+            public void onOverflow(String sessionId) {
+                overflowed.add(sessionId);
+            }
+        });
+        try {
+            smallBus.open("slow");
+            smallBus.publish(new TestEvent("slow", 0));
+            assertThat(taken.await(5, TimeUnit.SECONDS)).isTrue();
+            // 워커는 0번에서 막혀 있고, 1번이 mailbox를 채운다
+            smallBus.publish(new TestEvent("slow", 1));
+            smallBus.publish(new TestEvent("slow", 2));
+
+            assertThat(overflowed).containsExactly("slow");
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (delivered.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(delivered).containsExactly(0, 1);
+        } finally {
+            release.countDown();
+            smallBus.shutdown();
+        }
+    }
+
+    @Test
+    void waitsForRoomInsteadOfOverflowingWhenWorkerCatchesUp() throws InterruptedException {
+        SessionEventBus smallBus = new SessionEventBus(new SimpleMeterRegistry(), 1, 1, 1, 2_000);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<String> overflowed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(20);
+        smallBus.subscribe(new SessionEventSubscriber() {
+            @Override
+            public void onEvents(String sessionId, List<SessionEvent> events) {
+                sleepQuietly(5);
+                events.forEach(event -> {
+                    delivered.add(((TestEvent) event).sequence());
+                    latch.countDown();
+                });
+            }
+
+            @Override
+            public void onOverflow(String sessionId) {
+                overflowed.add(sessionId);
+            }
+        });
+        try {
+            smallBus.open("slow");
+            for (int sequence = 0; sequence < 20; sequence++) {
+                smallBus.publish(new TestEvent("slow", sequence));
+            }
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(delivered).isSorted().hasSize(20);
+            assertThat(overflowed).isEmpty();
+        } finally {
+            smallBus.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long awaitLagCount(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        long count = meterRegistry.get("session.event.lag").timer().count();
+        while (count < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            count = meterRegistry.get("session.event.lag").timer().count();
+        }
+        return count;
+    }
+
+    private record TestEvent(String sessionId, int sequence) implements SessionEvent {
+        @Override
+        public String getSessionId() {
+            return sessionId;
+        }
+    }
+}
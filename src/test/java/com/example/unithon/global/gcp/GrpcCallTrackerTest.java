@@ -0,0 +1,107 @@
+package com.example.unithon.global.gcp;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GrpcCallTrackerTest {
+
+    private static final MethodDescriptor<String, String> METHOD = MethodDescriptor.<String, String>newBuilder()
+        .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+        .setFullMethodName("test/Stream")
+        .setRequestMarshaller(new StringMarshaller())
+        .setResponseMarshaller(new StringMarshaller())
+        .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GrpcCallTracker tracker = new GrpcCallTracker("speech", 2, meterRegistry);
+    private final FakeChannel channel = new FakeChannel();
+
+    @Test
+    void countsCallsUntilClosedAndReportsSaturation() {
+        FakeCall first = start();
+        start();
+
+        assertThat(tracker.activeCalls()).isEqualTo(2);
+        assertThat(meterRegistry.get("gcp.grpc.channel.saturation").tag("client", "speech").gauge().value())
+            .isEqualTo(1.0);
+
+        start();
+        assertThat(meterRegistry.get("gcp.grpc.calls.over.capacity").counter().count()).isEqualTo(1);
+
+        first.listener.onClose(Status.CANCELLED, new Metadata());
+        first.listener.onClose(Status.CANCELLED, new Metadata());
+
+        assertThat(tracker.activeCalls()).isEqualTo(2);
+    }
+
+    private FakeCall start() {
+        ClientCall<String, String> call = tracker.interceptCall(METHOD, CallOptions.DEFAULT, channel);
+        call.start(new ClientCall.Listener<>() {
+        }, new Metadata());
+        return channel.lastCall;
+    }
+
+    private static final class FakeChannel extends Channel {
+        private FakeCall lastCall;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions options) {
+            lastCall = new FakeCall();
+            return (ClientCall<ReqT, RespT>) lastCall;
+        }
+
+        @Override
+        public String authority() {
+            return "test";
+        }
+    }
+
+    private static final class FakeCall extends ClientCall<String, String> {
+        private Listener<String> listener;
+
+        @Override
+        public void start(Listener<String> responseListener, Metadata headers) {
+            this.listener = responseListener;
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(String message) {
+        }
+    }
+
+    private static final class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+        @Override
+        public InputStream stream(String value) {
+            return new ByteArrayInputStream(value.getBytes());
+        }
+
+        @Override
+        public String parse(InputStream stream) {
+            return "";
+        }
+    }
+}
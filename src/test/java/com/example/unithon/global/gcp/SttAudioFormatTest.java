@@ -0,0 +1,28 @@
+package com.example.unithon.global.gcp;
+
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SttAudioFormatTest {
+
+    @Test
+    void keepsLinear16WhenNothingDeclared() {
+        assertThat(SttAudioFormat.parse(null, null)).isEqualTo(SttAudioFormat.DEFAULT);
+        assertThat(SttAudioFormat.parse("linear16", 8000)).isEqualTo(new SttAudioFormat(AudioEncoding.LINEAR16, 8000));
+    }
+
+    @Test
+    void passesOpusContainersThrough() {
+        assertThat(SttAudioFormat.parse("ogg_opus", null)).isEqualTo(new SttAudioFormat(AudioEncoding.OGG_OPUS, 48000));
+        assertThat(SttAudioFormat.parse("WEBM_OPUS", 16000)).isEqualTo(new SttAudioFormat(AudioEncoding.WEBM_OPUS, 16000));
+    }
+
+    @Test
+    void rejectsUnsupportedFormats() {
+        assertThat(SttAudioFormat.parse("opus", 44100)).isNull();
+        assertThat(SttAudioFormat.parse("aac", null)).isNull();
+        assertThat(SttAudioFormat.parse("linear16", 96000)).isNull();
+    }
+}
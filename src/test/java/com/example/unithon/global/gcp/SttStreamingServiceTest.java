@@ -0,0 +1,251 @@
+package com.example.unithon.global.gcp;
+
+import com.google.api.gax.rpc.ApiCallContext;
+import com.google.api.gax.rpc.BidiStreamingCallable;
+import com.google.api.gax.rpc.ClientStream;
+import com.google.api.gax.rpc.ClientStreamReadyObserver;
+import com.google.api.gax.rpc.ResponseObserver;
+import com.google.api.gax.rpc.StreamController;
+import com.google.cloud.speech.v1.RecognitionConfig.AudioEncoding;
+import com.google.cloud.speech.v1.SpeechClient;
+import com.google.cloud.speech.v1.StreamingRecognizeRequest;
+import com.google.cloud.speech.v1.StreamingRecognizeResponse;
+import com.google.cloud.speech.v1.stub.SpeechStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SttStreamingServiceTest {
+
+    private static final String SESSION = "s1";
+    private static final SttAudioFormat OPUS = new SttAudioFormat(AudioEncoding.OGG_OPUS, 48000);
+
+    private final FakeSpeechStub stub = new FakeSpeechStub();
+    private SttStreamingService service;
+
+    @AfterEach
+    void stop() {
+        if (service != null) {
+            service.stopStreaming(SESSION);
+        }
+    }
+
+    @Test
+    void usesPrewarmedStreamForNextUtterance() {
+        service = service(60_000, 3);
+        service.prewarm(SESSION);
+
+        service.startStreaming(SESSION, SttAudioFormat.DEFAULT, partial -> { }, result -> { });
+        service.sendAudioChunk(SESSION, new byte[]{1, 2});
+
+        assertThat(stub.streams).singleElement().satisfies(stream -> {
+            assertThat(stream.requests).hasSize(2);
+            assertThat(stream.requests.get(0).hasStreamingConfig()).isTrue();
+            assertThat(stream.requests.get(1).getAudioContent().size()).isEqualTo(2);
+            assertThat(stream.isClosed()).isFalse();
+        });
+    }
+
+    @Test
+    void discardsPrewarmedStreamWithDifferentFormat() {
+        service = service(60_000, 3);
+        service.prewarm(SESSION);
+
+        service.startStreaming(SESSION, OPUS, partial -> { }, result -> { });
+
+        assertThat(stub.streams).hasSize(2);
+        assertThat(stub.streams.get(0).isClosed()).isTrue();
+        assertThat(stub.streams.get(1).encoding()).isEqualTo(AudioEncoding.OGG_OPUS);
+    }
+
+    @Test
+    void discardsPrewarmedStreamThatDied() {
+        service = service(60_000, 3);
+        service.prewarm(SESSION);
+        stub.streams.get(0).observer.onError(new IllegalStateException("stream reset"));
+
+        service.startStreaming(SESSION, SttAudioFormat.DEFAULT, partial -> { }, result -> { });
+
+        assertThat(stub.streams).hasSize(2);
+        assertThat(stub.streams.get(1).isClosed()).isFalse();
+    }
+
+    @Test
+    void nextPrewarmUsesLastUplinkFormat() {
+        service = service(60_000, 3);
+        service.prewarm(SESSION);
+        service.startStreaming(SESSION, OPUS, partial -> { }, result -> { });
+
+        // Google이 발화 끝에서 스트림을 닫으면 다음 발화용 스트림을 같은 형식으로 연다
+        stub.streams.get(1).observer.onComplete();
+
+        assertThat(stub.streams).hasSize(3);
+        assertThat(stub.streams.get(2).encoding()).isEqualTo(AudioEncoding.OGG_OPUS);
+    }
+
+    @Test
+    void stopsRenewingIdleStreamAfterMaxRenewals() throws Exception {
+        service = service(50, 2);
+        service.prewarm(SESSION);
+
+        // 처음 연 스트림 + 갱신 2회
+        awaitStreamCount(3);
+        Thread.sleep(300);
+
+        assertThat(stub.streams).hasSize(3);
+        assertThat(stub.streams).allSatisfy(stream -> assertThat(stream.isClosed()).isTrue());
+    }
+
+    @Test
+    void utteranceResetsRenewalCount() throws Exception {
+        service = service(50, 1);
+        service.prewarm(SESSION);
+        awaitStreamCount(2);
+        Thread.sleep(200);
+
+        // 대기 스트림이 없으면 audio.start에서 새로 연다
+        service.startStreaming(SESSION, SttAudioFormat.DEFAULT, partial -> { }, result -> { });
+        assertThat(stub.streams).hasSize(3);
+        stub.streams.get(2).observer.onComplete();
+
+        // 발화가 끝나면 다시 prewarm하고 갱신 횟수도 처음부터 센다
+        awaitStreamCount(5);
+        Thread.sleep(200);
+        assertThat(stub.streams).hasSize(5);
+    }
+
+    @Test
+    void disconnectClosesPrewarmedStream() throws Exception {
+        service = service(50, 10);
+        service.prewarm(SESSION);
+
+        service.stopStreaming(SESSION);
+        int opened = stub.streams.size();
+        Thread.sleep(200);
+
+        assertThat(stub.streams).hasSize(opened);
+        assertThat(stub.streams).allSatisfy(stream -> assertThat(stream.isClosed()).isTrue());
+    }
+
+    private SttStreamingService service(long maxIdleMs, int maxRenewals) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+            Map.of("speechClient", SpeechClient.create(stub)));
+        return new SttStreamingService(beanFactory.getBeanProvider(SpeechClient.class), true, maxIdleMs, maxRenewals);
+    }
+
+    private void awaitStreamCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stub.streams.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stub.streams).hasSize(expected);
+    }
+
+    /**
+     * 인식 스트림을 열기만 하고 보낸 요청을 기록하는 가짜 Speech 스텁
+     */
+    private static final class FakeSpeechStub extends SpeechStub {
+        private final List<FakeStream> streams = new CopyOnWriteArrayList<>();
+
+        @Override
+        public BidiStreamingCallable<StreamingRecognizeRequest, StreamingRecognizeResponse> streamingRecognizeCallable() {
+            return new BidiStreamingCallable<>() {
+                @Override
+                public ClientStream<StreamingRecognizeRequest> internalCall(
+                    ResponseObserver<StreamingRecognizeResponse> observer,
+                    ClientStreamReadyObserver<StreamingRecognizeRequest> onReady, ApiCallContext context) {
+                    FakeStream stream = new FakeStream(observer);
+                    streams.add(stream);
+                    observer.onStart(stream);
+                    return stream;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public void shutdownNow() {
+        }
+
+        @Override
+        public boolean awaitTermination(long duration, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private static final class FakeStream implements ClientStream<StreamingRecognizeRequest>, StreamController {
+        private final ResponseObserver<StreamingRecognizeResponse> observer;
+        private final List<StreamingRecognizeRequest> requests = new CopyOnWriteArrayList<>();
+        private volatile boolean sendClosed;
+        private volatile boolean cancelled;
+
+        FakeStream(ResponseObserver<StreamingRecognizeResponse> observer) {
+            this.observer = observer;
+        }
+
+        AudioEncoding encoding() {
+            return requests.get(0).getStreamingConfig().getConfig().getEncoding();
+        }
+
+        boolean isClosed() {
+            return sendClosed || cancelled;
+        }
+
+        @Override
+        public void send(StreamingRecognizeRequest request) {
+            requests.add(request);
+        }
+
+        @Override
+        public void closeSendWithError(Throwable t) {
+            sendClosed = true;
+        }
+
+        @Override
+        public void closeSend() {
+            sendClosed = true;
+        }
+
+        @Override
+        public boolean isSendReady() {
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.unithon.global.gcp;
+
+import com.google.cloud.texttospeech.v1.AudioEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsAudioChunkerTest {
+
+    // MPEG1 Layer III, 128kbps, 44.1kHz, 패딩 없음 -> 417바이트 프레임
+    private static final int MP3_FRAME = 417;
+
+    @Test
+    void cutsMp3AtFrameBoundariesAndKeepsId3InFirstChunk() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] id3 = new byte[30];
+        id3[0] = 'I';
+        id3[1] = 'D';
+        id3[2] = '3';
+        id3[9] = 20;
+        out.writeBytes(id3);
+        for (int i = 0; i < 5; i++) {
+            byte[] frame = new byte[MP3_FRAME];
+            frame[0] = (byte) 0xFF;
+            frame[1] = (byte) 0xFB;
+            frame[2] = (byte) 0x90;
+            out.writeBytes(frame);
+        }
+
+        List<byte[]> chunks = TtsAudioChunker.split(out.toByteArray(), AudioEncoding.MP3, 1024);
+
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).hasSize(30 + 3 * MP3_FRAME).startsWith('I', 'D', '3');
+        assertThat(chunks.get(1)).hasSize(2 * MP3_FRAME).startsWith((byte) 0xFF, (byte) 0xFB);
+    }
+
+    @Test
+    void cutsOggOnlyAfterPagesThatEndAPacket() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] head = oggPage(0, 19);
+        byte[] tags = oggPage(0, 40);
+        out.writeBytes(head);
+        out.writeBytes(tags);
+        byte[] audio1 = oggPage(960, 600);
+        byte[] continued = oggPage(-1, 600);
+        byte[] audio2 = oggPage(2880, 600);
+        byte[] audio3 = oggPage(3840, 200);
+        out.writeBytes(audio1);
+        out.writeBytes(continued);
+        out.writeBytes(audio2);
+        out.writeBytes(audio3);
+
+        List<byte[]> chunks = TtsAudioChunker.split(out.toByteArray(), AudioEncoding.OGG_OPUS, 512);
+
+        assertThat(chunks).hasSize(3);
+        // 헤더 페이지는 첫 오디오 페이지와 같이 나간다
+        assertThat(chunks.get(0)).hasSize(head.length + tags.length + audio1.length);
+        // 다음 페이지로 이어지는 패킷은 끊지 않는다
+        assertThat(chunks.get(1)).hasSize(continued.length + audio2.length);
+        assertThat(chunks.get(2)).hasSize(audio3.length);
+        chunks.forEach(chunk -> assertThat(new String(chunk, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("OggS"));
+    }
+
+    @Test
+    void cutsWavOnSampleBoundariesAfterHeader() {
+        byte[] wav = wav(3001 / 2 * 2);
+
+        List<byte[]> chunks = TtsAudioChunker.split(wav, AudioEncoding.LINEAR16, 1024);
+
+        assertThat(chunks).extracting(chunk -> chunk.length).containsExactly(44 + 1024, 1024, 952);
+    }
+
+    @Test
+    void fallsBackToFixedChunksForUnknownData() {
+        List<byte[]> chunks = TtsAudioChunker.split(new byte[2500], AudioEncoding.MP3, 1024);
+
+        assertThat(chunks).extracting(chunk -> chunk.length).containsExactly(1024, 1024, 452);
+    }
+
+    private static byte[] oggPage(long granule, int bodyLength) {
+        int segments = bodyLength / 255 + 1;
+        ByteBuffer page = ByteBuffer.allocate(27 + segments + bodyLength).order(ByteOrder.LITTLE_ENDIAN);
+        page.put("OggS".getBytes(StandardCharsets.US_ASCII));
+        page.put((byte) 0).put((byte) 0);
+        page.putLong(granule);
+        page.putInt(1).putInt(0).putInt(0);
+        page.put((byte) segments);
+        for (int i = 0; i < segments - 1; i++) {
+            page.put((byte) 255);
+        }
+        page.put((byte) (bodyLength % 255));
+        return page.array();
+    }
+
+    private static byte[] wav(int dataLength) {
+        ByteBuffer wav = ByteBuffer.allocate(44 + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataLength);
+        wav.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        wav.put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16);
+        wav.putShort((short) 1).putShort((short) 1).putInt(24000).putInt(48000);
+        wav.putShort((short) 2).putShort((short) 16);
+        wav.put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataLength);
+        return wav.array();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.unithon.global.gcp;
+
+import com.google.cloud.texttospeech.v1.AudioEncoding;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsAudioFormatTest {
+
+    @Test
+    void defaultsToMp3WhenNothingRequested() {
+        assertThat(TtsAudioFormat.negotiate(null, null, null)).isEqualTo(TtsAudioFormat.DEFAULT);
+    }
+
+    @Test
+    void acceptsSupportedCodecAndSampleRate() {
+        TtsAudioFormat format = TtsAudioFormat.negotiate("opus", "16000", "1.2");
+
+        assertThat(format.encoding()).isEqualTo(AudioEncoding.OGG_OPUS);
+        assertThat(format.sampleRateHertz()).isEqualTo(16000);
+        assertThat(format.speakingRate()).isEqualTo(1.2);
+        assertThat(format.codecName()).isEqualTo("ogg_opus");
+    }
+
+    @Test
+    void replacesUnsupportedValuesWithDefaults() {
+        TtsAudioFormat format = TtsAudioFormat.negotiate("pcm", "12345", "9");
+
+        assertThat(format.encoding()).isEqualTo(AudioEncoding.LINEAR16);
+        assertThat(format.sampleRateHertz()).isEqualTo(24000);
+        assertThat(format.speakingRate()).isEqualTo(4.0);
+        assertThat(TtsAudioFormat.negotiate("flac", "abc", "fast")).isEqualTo(TtsAudioFormat.DEFAULT);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.unithon.global.gcp;
+
+import com.example.unithon.global.metrics.TurnMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TtsStreamingServiceTest {
+
+    private final TtsStreamingService service = new TtsStreamingService(new FixedTtsService(10 * 1024));
+
+    @Test
+    void stopsStreamingWhenJobIsCancelled() {
+        TtsJob job = new TtsJob();
+        List<byte[]> chunks = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        service.synthesizeAndStream("s1", "안녕하세요", job, chunk -> {
+            chunks.add(chunk);
+            if (chunks.size() == 2) {
+                job.cancel();
+            }
+        }, ignored -> completed.set(true));
+
+        assertThat(chunks).hasSize(2);
+        assertThat(completed).isFalse();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void skipsJobCancelledBeforeStart() {
+        TtsJob job = new TtsJob();
+        job.cancel();
+        List<byte[]> chunks = new ArrayList<>();
+
+        service.synthesizeAndStream("s1", "안녕하세요", job, chunks::add, ignored -> chunks.add(new byte[0]));
+
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void streamsAllChunksAndCompletes() {
+        List<byte[]> chunks = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+
+        service.synthesizeAndStream("s1", "안녕하세요", new TtsJob(), chunks::add, ignored -> completed.set(true));
+
+        assertThat(chunks).hasSize(10);
+        assertThat(completed).isTrue();
+    }
+
+    private static final class FixedTtsService extends TtsService {
+        private final int size;
+
+        FixedTtsService(int size) {
+            super(null, new TurnMetrics(new SimpleMeterRegistry()));
+            this.size = size;
+        }
+
+        @Override
+        public byte[] synthesizeText(String text, TtsAudioFormat format) {
+            return new byte[size];
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.unithon.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import com.example.unithon.global.metrics.TurnTrace;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    @Test
+    void dropsInfoOfMutedCategoryButKeepsWarnings() {
+        LogSamplingFilter filter = filter("com.example.unithon.global.gcp=0");
+
+        assertThat(filter.decide(event("com.example.unithon.global.gcp.SttStreamingService", Level.INFO, null)))
+            .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(event("com.example.unithon.global.gcp.SttStreamingService", Level.WARN, null)))
+            .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(event("com.example.unithon.domain.chat.service.ChatService", Level.INFO, null)))
+            .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void longestPrefixWinsAndTurnIsKeptOrDroppedAsAWhole() {
+        LogSamplingFilter filter = filter("com.example.unithon=0, com.example.unithon.global.gcp=0.5");
+
+        assertThat(filter.decide(event("com.example.unithon.domain.menu.service.MenuService", Level.INFO, null)))
+            .isEqualTo(FilterReply.DENY);
+
+        int kept = 0;
+        for (int turn = 0; turn < 2000; turn++) {
+            String turnId = "turn-" + turn;
+            FilterReply stt = filter.decide(event("com.example.unithon.global.gcp.SttStreamingService", Level.INFO, turnId));
+            FilterReply tts = filter.decide(event("com.example.unithon.global.gcp.TtsStreamingService", Level.DEBUG, turnId));
+            assertThat(tts).isEqualTo(stt);
+            if (stt == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+        assertThat(kept).isBetween(800, 1200);
+    }
+
+    private LogSamplingFilter filter(String rules) {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setRules(rules);
+        filter.start();
+        return filter;
+    }
+
+    private LoggingEvent event(String loggerName, Level level, String turnId) {
+        LoggingEvent event = new LoggingEvent(getClass().getName(), context.getLogger(loggerName), level, "message", null, null);
+        event.setMDCPropertyMap(turnId != null ? Map.of(TurnTrace.TURN_ID, turnId) : Map.of());
+        return event;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.unithon.global.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogTextTest {
+
+    @Test
+    void truncatesLongTextAndKeepsRemainingLength() {
+        String prompt = "가".repeat(5000);
+
+        assertThat(LogText.truncate(prompt, 10)).isEqualTo("가".repeat(10) + "…(+4990)");
+        assertThat(LogText.payload(prompt)).startsWith("[5000자] ").hasSizeLessThan(LogText.PAYLOAD_LIMIT + 20);
+        assertThat(LogText.truncate("짧은 문장", 10)).isEqualTo("짧은 문장");
+    }
+
+    @Test
+    void masksLongDigitRunsInTranscripts() {
+        assertThat(LogText.transcript("아메리카노 2잔, 번호는 010 1234 5678"))
+            .isEqualTo("아메리카노 2잔, 번호는 010 **** ****");
+        assertThat(LogText.transcript("카드 1234567812345678로 결제")).isEqualTo("카드 ****************로 결제");
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.unithon.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurnTraceTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        TurnTrace.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void decoratedTaskRunsWithCallerTurnIdAndRestoresWorkerContext() throws Exception {
+        TurnTrace.set("session-1", "turn-1");
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        executor.execute(TurnTrace.decorate(() -> seen.complete(MDC.get(TurnTrace.TURN_ID))));
+
+        assertThat(seen.get(1, TimeUnit.SECONDS)).isEqualTo("turn-1");
+        CompletableFuture<String> after = new CompletableFuture<>();
+        executor.execute(() -> after.complete(MDC.get(TurnTrace.TURN_ID)));
+        assertThat(after.get(1, TimeUnit.SECONDS)).isNull();
+    }
+
+    @Test
+    void propagatedCallbackKeepsTurnIdOfRegistrationTime() throws Exception {
+        TurnTrace.set("session-1", "turn-1");
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        Consumer<String> callback = TurnTrace.propagate(value -> seen.complete(MDC.get(TurnTrace.TURN_ID) + ":" + value));
+
+        TurnTrace.set("session-1", "turn-2");
+        executor.execute(() -> callback.accept("partial"));
+
+        assertThat(seen.get(1, TimeUnit.SECONDS)).isEqualTo("turn-1:partial");
+    }
+
+    @Test
+    void recordsStagesUnderOneTimerTaggedByStageAndResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TurnMetrics metrics = new TurnMetrics(registry);
+
+        metrics.recordNanos(TurnMetrics.Stage.STT_FINAL, "ok", 1_000_000);
+        metrics.recordNanos(TurnMetrics.Stage.STT_FINAL, "ok", 3_000_000);
+        metrics.recordNanos(TurnMetrics.Stage.WEBHOOK, "error", 5_000_000);
+
+        assertThat(registry.get(TurnMetrics.STAGE_TIMER).tags("stage", "stt.final", "result", "ok").timer().count())
+            .isEqualTo(2);
+        assertThat(registry.get(TurnMetrics.STAGE_TIMER).tags("stage", "webhook", "result", "error").timer().count())
+            .isEqualTo(1);
+    }
+}
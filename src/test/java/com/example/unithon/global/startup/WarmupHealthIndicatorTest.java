@@ -0,0 +1,55 @@
+package com.example.unithon.global.startup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupHealthIndicatorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void staysOutOfServiceUntilWarmupFinishes() {
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(properties(true, Duration.ofMinutes(1)));
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        indicator.started();
+        indicator.stepStarted("menu");
+        Health running = indicator.health();
+        assertThat(running.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(running.getDetails()).containsEntry("currentStep", "menu");
+
+        indicator.stepFinished("menu", "3 searches", 12);
+        indicator.finished();
+        Health done = indicator.health();
+        assertThat(done.getStatus()).isEqualTo(Status.UP);
+        assertThat(done.getDetails()).containsEntry("warmup", "done");
+        assertThat((Map<String, String>) done.getDetails().get("steps")).containsEntry("menu", "3 searches (12ms)");
+    }
+
+    @Test
+    void reportsUpWhenWarmupTimesOut() {
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(properties(true, Duration.ZERO));
+        indicator.started();
+        indicator.stepStarted("tts");
+
+        Health health = indicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("warmup", "timed-out");
+    }
+
+    @Test
+    void reportsUpWhenWarmupIsDisabled() {
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(properties(false, Duration.ofMinutes(1)));
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private static WarmupProperties properties(boolean enabled, Duration timeout) {
+        return new WarmupProperties(enabled, timeout, List.of(1L), 1, List.of(), List.of(), List.of(), List.of("mp3"));
+    }
+}
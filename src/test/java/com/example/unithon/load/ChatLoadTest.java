@@ -0,0 +1,117 @@
+package com.example.unithon.load;
+
+import com.example.unithon.domain.chat.service.MacroWebhookService;
+import com.example.unithon.global.client.gemini.GeminiService;
+import com.google.cloud.texttospeech.v1.TextToSpeechClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 녹화된 세션을 N대의 키오스크가 동시에 재생하는 부하 테스트.
+ * Gemini, 매크로 웹훅은 mock, STT/TTS는 스텁을 쓰므로 서버 내부 처리 지연만 잰다.
+ * 기본 test 태스크에서는 빠지며 ./gradlew loadTest -Dload.kiosks=50 -Dload.iterations=5 로 실행한다.
+ * 결과는 build/reports/load/summary.json에 남는다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "feature.tts=true")
+@ActiveProfiles("test")
+@Import(StubVoiceConfig.class)
+class ChatLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private GeminiService geminiService;
+
+    @MockitoBean
+    private MacroWebhookService macroWebhookService;
+
+    @MockitoBean
+    private TextToSpeechClient textToSpeechClient;
+
+    @BeforeEach
+    void stubGemini() {
+        given(geminiService.generateText(anyString())).willReturn("{\"recommended\": \"NO_MATCH\"}");
+    }
+
+    @Test
+    void replaysRecordedSessionsConcurrently() throws Exception {
+        int kiosks = Integer.getInteger("load.kiosks", 20);
+        int iterations = Integer.getInteger("load.iterations", 3);
+        Duration turnTimeout = Duration.ofMillis(Long.getLong("load.turn-timeout-ms", 10_000));
+        double thinkTimeScale = Double.parseDouble(System.getProperty("load.think-time-scale", "0"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+        double maxP95Millis = Double.parseDouble(System.getProperty("load.max-p95-ms", "2000"));
+        Path recordings = System.getProperty("load.recordings") != null
+            ? Path.of(System.getProperty("load.recordings"))
+            : new ClassPathResource("load").getFile().toPath();
+
+        List<RecordedSession> scenarios = RecordedSession.loadAll(recordings);
+        assertThat(scenarios).isNotEmpty();
+
+        int expectedTurns = 0;
+        for (int kiosk = 0; kiosk < kiosks; kiosk++) {
+            for (int i = 0; i < iterations; i++) {
+                expectedTurns += replayedTurns(scenarios.get((kiosk + i) % scenarios.size()));
+            }
+        }
+
+        LoadReport report = new LoadReport(expectedTurns);
+        StandardWebSocketClient client = new StandardWebSocketClient();
+        String url = "ws://localhost:" + port + "/chat?dialogState=delta";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> runs = new ArrayList<>(kiosks);
+            for (int kiosk = 0; kiosk < kiosks; kiosk++) {
+                int offset = kiosk;
+                runs.add(executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        RecordedSession scenario = scenarios.get((offset + i) % scenarios.size());
+                        new SimulatedKiosk(report).run(client, url, scenario, turnTimeout, thinkTimeScale);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        }
+        report.finish();
+        report.write(Path.of("build/reports/load/summary.json"));
+        log.info("부하 테스트 결과 (키오스크 {}대 x {}회): {}", kiosks, iterations, report.summary());
+
+        assertThat(report.errorRate()).isLessThanOrEqualTo(maxErrorRate);
+        assertThat(report.percentileMillis(95)).isLessThanOrEqualTo(maxP95Millis);
+    }
+
+    private static int replayedTurns(RecordedSession scenario) {
+        return (int) scenario.turns().stream()
+            .filter(turn -> turn.kind() != RecordedSession.Kind.COMMAND)
+            .count();
+    }
+}
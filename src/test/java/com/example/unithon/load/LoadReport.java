@@ -0,0 +1,103 @@
+package com.example.unithon.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트 집계: 턴 지연 백분위수, 처리량, 오류율
+ */
+class LoadReport {
+
+    private final int expectedTurns;
+    private final long[] latenciesNanos;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger timeouts = new AtomicInteger();
+    private final AtomicInteger serverErrors = new AtomicInteger();
+    private final AtomicInteger connectionFailures = new AtomicInteger();
+    private final AtomicInteger ttsChunks = new AtomicInteger();
+    private final long startedAt = System.nanoTime();
+    private volatile long finishedAt;
+
+    LoadReport(int expectedTurns) {
+        this.expectedTurns = expectedTurns;
+        this.latenciesNanos = new long[expectedTurns];
+    }
+
+    void turnCompleted(long latencyNanos) {
+        int index = completed.getAndIncrement();
+        if (index < latenciesNanos.length) {
+            latenciesNanos[index] = latencyNanos;
+        }
+    }
+
+    void turnTimedOut() {
+        timeouts.incrementAndGet();
+    }
+
+    void serverError() {
+        serverErrors.incrementAndGet();
+    }
+
+    void connectionFailed(int lostTurns) {
+        connectionFailures.incrementAndGet();
+        timeouts.addAndGet(lostTurns);
+    }
+
+    void ttsChunkReceived() {
+        ttsChunks.incrementAndGet();
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    double percentileMillis(double percentile) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, Math.min(completed.get(), latenciesNanos.length));
+        if (sorted.length == 0) {
+            return 0;
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1_000_000.0;
+    }
+
+    double errorRate() {
+        int failed = timeouts.get() + serverErrors.get();
+        return expectedTurns == 0 ? 0 : (double) failed / expectedTurns;
+    }
+
+    double throughputPerSecond() {
+        double seconds = (finishedAt - startedAt) / 1_000_000_000.0;
+        return seconds <= 0 ? 0 : completed.get() / seconds;
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("expectedTurns", expectedTurns);
+        summary.put("completedTurns", completed.get());
+        summary.put("timeouts", timeouts.get());
+        summary.put("serverErrors", serverErrors.get());
+        summary.put("connectionFailures", connectionFailures.get());
+        summary.put("errorRate", errorRate());
+        summary.put("throughputTurnsPerSec", throughputPerSecond());
+        summary.put("latencyP50Ms", percentileMillis(50));
+        summary.put("latencyP95Ms", percentileMillis(95));
+        summary.put("latencyP99Ms", percentileMillis(99));
+        summary.put("latencyMaxMs", percentileMillis(100));
+        summary.put("ttsChunks", ttsChunks.get());
+        return summary;
+    }
+
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary());
+    }
+}
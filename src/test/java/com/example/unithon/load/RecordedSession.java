@@ -0,0 +1,96 @@
+package com.example.unithon.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SessionRecorder가 남긴 JSONL 한 개를 재생 가능한 턴 목록으로 바꾼다.
+ * audio.start ~ audio.end 구간은 뒤따르는 transcript.final 문장을 발화 내용으로 하는 음성 턴 하나가 된다.
+ */
+record RecordedSession(String name, List<Turn> turns) {
+
+    enum Kind { TEXT, COMMAND, VOICE }
+
+    /**
+     * @param thinkTimeMs 직전 턴 이후 사용자가 다음 프레임을 보내기까지 걸린 시간
+     */
+    record Turn(Kind kind, String text, int audioChunks, long thinkTimeMs) {
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static List<RecordedSession> loadAll(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".jsonl"))
+                .sorted()
+                .map(RecordedSession::load)
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static RecordedSession load(Path file) {
+        List<JsonNode> frames = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    frames.add(OBJECT_MAPPER.readTree(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<Turn> turns = new ArrayList<>();
+        long lastTurnAt = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            JsonNode frame = frames.get(i);
+            long at = frame.path("t").asLong();
+            switch (frame.path("type").asText()) {
+                case "client.text" -> {
+                    turns.add(new Turn(Kind.TEXT, frame.path("message").asText(), 0, at - lastTurnAt));
+                    lastTurnAt = at;
+                }
+                case "client.command" -> {
+                    turns.add(new Turn(Kind.COMMAND, frame.path("action").asText(), 0, at - lastTurnAt));
+                    lastTurnAt = at;
+                }
+                case "audio.start" -> {
+                    int chunks = 0;
+                    String transcript = null;
+                    int j = i + 1;
+                    for (; j < frames.size(); j++) {
+                        String type = frames.get(j).path("type").asText();
+                        if ("audio.chunk".equals(type)) {
+                            chunks++;
+                        } else if ("transcript.final".equals(type)) {
+                            transcript = frames.get(j).path("transcript").asText();
+                            break;
+                        } else if ("audio.start".equals(type)) {
+                            break;
+                        }
+                    }
+                    // 인식 결과가 없는 음성 턴은 응답이 없으므로 재생하지 않는다
+                    if (transcript != null && !transcript.isBlank()) {
+                        turns.add(new Turn(Kind.VOICE, transcript, Math.max(chunks, 1), at - lastTurnAt));
+                        lastTurnAt = at;
+                    }
+                }
+                default -> {
+                    // audio.chunk, audio.end, transcript.final은 audio.start에서 함께 처리
+                }
+            }
+        }
+        return new RecordedSession(file.getFileName().toString(), turns);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.unithon.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키오스크 한 대. /chat에 연결해 녹화된 턴을 순서대로 보내고 bot.reply까지의 지연을 잰다.
+ * 음성 턴은 녹화된 인식 결과를 UTF-8 바이트로 나눠 audio.chunk로 보내며, 테스트용 STT 스텁이 이를 그대로 문장으로 돌려준다.
+ */
+class SimulatedKiosk extends TextWebSocketHandler {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final LoadReport report;
+    private final BlockingQueue<JsonNode> replies = new LinkedBlockingQueue<>();
+
+    SimulatedKiosk(LoadReport report) {
+        this.report = report;
+    }
+
+    void run(StandardWebSocketClient client, String url, RecordedSession scenario,
+             Duration turnTimeout, double thinkTimeScale) throws InterruptedException {
+        WebSocketSession session;
+        try {
+            session = client.execute(this, url).get(turnTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            report.connectionFailed(scenario.turns().size());
+            return;
+        }
+
+        try {
+            awaitReply("connection", turnTimeout);
+            for (RecordedSession.Turn turn : scenario.turns()) {
+                long thinkTime = (long) (turn.thinkTimeMs() * thinkTimeScale);
+                if (thinkTime > 0) {
+                    Thread.sleep(thinkTime);
+                }
+                replies.clear();
+                long startedAt = System.nanoTime();
+                send(session, turn);
+                if (turn.kind() == RecordedSession.Kind.COMMAND) {
+                    continue;
+                }
+                if (awaitReply("bot.reply", turnTimeout)) {
+                    report.turnCompleted(System.nanoTime() - startedAt);
+                } else {
+                    report.turnTimedOut();
+                }
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            report.turnTimedOut();
+        } finally {
+            try {
+                session.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    private void send(WebSocketSession session, RecordedSession.Turn turn) throws Exception {
+        switch (turn.kind()) {
+            case TEXT -> sendJson(session, Map.of("type", "client.text", "message", turn.text()));
+            case COMMAND -> sendJson(session, Map.of("type", "client.command", "action", turn.text()));
+            case VOICE -> {
+                sendJson(session, Map.of("type", "audio.start"));
+                byte[] utterance = turn.text().getBytes(StandardCharsets.UTF_8);
+                int chunkSize = Math.max(1, (utterance.length + turn.audioChunks() - 1) / turn.audioChunks());
+                for (int from = 0; from < utterance.length; from += chunkSize) {
+                    byte[] chunk = Arrays.copyOfRange(utterance, from, Math.min(from + chunkSize, utterance.length));
+                    sendJson(session, Map.of("type", "audio.chunk",
+                        "audioData", Base64.getEncoder().encodeToString(chunk)));
+                }
+                sendJson(session, Map.of("type", "audio.end"));
+            }
+        }
+    }
+
+    private void sendJson(WebSocketSession session, Map<String, Object> message) throws Exception {
+        session.sendMessage(new TextMessage(OBJECT_MAPPER.writeValueAsString(new LinkedHashMap<>(message))));
+    }
+
+    private boolean awaitReply(String type, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            JsonNode reply = replies.poll(remaining, TimeUnit.NANOSECONDS);
+            if (reply == null) {
+                return false;
+            }
+            if (type.equals(reply.path("type").asText())) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        JsonNode node = OBJECT_MAPPER.readTree(message.getPayload());
+        switch (node.path("type").asText()) {
+            case "server.error" -> report.serverError();
+            case "tts.chunk" -> report.ttsChunkReceived();
+            case "connection", "bot.reply" -> replies.offer(node);
+            default -> {
+                // dialog.state, transcript.*, macro.trigger 등은 지연 측정 대상이 아님
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.unithon.load;
+
+import com.example.unithon.global.gcp.SttAudioFormat;
+import com.example.unithon.global.gcp.SttStreamingService;
+import com.example.unithon.global.gcp.TtsAudioFormat;
+import com.example.unithon.global.gcp.TtsJob;
+import com.example.unithon.global.gcp.TtsStreamingService;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 STT/TTS 스텁. Google API 없이 같은 콜백 순서를 흉내 낸다.
+ */
+@TestConfiguration
+class StubVoiceConfig {
+
+    @Bean
+    @Primary
+    SttStreamingService stubSttStreamingService() {
+        return new StubSttStreamingService();
+    }
+
+    @Bean
+    @Primary
+    TtsStreamingService stubTtsStreamingService() {
+        return new StubTtsStreamingService();
+    }
+
+    /**
+     * 받은 오디오 바이트를 UTF-8 문장으로 보고 audio.end 때 최종 결과로 돌려준다
+     */
+    static class StubSttStreamingService extends SttStreamingService {
+
+        private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+
+        StubSttStreamingService() {
+            super(null, false, 0, 0);
+        }
+
+        @Override
+        public void prewarm(String sessionId) {
+        }
+
+        @Override
+        public void startStreaming(String sessionId, SttAudioFormat format,
+                                   Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
+            streams.put(sessionId, new Stream(onPartialResult, onFinalResult));
+        }
+
+        @Override
+        public void sendAudioChunk(String sessionId, byte[] audioData) {
+            Stream stream = streams.get(sessionId);
+            if (stream != null) {
+                stream.audio.writeBytes(audioData);
+            }
+        }
+
+        @Override
+        public void endAudioStream(String sessionId) {
+            Stream stream = streams.remove(sessionId);
+            if (stream != null) {
+                String transcript = stream.audio.toString(StandardCharsets.UTF_8);
+                stream.onPartialResult.accept(transcript);
+                stream.onFinalResult.accept(transcript);
+            }
+        }
+
+        @Override
+        public void stopStreaming(String sessionId) {
+            streams.remove(sessionId);
+        }
+
+        private record Stream(Consumer<String> onPartialResult, Consumer<String> onFinalResult,
+                              ByteArrayOutputStream audio) {
+            Stream(Consumer<String> onPartialResult, Consumer<String> onFinalResult) {
+                this(onPartialResult, onFinalResult, new ByteArrayOutputStream());
+            }
+        }
+    }
+
+    /**
+     * 문장 길이에 비례하는 수의 1KB 청크를 지연 없이 보낸다
+     */
+    static class StubTtsStreamingService extends TtsStreamingService {
+
+        private static final byte[] CHUNK = new byte[1024];
+
+        StubTtsStreamingService() {
+            super(null);
+        }
+
+        @Override
+        public void synthesizeAndStream(String sessionId, String text, TtsAudioFormat format, TtsJob job,
+                                        Consumer<byte[]> onAudioChunk, Consumer<Void> onComplete) {
+            int chunks = 1 + text.length() / 10;
+            for (int i = 0; i < chunks; i++) {
+                if (job.isCancelled()) {
+                    return;
+                }
+                onAudioChunk.accept(CHUNK);
+            }
+            onComplete.accept(null);
+        }
+    }
+}